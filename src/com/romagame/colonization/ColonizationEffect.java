@@ -0,0 +1,61 @@
+package com.romagame.colonization;
+
+import com.romagame.map.Country;
+import com.romagame.map.Province;
+import com.romagame.map.Province.PopType;
+import com.romagame.map.ProvinceModifier;
+
+/**
+ * One precompiled outcome of a colonization event: a target and an amount.
+ * Built once with the event table, so applying it is a switch and a field
+ * update rather than a search through the event's description.
+ */
+public class ColonizationEffect {
+    public enum Target {
+        DEVELOPMENT, PEASANTS, TREASURY, STABILITY, MODIFIER
+    }
+
+    private final Target target;
+    private final ProvinceModifier modifier;
+    private final double amount;
+
+    private ColonizationEffect(Target target, ProvinceModifier modifier, double amount) {
+        this.target = target;
+        this.modifier = modifier;
+        this.amount = amount;
+    }
+
+    public static ColonizationEffect of(Target target, double amount) {
+        return new ColonizationEffect(target, null, amount);
+    }
+
+    public static ColonizationEffect modifier(ProvinceModifier modifier, double amount) {
+        return new ColonizationEffect(Target.MODIFIER, modifier, amount);
+    }
+
+    // Applies to the colonized province; country-wide effects go to its new owner
+    public void apply(Province province, Country owner) {
+        switch (target) {
+            case DEVELOPMENT -> province.setDevelopment(Math.max(1, province.getDevelopment() + amount));
+            case PEASANTS -> province.setPop(PopType.PEASANTS,
+                Math.max(100, province.getPop(PopType.PEASANTS) + (int) amount));
+            case TREASURY -> {
+                if (owner != null) owner.setTreasury(amount < 0 ? Math.max(0, owner.getTreasury() + amount) : owner.getTreasury() + amount);
+            }
+            case STABILITY -> {
+                if (owner != null) owner.setStability(owner.getStability() + amount);
+            }
+            case MODIFIER -> province.addModifier(modifier, amount);
+        }
+    }
+
+    public Target getTarget() { return target; }
+    public ProvinceModifier getModifier() { return modifier; }
+    public double getAmount() { return amount; }
+
+    @Override
+    public String toString() {
+        if (target == Target.MODIFIER) return modifier.format(amount);
+        return String.format("%s %+.0f", target.name().toLowerCase(), amount);
+    }
+}
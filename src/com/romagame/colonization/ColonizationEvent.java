@@ -1,16 +1,29 @@
 package com.romagame.colonization;
 
+import java.util.List;
+
 public class ColonizationEvent {
     private String type;
     private String description;
+    private List<ColonizationEffect> effects;
     private int day;
     
     public ColonizationEvent(String type, String description) {
+        this(type, description, List.of());
+    }
+    
+    public ColonizationEvent(String type, String description, List<ColonizationEffect> effects) {
         this.type = type;
         this.description = description;
+        this.effects = List.copyOf(effects);
         this.day = 0;
     }
     
+    // Fresh instance of a catalogue event; effects are immutable and shared
+    public ColonizationEvent copy() {
+        return new ColonizationEvent(type, description, effects);
+    }
+    
     public void update() {
         day++;
     }
@@ -18,10 +31,11 @@ public class ColonizationEvent {
     // Getters
     public String getType() { return type; }
     public String getDescription() { return description; }
+    public List<ColonizationEffect> getEffects() { return effects; }
     public int getDay() { return day; }
     
     @Override
     public String toString() {
         return String.format("[%s] %s", type.toUpperCase(), description);
     }
-} 
\ No newline at end of file
+} 
@@ -0,0 +1,152 @@
+package com.romagame.colonization;
+
+import com.romagame.map.Country;
+import com.romagame.map.Province;
+import com.romagame.map.ProvinceAdjacency;
+import com.romagame.map.ProvinceOwnershipListener;
+import com.romagame.map.SpatialGrid;
+import com.romagame.map.WorldMap;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.HashMap;
+import java.util.Set;
+import java.util.Comparator;
+
+/**
+ * Index of provinces that can still be colonized (uninhabited or unowned).
+ * The index is a spatial grid over province centroids, so range queries only
+ * touch nearby cells. Built from the world map on first use and kept current
+ * through ownership transfers.
+ */
+public class ColonizationIndex implements ProvinceOwnershipListener {
+    public static final Set<String> COLONIZABLE_OWNERS = Set.of("Uninhabited", "Uncivilized");
+    private static final double CELL_SIZE = 100.0;
+
+    private WorldMap worldMap;
+    private Map<String, Province> colonizable;
+    private SpatialGrid<Province> grid;
+    private int builtProvinceCount;
+
+    public ColonizationIndex(WorldMap worldMap) {
+        this.worldMap = worldMap;
+        this.colonizable = new HashMap<>();
+        this.grid = new SpatialGrid<>(CELL_SIZE);
+        this.builtProvinceCount = -1;
+        worldMap.addOwnershipListener(this);
+    }
+
+    public static boolean isColonizable(Province province) {
+        return COLONIZABLE_OWNERS.contains(province.getOwner());
+    }
+
+    public synchronized boolean contains(String provinceId) {
+        ensureBuilt();
+        return colonizable.containsKey(provinceId);
+    }
+
+    public synchronized int size() {
+        ensureBuilt();
+        return colonizable.size();
+    }
+
+    public synchronized List<String> getAll() {
+        ensureBuilt();
+        return new ArrayList<>(colonizable.keySet());
+    }
+
+    // Colonizable provinces within range of a map point, nearest first
+    public synchronized List<Province> getWithinRange(double x, double y, double range) {
+        ensureBuilt();
+        List<Province> result = grid.query(x, y, range);
+        result.sort(Comparator.comparingDouble(p -> distanceSq(p, x, y)));
+        return result;
+    }
+
+    // Colonizable provinces within range of the country's frontier, nearest first
+    public synchronized List<Province> getWithinRangeOf(Country country, double range) {
+        ensureBuilt();
+        Map<Province, Double> nearest = new HashMap<>();
+        for (Province origin : frontierOf(country)) {
+            double[] position = adjacency().getPosition(origin);
+            for (Province candidate : grid.query(position[0], position[1], range)) {
+                nearest.merge(candidate, distanceSq(candidate, position[0], position[1]), Math::min);
+            }
+        }
+        List<Province> result = new ArrayList<>(nearest.keySet());
+        result.sort(Comparator.comparingDouble(nearest::get));
+        return result;
+    }
+
+    // Whether the province lies within range of any province the country owns
+    public synchronized boolean isWithinRange(Country country, Province target, double range) {
+        double[] position = adjacency().getPosition(target);
+        double rangeSq = range * range;
+        for (Province origin : frontierOf(country)) {
+            if (distanceSq(origin, position[0], position[1]) <= rangeSq) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public synchronized void provincesTransferred(List<Province> provinces) {
+        if (builtProvinceCount < 0) return;
+        for (Province province : provinces) {
+            if (isColonizable(province)) {
+                add(province);
+            } else {
+                remove(province);
+            }
+        }
+    }
+
+    // Provinces bordering land the country doesn't own; the launch points for colonists
+    private List<Province> frontierOf(Country country) {
+        List<Province> frontier = new ArrayList<>();
+        for (Province province : country.getProvinces()) {
+            for (Province neighbor : adjacency().getNeighbors(province)) {
+                if (!neighbor.getOwner().equals(country.getName())) {
+                    frontier.add(province);
+                    break;
+                }
+            }
+        }
+        // An enclosed or isolated country still colonizes from its own provinces
+        return frontier.isEmpty() ? country.getProvinces() : frontier;
+    }
+
+    private void ensureBuilt() {
+        if (builtProvinceCount == worldMap.getProvinceCount()) return;
+        colonizable.clear();
+        grid.clear();
+        for (Province province : worldMap.getAllProvinces()) {
+            if (isColonizable(province)) {
+                add(province);
+            }
+        }
+        builtProvinceCount = worldMap.getProvinceCount();
+    }
+
+    private void add(Province province) {
+        if (colonizable.putIfAbsent(province.getId(), province) != null) return;
+        double[] position = adjacency().getPosition(province);
+        grid.insert(province, position[0], position[1]);
+    }
+
+    private void remove(Province province) {
+        if (colonizable.remove(province.getId()) == null) return;
+        double[] position = adjacency().getPosition(province);
+        grid.remove(province, position[0], position[1]);
+    }
+
+    private double distanceSq(Province province, double x, double y) {
+        double[] position = adjacency().getPosition(province);
+        double dx = position[0] - x;
+        double dy = position[1] - y;
+        return dx * dx + dy * dy;
+    }
+
+    private ProvinceAdjacency adjacency() {
+        return worldMap.getAdjacency();
+    }
+}
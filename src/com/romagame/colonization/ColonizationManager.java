@@ -4,6 +4,8 @@ import com.romagame.map.Province;
 import com.romagame.map.WorldMap;
 import com.romagame.map.Country;
 import com.romagame.map.Province.PopType;
+import com.romagame.map.ProvinceModifier;
+import com.romagame.colonization.ColonizationEffect.Target;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Random;
@@ -11,13 +13,18 @@ import java.util.Map;
 import java.util.HashMap;
 
 public class ColonizationManager {
+    // Furthest a colony can be founded from the colonizer's frontier, in map units
+    public static final double MAX_COLONIZATION_RANGE = 300.0;
+
     private WorldMap worldMap;
+    private ColonizationIndex index;
     private List<ColonizationMission> activeMissions;
-    private Map<String, List<String>> colonizationEvents;
+    private Map<String, List<ColonizationEvent>> colonizationEvents;
     private Random random;
     
     public ColonizationManager(WorldMap worldMap) {
         this.worldMap = worldMap;
+        this.index = new ColonizationIndex(worldMap);
         this.activeMissions = new ArrayList<>();
         this.colonizationEvents = new HashMap<>();
         this.random = new Random();
@@ -26,39 +33,43 @@ public class ColonizationManager {
     
     private void initializeColonizationEvents() {
         // Positive events
-        List<String> positiveEvents = new ArrayList<>();
-        positiveEvents.add("Fertile land discovered - +2 development");
-        positiveEvents.add("Native cooperation - +1 population");
-        positiveEvents.add("Rich resources found - +3 treasury");
-        positiveEvents.add("Strategic location - +1 trade power");
-        positiveEvents.add("Natural harbor - +2 naval capacity");
-        positiveEvents.add("Mountain passes - +1 military defense");
-        positiveEvents.add("River system - +2 trade routes");
-        positiveEvents.add("Mineral deposits - +1 production");
+        List<ColonizationEvent> positiveEvents = new ArrayList<>();
+        positiveEvents.add(event("positive", "Fertile land discovered - +2 development", ColonizationEffect.of(Target.DEVELOPMENT, 2)));
+        positiveEvents.add(event("positive", "Native cooperation - +1 population", ColonizationEffect.of(Target.PEASANTS, 1000)));
+        positiveEvents.add(event("positive", "Rich resources found - +3 treasury", ColonizationEffect.of(Target.TREASURY, 3)));
+        positiveEvents.add(event("positive", "Strategic location - +1 trade power", ColonizationEffect.modifier(ProvinceModifier.TRADE_POWER, 1)));
+        positiveEvents.add(event("positive", "Natural harbor - +2 naval capacity", ColonizationEffect.modifier(ProvinceModifier.NAVAL_CAPACITY, 2)));
+        positiveEvents.add(event("positive", "Mountain passes - +1 military defense", ColonizationEffect.modifier(ProvinceModifier.MILITARY_DEFENSE, 1)));
+        positiveEvents.add(event("positive", "River system - +2 trade routes", ColonizationEffect.modifier(ProvinceModifier.TRADE_ROUTES, 2)));
+        positiveEvents.add(event("positive", "Mineral deposits - +1 production", ColonizationEffect.modifier(ProvinceModifier.PRODUCTION, 1)));
         colonizationEvents.put("positive", positiveEvents);
         
         // Negative events
-        List<String> negativeEvents = new ArrayList<>();
-        negativeEvents.add("Disease outbreak - -1 population");
-        negativeEvents.add("Hostile natives - -1 stability");
-        negativeEvents.add("Poor soil - -1 development");
-        negativeEvents.add("Dangerous wildlife - -1 morale");
-        negativeEvents.add("Harsh climate - -2 population");
-        negativeEvents.add("Isolation - -1 trade power");
-        negativeEvents.add("Resource scarcity - -1 treasury");
-        negativeEvents.add("Geographic barriers - -1 development");
+        List<ColonizationEvent> negativeEvents = new ArrayList<>();
+        negativeEvents.add(event("negative", "Disease outbreak - -1 population", ColonizationEffect.of(Target.PEASANTS, -1000)));
+        negativeEvents.add(event("negative", "Hostile natives - -1 stability", ColonizationEffect.of(Target.STABILITY, -1)));
+        negativeEvents.add(event("negative", "Poor soil - -1 development", ColonizationEffect.of(Target.DEVELOPMENT, -1)));
+        negativeEvents.add(event("negative", "Dangerous wildlife - -1 morale", ColonizationEffect.modifier(ProvinceModifier.MORALE, -1)));
+        negativeEvents.add(event("negative", "Harsh climate - -2 population", ColonizationEffect.of(Target.PEASANTS, -2000)));
+        negativeEvents.add(event("negative", "Isolation - -1 trade power", ColonizationEffect.modifier(ProvinceModifier.TRADE_POWER, -1)));
+        negativeEvents.add(event("negative", "Resource scarcity - -1 treasury", ColonizationEffect.of(Target.TREASURY, -1)));
+        negativeEvents.add(event("negative", "Geographic barriers - -1 development", ColonizationEffect.of(Target.DEVELOPMENT, -1)));
         colonizationEvents.put("negative", negativeEvents);
         
         // Neutral events
-        List<String> neutralEvents = new ArrayList<>();
-        neutralEvents.add("Uneventful journey - no effect");
-        neutralEvents.add("Standard conditions - normal colonization");
-        neutralEvents.add("Mixed results - minor effects");
-        neutralEvents.add("Learning experience - +1 experience");
-        neutralEvents.add("Cultural exchange - +1 relations");
+        List<ColonizationEvent> neutralEvents = new ArrayList<>();
+        neutralEvents.add(event("neutral", "Uneventful journey - no effect"));
+        neutralEvents.add(event("neutral", "Standard conditions - normal colonization"));
+        neutralEvents.add(event("neutral", "Mixed results - minor effects"));
+        neutralEvents.add(event("neutral", "Learning experience - +1 experience", ColonizationEffect.modifier(ProvinceModifier.COLONIZATION_EXPERIENCE, 1)));
+        neutralEvents.add(event("neutral", "Cultural exchange - +1 relations", ColonizationEffect.modifier(ProvinceModifier.CULTURAL_EXCHANGE, 1)));
         colonizationEvents.put("neutral", neutralEvents);
     }
     
+    private static ColonizationEvent event(String type, String description, ColonizationEffect... effects) {
+        return new ColonizationEvent(type, description, List.of(effects));
+    }
+    
     public boolean startColonization(String countryName, String provinceId, int colonists) {
         Province province = worldMap.getProvince(provinceId);
         Country country = worldMap.getCountry(countryName);
@@ -70,18 +81,23 @@ public class ColonizationManager {
             return false;
         }
         
-        if (!province.getOwner().equals("Uninhabited")) {
+        if (!ColonizationIndex.isColonizable(province)) {
             System.out.println("Colonization failed: Province already owned by " + province.getOwner());
             return false; // Province already owned
         }
         
+        if (!country.getProvinces().isEmpty() && !index.isWithinRange(country, province, MAX_COLONIZATION_RANGE)) {
+            System.out.println("Colonization failed: " + provinceId + " is out of range of " + countryName);
+            return false; // Too far from the colonizer's territory
+        }
+        
         if (colonists < 100 || colonists > 1000) {
             System.out.println("Colonization failed: Invalid colonist count " + colonists);
             return false; // Invalid colonist count
         }
         
         // Create colonization mission
-        ColonizationMission mission = new ColonizationMission(countryName, provinceId, colonists);
+        ColonizationMission mission = new ColonizationMission(countryName, provinceId, colonists, this::createEvent);
         activeMissions.add(mission);
         
         System.out.println("Colonization started successfully: " + countryName + " -> " + provinceId);
@@ -110,8 +126,7 @@ public class ColonizationManager {
         }
         
         // Transfer ownership
-        province.setOwner(mission.getCountryName());
-        country.addProvince(province);
+        worldMap.transferProvince(province, country);
         
         // Apply colonization effects based on events
         applyColonizationEffects(province, mission);
@@ -123,117 +138,59 @@ public class ColonizationManager {
     }
     
     private void applyColonizationEffects(Province province, ColonizationMission mission) {
-        // Generate random events during colonization
+        // Effects were compiled with the event table; the province now belongs to the colonizer
+        Country owner = province.getOwnerCountry();
         for (ColonizationEvent event : mission.getEvents()) {
-            switch (event.getType()) {
-                case "positive" -> applyPositiveEvent(province, event);
-                case "negative" -> applyNegativeEvent(province, event);
-                case "neutral" -> applyNeutralEvent(province, event);
-            }
-        }
-    }
-    
-    private void applyPositiveEvent(Province province, ColonizationEvent event) {
-        String description = event.getDescription();
-        
-        if (description.contains("development")) {
-            province.setDevelopment(province.getDevelopment() + 2);
-        }
-        if (description.contains("population")) {
-            province.setPop(PopType.PEASANTS, province.getPop(PopType.PEASANTS) + 1000);
-        }
-        if (description.contains("treasury")) {
-            Country country = worldMap.getCountry(province.getOwner());
-            if (country != null) {
-                country.setTreasury(country.getTreasury() + 3);
-            }
-        }
-        if (description.contains("trade power")) {
-            province.addModifier("Trade Power +1");
-        }
-        if (description.contains("naval capacity")) {
-            province.addModifier("Naval Capacity +2");
-        }
-        if (description.contains("military defense")) {
-            province.addModifier("Military Defense +1");
-        }
-        if (description.contains("trade routes")) {
-            province.addModifier("Trade Routes +2");
-        }
-        if (description.contains("production")) {
-            province.addModifier("Production +1");
-        }
-    }
-    
-    private void applyNegativeEvent(Province province, ColonizationEvent event) {
-        String description = event.getDescription();
-        
-        if (description.contains("population")) {
-            province.setPop(PopType.PEASANTS, Math.max(100, province.getPop(PopType.PEASANTS) - 1000));
-        }
-        if (description.contains("stability")) {
-            Country country = worldMap.getCountry(province.getOwner());
-            if (country != null) {
-                country.setStability(country.getStability() - 1);
-            }
-        }
-        if (description.contains("development")) {
-            province.setDevelopment(Math.max(1, province.getDevelopment() - 1));
-        }
-        if (description.contains("morale")) {
-            province.addModifier("Low Morale -1");
-        }
-        if (description.contains("trade power")) {
-            province.addModifier("Trade Power -1");
-        }
-        if (description.contains("treasury")) {
-            Country country = worldMap.getCountry(province.getOwner());
-            if (country != null) {
-                country.setTreasury(Math.max(0, country.getTreasury() - 1));
+            for (ColonizationEffect effect : event.getEffects()) {
+                effect.apply(province, owner);
             }
         }
     }
     
-    private void applyNeutralEvent(Province province, ColonizationEvent event) {
-        String description = event.getDescription();
-        
-        if (description.contains("experience")) {
-            province.addModifier("Colonization Experience +1");
-        }
-        if (description.contains("relations")) {
-            province.addModifier("Cultural Exchange +1");
-        }
-    }
-    
     public List<ColonizationMission> getActiveMissions() {
         return new ArrayList<>(activeMissions);
     }
     
     public List<String> getColonizableProvinces() {
+        return index.getAll();
+    }
+    
+    // Colonizable provinces the country can reach, nearest first
+    public List<String> getColonizableProvinces(String countryName) {
+        Country country = worldMap.getCountry(countryName);
+        if (country == null || country.getProvinces().isEmpty()) {
+            return getColonizableProvinces();
+        }
         List<String> colonizable = new ArrayList<>();
-        for (Province province : worldMap.getAllProvinces()) {
-            if (province.getOwner().equals("Uninhabited")) {
-                colonizable.add(province.getId());
-            }
+        for (Province province : index.getWithinRangeOf(country, MAX_COLONIZATION_RANGE)) {
+            colonizable.add(province.getId());
         }
         return colonizable;
     }
     
+    public ColonizationIndex getColonizationIndex() {
+        return index;
+    }
+    
     public String generateRandomEvent() {
         double chance = random.nextDouble();
         
         if (chance < 0.4) {
             // 40% chance for positive event
-            List<String> events = colonizationEvents.get("positive");
-            return events.get(random.nextInt(events.size()));
+            return createEvent("positive").getDescription();
         } else if (chance < 0.7) {
             // 30% chance for negative event
-            List<String> events = colonizationEvents.get("negative");
-            return events.get(random.nextInt(events.size()));
+            return createEvent("negative").getDescription();
         } else {
             // 30% chance for neutral event
-            List<String> events = colonizationEvents.get("neutral");
-            return events.get(random.nextInt(events.size()));
+            return createEvent("neutral").getDescription();
         }
     }
-} 
\ No newline at end of file
+    
+    // Random event of the given type from the table, or null for an unknown type
+    public ColonizationEvent createEvent(String type) {
+        List<ColonizationEvent> events = colonizationEvents.get(type);
+        if (events == null || events.isEmpty()) return null;
+        return events.get(random.nextInt(events.size())).copy();
+    }
+}
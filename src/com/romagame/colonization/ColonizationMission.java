@@ -3,6 +3,7 @@ package com.romagame.colonization;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Random;
+import java.util.function.Function;
 
 public class ColonizationMission {
     private String countryName;
@@ -13,8 +14,15 @@ public class ColonizationMission {
     private boolean completed;
     private List<ColonizationEvent> events;
     private Random random;
+    private Function<String, ColonizationEvent> eventSource;
     
     public ColonizationMission(String countryName, String provinceId, int colonists) {
+        this(countryName, provinceId, colonists, null);
+    }
+    
+    // eventSource draws a concrete event of the given type; without one, events are flavour only
+    public ColonizationMission(String countryName, String provinceId, int colonists,
+                               Function<String, ColonizationEvent> eventSource) {
         this.countryName = countryName;
         this.provinceId = provinceId;
         this.colonists = colonists;
@@ -23,6 +31,7 @@ public class ColonizationMission {
         this.completed = false;
         this.events = new ArrayList<>();
         this.random = new Random();
+        this.eventSource = eventSource;
         
         // Generate initial events
         generateEvents();
@@ -44,7 +53,7 @@ public class ColonizationMission {
                 type = "neutral";
             }
             
-            events.add(new ColonizationEvent(type, generateEventDescription(type)));
+            events.add(createEvent(type, generateEventDescription(type)));
         }
     }
     
@@ -85,7 +94,15 @@ public class ColonizationMission {
             type = "neutral";
         }
         
-        events.add(new ColonizationEvent(type, "Additional event: " + generateEventDescription(type)));
+        events.add(createEvent(type, "Additional event: " + generateEventDescription(type)));
+    }
+    
+    private ColonizationEvent createEvent(String type, String fallbackDescription) {
+        if (eventSource != null) {
+            ColonizationEvent event = eventSource.apply(type);
+            if (event != null) return event;
+        }
+        return new ColonizationEvent(type, fallbackDescription);
     }
     
     // Getters
@@ -0,0 +1,140 @@
+package com.romagame.core;
+
+import java.util.*;
+
+/**
+ * Shared construction timeline for development projects, buildings and
+ * monuments. Every project gets a monotonically increasing id and joins the
+ * build queue of its site (a province, or a monument). Only the head of each
+ * queue is under construction; its completion day is worked out when it
+ * starts and goes into a queue ordered by day, so a tick only touches the
+ * projects that finish that day. Progress for display comes from the start
+ * and completion days rather than from per-tick counters.
+ */
+public class ConstructionScheduler {
+    private final GameDate date;
+    private long nextId;
+    private PriorityQueue<Job> underConstruction;
+    private Map<Long, Job> jobs;
+    private Map<String, Deque<Job>> siteQueues;
+
+    public ConstructionScheduler(GameDate date) {
+        this.date = date;
+        this.nextId = 1;
+        this.underConstruction = new PriorityQueue<>(
+            Comparator.comparingLong((Job job) -> job.completionDay).thenComparingLong(job -> job.id));
+        this.jobs = new HashMap<>();
+        this.siteQueues = new HashMap<>();
+    }
+
+    // Reserves an id; callers build their project object with it, then schedule it
+    public synchronized long nextId() {
+        return nextId++;
+    }
+
+    // Queues a project at a site; it starts as soon as the projects ahead of it are done
+    public synchronized void schedule(long id, String site, int durationDays, Runnable onComplete) {
+        Job job = new Job(id, site, Math.max(1, durationDays), onComplete);
+        jobs.put(id, job);
+        Deque<Job> queue = siteQueues.computeIfAbsent(site, k -> new ArrayDeque<>());
+        queue.add(job);
+        if (queue.size() == 1) {
+            start(job, date.getDayNumber());
+        }
+    }
+
+    // Called daily; completes the projects due and starts the next one at each of their sites
+    public void update() {
+        List<Job> completed = new ArrayList<>();
+        synchronized (this) {
+            long today = date.getDayNumber();
+            while (!underConstruction.isEmpty() && underConstruction.peek().completionDay <= today) {
+                Job job = underConstruction.poll();
+                jobs.remove(job.id);
+                Deque<Job> queue = siteQueues.get(job.site);
+                queue.poll();
+                if (queue.isEmpty()) {
+                    siteQueues.remove(job.site);
+                } else {
+                    start(queue.peek(), job.completionDay);
+                }
+                completed.add(job);
+            }
+        }
+        // Completion handlers run outside the lock so they can schedule follow-up projects
+        for (Job job : completed) {
+            job.onComplete.run();
+        }
+    }
+
+    // Brings an active project's completion forward by the given number of days
+    public synchronized boolean rush(long id, int days) {
+        Job job = jobs.get(id);
+        if (job == null || job.startDay < 0) return false;
+        underConstruction.remove(job);
+        job.completionDay = Math.max(date.getDayNumber(), job.completionDay - days);
+        underConstruction.add(job);
+        return true;
+    }
+
+    public synchronized boolean contains(long id) {
+        return jobs.containsKey(id);
+    }
+
+    public synchronized boolean isUnderConstruction(long id) {
+        Job job = jobs.get(id);
+        return job != null && job.startDay >= 0;
+    }
+
+    // Fraction complete, from the start and completion days; 0 while still waiting in the queue
+    public synchronized double getProgress(long id) {
+        Job job = jobs.get(id);
+        if (job == null || job.startDay < 0) return 0.0;
+        long total = job.completionDay - job.startDay;
+        if (total <= 0) return 1.0;
+        return Math.max(0.0, Math.min(1.0, (double) (date.getDayNumber() - job.startDay) / total));
+    }
+
+    // Day number the project finishes on, or -1 if it hasn't started yet
+    public synchronized long getCompletionDay(long id) {
+        Job job = jobs.get(id);
+        return job != null && job.startDay >= 0 ? job.completionDay : -1;
+    }
+
+    // Ids of the projects at a site, the one under construction first
+    public synchronized List<Long> getQueue(String site) {
+        List<Long> ids = new ArrayList<>();
+        for (Job job : siteQueues.getOrDefault(site, new ArrayDeque<>())) {
+            ids.add(job.id);
+        }
+        return ids;
+    }
+
+    public synchronized int size() {
+        return jobs.size();
+    }
+
+    private void start(Job job, long day) {
+        job.startDay = day;
+        job.completionDay = day + job.durationDays;
+        underConstruction.add(job);
+    }
+
+    private static class Job {
+        private final long id;
+        private final String site;
+        private final int durationDays;
+        private final Runnable onComplete;
+        private long startDay;
+        private long completionDay;
+
+        Job(long id, String site, int durationDays, Runnable onComplete) {
+            this.id = id;
+            this.site = site;
+            this.durationDays = durationDays;
+            this.onComplete = onComplete;
+            this.startDay = -1;
+            this.completionDay = Long.MAX_VALUE;
+        }
+    }
+}
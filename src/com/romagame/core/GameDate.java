@@ -5,16 +5,29 @@ public class GameDate {
     private int month;
     private int day;
     private int hour;
+    private long dayNumber; // days since 1-01-01, used for cadences
     
     public GameDate(int year, int month, int day) {
         this.year = year;
         this.month = month;
         this.day = day;
         this.hour = 0;
+        this.dayNumber = calculateDayNumber();
+    }
+    
+    private long calculateDayNumber() {
+        long days = 365L * (year - 1) + (year - 1) / 4 - (year - 1) / 100 + (year - 1) / 400;
+        int savedMonth = month;
+        for (month = 1; month < savedMonth; month++) {
+            days += getDaysInMonth();
+        }
+        month = savedMonth;
+        return days + day - 1;
     }
     
     public void advance() {
         // Advance by one day for grand strategy game pacing
+        dayNumber++;
         day++;
         if (day > getDaysInMonth()) {
             day = 1;
@@ -38,6 +51,19 @@ public class GameDate {
         return (year % 4 == 0 && year % 100 != 0) || (year % 400 == 0);
     }
     
+    // Whole years from an earlier date to this one, e.g. a person's age given their birth date
+    public int getYearsSince(GameDate earlier) {
+        int years = year - earlier.year;
+        if (month < earlier.month || (month == earlier.month && day < earlier.day)) {
+            years--;
+        }
+        return years;
+    }
+    
+    public GameDate copy() {
+        return new GameDate(year, month, day);
+    }
+    
     public String getFormattedDate() {
         return String.format("%d-%02d-%02d", year, month, day);
     }
@@ -46,11 +72,13 @@ public class GameDate {
     public int getMonth() { return month; }
     public int getDay() { return day; }
     public int getHour() { return hour; }
+    public long getDayNumber() { return dayNumber; }
     
     public void setDate(int year, int month, int day) {
         this.year = year;
         this.month = month;
         this.day = day;
         this.hour = 0;
+        this.dayNumber = calculateDayNumber();
     }
 } 
\ No newline at end of file
@@ -10,6 +10,8 @@ import com.romagame.technology.TechnologyManager;
 import com.romagame.colonization.ColonizationManager;
 import com.romagame.population.PopulationManager;
 import com.romagame.events.EventManager;
+import com.romagame.government.DynastyManager;
+import com.romagame.monuments.MonumentManager;
 import java.util.List;
 import java.util.function.Consumer;
 import com.romagame.ui.UIUpdateManager;
@@ -24,7 +26,11 @@ public class GameEngine {
     private ColonizationManager colonizationManager;
     private PopulationManager populationManager;
     private EventManager eventManager;
+    private DynastyManager dynastyManager;
+    private MonumentManager monumentManager;
+    private ConstructionScheduler constructionScheduler;
     private HistoricalNationSpawner historicalNationSpawner;
+    private GameScheduler scheduler;
     
     private GameDate currentDate;
     private GameSpeed gameSpeed;
@@ -39,6 +45,7 @@ public class GameEngine {
     
     private void initializeGame() {
         currentDate = new GameDate(117, 1, 1); // Start in 117 AD
+        Country.setGameYear(currentDate.getYear());
         gameSpeed = GameSpeed.NORMAL;
         isRunning = false;
         
@@ -50,6 +57,9 @@ public class GameEngine {
         colonizationManager = new ColonizationManager(worldMap);
         populationManager = new PopulationManager();
         eventManager = new EventManager();
+        dynastyManager = new DynastyManager();
+        monumentManager = new MonumentManager();
+        constructionScheduler = new ConstructionScheduler(currentDate);
         historicalNationSpawner = new HistoricalNationSpawner(worldMap);
         
         // Initialize country manager without DiplomacyManager
@@ -60,9 +70,70 @@ public class GameEngine {
         
         // Set DiplomacyManager in CountryManager
         countryManager.setDiplomacyManager(diplomacyManager);
+        historicalNationSpawner.setCountryManager(countryManager);
+        historicalNationSpawner.setColonizationIndex(colonizationManager.getColonizationIndex());
+        militaryManager.setDiplomacyManager(diplomacyManager);
+        militaryManager.setWorldMap(worldMap);
+        economyManager.setWorldMap(worldMap);
+        populationManager.setWorldMap(worldMap);
+        populationManager.setConstructionScheduler(constructionScheduler);
+        monumentManager.setConstructionScheduler(constructionScheduler);
+        monumentManager.setWorldMap(worldMap);
+        diplomacyManager.setWorldMap(worldMap);
+        technologyManager.setCountryLookup(countryManager::getCountry);
+        technologyManager.getDiffusion().setWorldMap(worldMap);
+        technologyManager.getDiffusion().setDiplomacyManager(diplomacyManager);
+        countryManager.getAIManager().setTechnologyManager(technologyManager);
+        countryManager.getAIManager().setColonizationManager(colonizationManager);
+        countryManager.getAIManager().setWarForecaster(militaryManager.getWarForecaster());
+        countryManager.getAIManager().setDynastyManager(dynastyManager, currentDate);
         
         // Setup initial game state
         setupInitialGameState();
+        dynastyManager.registerCountries(countryManager.getAllCountries(), currentDate);
+        
+        scheduler = new GameScheduler();
+        registerScheduledSystems();
+    }
+    
+    private void registerScheduledSystems() {
+        // Daily systems, in update order
+        scheduler.register("Countries", GameScheduler.Cadence.DAILY, countryManager::update);
+        scheduler.register("Wars", GameScheduler.Cadence.DAILY, diplomacyManager::update);
+        scheduler.register("Military", GameScheduler.Cadence.DAILY, militaryManager::update);
+        scheduler.register("Colonization", GameScheduler.Cadence.DAILY, colonizationManager::update);
+        scheduler.register("Construction", GameScheduler.Cadence.DAILY, constructionScheduler::update);
+        scheduler.register("Modifier expiry", GameScheduler.Cadence.DAILY, this::expireModifiers);
+        scheduler.register("Dynasties", GameScheduler.Cadence.DAILY, () -> dynastyManager.update(currentDate));
+        scheduler.register("Events", GameScheduler.Cadence.DAILY,
+            () -> eventManager.update(currentDate, countryManager.getAllCountries(), countryManager.getPlayerCountry()));
+        scheduler.register("Flavor events", GameScheduler.Cadence.DAILY,
+            () -> eventManager.updateFlavorEvents(countryManager.getAllCountries(), countryManager.getPlayerCountry()));
+        
+        // Monthly systems on different days so they don't pile up on the 1st
+        scheduler.register("Prices", GameScheduler.Cadence.MONTHLY, 0, economyManager::updatePrices);
+        scheduler.register("Trade", GameScheduler.Cadence.MONTHLY, 1, economyManager::updateTrade);
+        scheduler.register("Diplomacy", GameScheduler.Cadence.MONTHLY, 2, diplomacyManager::updateMonthly);
+        scheduler.register("Tech diffusion", GameScheduler.Cadence.MONTHLY, 3,
+            () -> technologyManager.updateDiffusion(countryManager.getAllCountries()));
+        scheduler.register("Monarch points", GameScheduler.Cadence.MONTHLY, 4,
+            () -> dynastyManager.updateMonthly(currentDate, countryManager.getAllCountries()));
+        scheduler.register("Population dynamics", GameScheduler.Cadence.MONTHLY, 5, populationManager::updateMonthly);
+        scheduler.register("Historical nations", GameScheduler.Cadence.YEARLY, this::updateHistoricalNations);
+        scheduler.register("Calendar", GameScheduler.Cadence.YEARLY, () -> Country.setGameYear(currentDate.getYear()));
+        
+        // Per-country monthly work spread over the month
+        scheduler.registerBucketed("Research", technologyManager::updateBucket);
+        scheduler.registerBucketed("Relations", diplomacyManager::updateRelations);
+        
+        scheduler.register("AI", GameScheduler.Cadence.DAILY, countryManager::processAI);
+    }
+    
+    private void expireModifiers() {
+        long today = currentDate.getDayNumber();
+        for (Country country : countryManager.getAllCountries()) {
+            country.expireModifiers(today);
+        }
     }
     
     private void setupInitialGameState() {
@@ -155,8 +226,12 @@ public class GameEngine {
     public ColonizationManager getColonizationManager() { return colonizationManager; }
     public PopulationManager getPopulationManager() { return populationManager; }
     public EventManager getEventManager() { return eventManager; }
+    public DynastyManager getDynastyManager() { return dynastyManager; }
+    public MonumentManager getMonumentManager() { return monumentManager; }
+    public ConstructionScheduler getConstructionScheduler() { return constructionScheduler; }
     public HistoricalNationSpawner getHistoricalNationSpawner() { return historicalNationSpawner; }
     public GameDate getCurrentDate() { return currentDate; }
+    public GameScheduler getScheduler() { return scheduler; }
     public GameSpeed getGameSpeed() { return gameSpeed; }
     public boolean isRunning() { return isRunning; }
     public Consumer<GameEngine> getUIUpdateCallback() { return uiUpdateCallback; }
@@ -0,0 +1,105 @@
+package com.romagame.core;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.util.function.IntConsumer;
+
+/**
+ * Runs game systems at their natural cadence instead of every day.
+ * Plain tasks run on a fixed phase of their period, so monthly systems with
+ * different phases land on different days. Bucketed tasks are called every
+ * day with one of BUCKETS buckets, and each system only processes the
+ * countries (or other keys) that fall into that bucket, so per-country
+ * monthly work is spread evenly over the month.
+ */
+public class GameScheduler {
+    public enum Cadence {
+        DAILY, WEEKLY, MONTHLY, YEARLY
+    }
+    
+    public static final int BUCKETS = 30;
+    
+    private List<ScheduledTask> tasks;
+    private List<BucketedTask> bucketedTasks;
+    
+    public GameScheduler() {
+        tasks = new ArrayList<>();
+        bucketedTasks = new ArrayList<>();
+    }
+    
+    public void register(String name, Cadence cadence, Runnable task) {
+        register(name, cadence, 0, task);
+    }
+    
+    // Phase is the day offset within the period: weekday for WEEKLY, day of month - 1 for MONTHLY/YEARLY
+    public void register(String name, Cadence cadence, int phase, Runnable task) {
+        tasks.add(new ScheduledTask(name, cadence, phase, task));
+    }
+    
+    // Task is called daily with the bucket to process; every bucket comes round once per BUCKETS days
+    public void registerBucketed(String name, IntConsumer task) {
+        bucketedTasks.add(new BucketedTask(name, task));
+    }
+    
+    // Bucket a country (or any other key) belongs to
+    public static int bucketOf(String key) {
+        return Math.floorMod(key.hashCode(), BUCKETS);
+    }
+    
+    public void tick(GameDate date) {
+        long dayNumber = date.getDayNumber();
+        for (ScheduledTask task : tasks) {
+            if (isDue(task, date, dayNumber)) {
+                task.task.run();
+            }
+        }
+        int bucket = (int) Math.floorMod(dayNumber, (long) BUCKETS);
+        for (BucketedTask task : bucketedTasks) {
+            task.task.accept(bucket);
+        }
+    }
+    
+    private boolean isDue(ScheduledTask task, GameDate date, long dayNumber) {
+        return switch (task.cadence) {
+            case DAILY -> true;
+            case WEEKLY -> Math.floorMod(dayNumber, 7L) == task.phase;
+            case MONTHLY -> date.getDay() == 1 + task.phase;
+            case YEARLY -> date.getMonth() == 1 && date.getDay() == 1 + task.phase;
+        };
+    }
+    
+    public List<String> getTaskNames() {
+        List<String> names = new ArrayList<>();
+        for (ScheduledTask task : tasks) {
+            names.add(task.name + " (" + task.cadence + ")");
+        }
+        for (BucketedTask task : bucketedTasks) {
+            names.add(task.name + " (MONTHLY, bucketed)");
+        }
+        return names;
+    }
+    
+    private static class ScheduledTask {
+        private String name;
+        private Cadence cadence;
+        private int phase;
+        private Runnable task;
+        
+        ScheduledTask(String name, Cadence cadence, int phase, Runnable task) {
+            this.name = name;
+            this.cadence = cadence;
+            this.phase = phase;
+            this.task = task;
+        }
+    }
+    
+    private static class BucketedTask {
+        private String name;
+        private IntConsumer task;
+        
+        BucketedTask(String name, IntConsumer task) {
+            this.name = name;
+            this.task = task;
+        }
+    }
+}
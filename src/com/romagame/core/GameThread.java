@@ -65,20 +65,8 @@ public class GameThread extends Thread {
     }
     
     private void updateGameLogic(long deltaTime) {
-        // Update all game systems
-        engine.getCountryManager().update();
-        engine.getDiplomacyManager().update();
-        engine.getEconomyManager().update();
-        engine.getMilitaryManager().update();
-        engine.getTechnologyManager().update();
-        engine.getColonizationManager().update();
-        engine.getPopulationManager().update();
-        
-        // Update historical nation spawning
-        engine.updateHistoricalNations();
-        
-        // Process AI decisions
-        engine.getCountryManager().processAI();
+        // Run every game system that is due today
+        engine.getScheduler().tick(engine.getCurrentDate());
         
         // Update game date
         engine.getCurrentDate().advance();
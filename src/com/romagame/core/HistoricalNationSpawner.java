@@ -1,227 +1,247 @@
 package com.romagame.core;
 
+import com.romagame.colonization.ColonizationIndex;
+import com.romagame.country.CountryManager;
 import com.romagame.map.Country;
+import com.romagame.map.Province;
+import com.romagame.map.ProvinceAdjacency;
 import com.romagame.map.WorldMap;
 import com.romagame.map.Country.NationType;
-import java.util.List;
-import java.util.ArrayList;
-import java.util.Map;
-import java.util.HashMap;
-import java.util.Random;
+import java.util.*;
 
+/**
+ * Timeline of historical nations entering the game. Spawns are kept sorted by
+ * year and consumed through a cursor, so a yearly update only looks at the
+ * spawns that are due and the upcoming list is simply the tail after the
+ * cursor. Each spawn carries a home position on the map; when it comes due,
+ * its land is resolved through the colonization index: the free (uninhabited
+ * or uncivilized) province nearest to home within MAX_SPAWN_RADIUS, grown
+ * outward over province adjacency into a connected block inside that radius.
+ * A nation with no free land in range is skipped. The whole block changes
+ * hands in one batched transfer, so ownership listeners are notified once per
+ * spawn.
+ */
 public class HistoricalNationSpawner {
-    private WorldMap worldMap;
-    private Map<String, NationSpawnInfo> historicalNations;
-    private List<String> spawnedNations;
-    private Random random;
+    // Map units around a nation's home position in which its land may be found
+    public static final double MAX_SPAWN_RADIUS = 200.0;
     
+    private WorldMap worldMap;
+    private CountryManager countryManager;
+    private ColonizationIndex colonizationIndex;
+    private List<NationSpawnInfo> timeline;
+    private int cursor;
+    private Set<String> spawnedNations;
+
     public HistoricalNationSpawner(WorldMap worldMap) {
         this.worldMap = worldMap;
-        this.historicalNations = new HashMap<>();
-        this.spawnedNations = new ArrayList<>();
-        this.random = new Random();
+        this.timeline = new ArrayList<>();
+        this.cursor = 0;
+        this.spawnedNations = new LinkedHashSet<>();
         initializeHistoricalNations();
+        // Stable sort: nations due the same year keep their listed order
+        timeline.sort(Comparator.comparingInt(info -> info.spawnYear));
     }
-    
+
     private void initializeHistoricalNations() {
+        // Home positions are map coordinates, matching the province centroids in nations_and_provinces.json
+
         // Germanic Tribes and Confederations (based on Wikipedia timelines)
-        addNation("Alemanni", 213, NationType.GERMANIC, "Germanic Confederation", "Pagan", "Germanic");
-        addNation("Franks", 250, NationType.GERMANIC, "Tribal Confederation", "Pagan", "Germanic");
-        addNation("Saxons", 260, NationType.GERMANIC, "Tribal Confederation", "Pagan", "Germanic");
-        addNation("Goths", 238, NationType.GERMANIC, "Tribal Confederation", "Pagan", "Germanic");
-        addNation("Vandals", 270, NationType.GERMANIC, "Tribal Confederation", "Pagan", "Germanic");
-        addNation("Burgundians", 280, NationType.GERMANIC, "Tribal Confederation", "Pagan", "Germanic");
-        addNation("Lombards", 290, NationType.GERMANIC, "Tribal Confederation", "Pagan", "Germanic");
-        addNation("Angles", 300, NationType.GERMANIC, "Tribal Confederation", "Pagan", "Germanic");
-        addNation("Jutes", 310, NationType.GERMANIC, "Tribal Confederation", "Pagan", "Germanic");
-        addNation("Suebi", 320, NationType.GERMANIC, "Tribal Confederation", "Pagan", "Germanic");
-        addNation("Thuringii", 330, NationType.GERMANIC, "Tribal Confederation", "Pagan", "Germanic");
-        addNation("Rugii", 340, NationType.GERMANIC, "Tribal Confederation", "Pagan", "Germanic");
-        addNation("Gepids", 350, NationType.GERMANIC, "Tribal Confederation", "Pagan", "Germanic");
-        addNation("Heruli", 360, NationType.GERMANIC, "Tribal Confederation", "Pagan", "Germanic");
-        addNation("Sciri", 370, NationType.GERMANIC, "Tribal Confederation", "Pagan", "Germanic");
-        addNation("Bastarnae", 380, NationType.GERMANIC, "Tribal Confederation", "Pagan", "Germanic");
-        
+        addNation("Alemanni", 213, NationType.GERMANIC, "Germanic Confederation", "Pagan", "Germanic", 2485, 496);
+        addNation("Franks", 250, NationType.GERMANIC, "Tribal Confederation", "Pagan", "Germanic", 2457, 450);
+        addNation("Saxons", 260, NationType.GERMANIC, "Tribal Confederation", "Pagan", "Germanic", 2485, 427);
+        addNation("Goths", 238, NationType.GERMANIC, "Tribal Confederation", "Pagan", "Germanic", 2777, 526);
+        addNation("Vandals", 270, NationType.GERMANIC, "Tribal Confederation", "Pagan", "Germanic", 2596, 465);
+        addNation("Burgundians", 280, NationType.GERMANIC, "Tribal Confederation", "Pagan", "Germanic", 2569, 450);
+        addNation("Lombards", 290, NationType.GERMANIC, "Tribal Confederation", "Pagan", "Germanic", 2513, 435);
+        addNation("Angles", 300, NationType.GERMANIC, "Tribal Confederation", "Pagan", "Germanic", 2492, 412);
+        addNation("Jutes", 310, NationType.GERMANIC, "Tribal Confederation", "Pagan", "Germanic", 2485, 389);
+        addNation("Suebi", 320, NationType.GERMANIC, "Tribal Confederation", "Pagan", "Germanic", 2541, 481);
+        addNation("Thuringii", 330, NationType.GERMANIC, "Tribal Confederation", "Pagan", "Germanic", 2513, 465);
+        addNation("Rugii", 340, NationType.GERMANIC, "Tribal Confederation", "Pagan", "Germanic", 2555, 419);
+        addNation("Gepids", 350, NationType.GERMANIC, "Tribal Confederation", "Pagan", "Germanic", 2666, 526);
+        addNation("Heruli", 360, NationType.GERMANIC, "Tribal Confederation", "Pagan", "Germanic", 2847, 526);
+        addNation("Sciri", 370, NationType.GERMANIC, "Tribal Confederation", "Pagan", "Germanic", 2708, 465);
+        addNation("Bastarnae", 380, NationType.GERMANIC, "Tribal Confederation", "Pagan", "Germanic", 2735, 526);
+
         // Celtic Tribes
-        addNation("Picts", 297, NationType.CELTIC, "Tribal Confederation", "Pagan", "Celtic");
-        addNation("Caledonii", 310, NationType.CELTIC, "Tribal Confederation", "Pagan", "Celtic");
-        addNation("Scoti", 320, NationType.CELTIC, "Tribal Confederation", "Pagan", "Celtic");
-        addNation("Hibernians", 330, NationType.CELTIC, "Tribal Confederation", "Pagan", "Celtic");
-        
+        addNation("Picts", 297, NationType.CELTIC, "Tribal Confederation", "Pagan", "Celtic", 2304, 373);
+        addNation("Caledonii", 310, NationType.CELTIC, "Tribal Confederation", "Pagan", "Celtic", 2290, 366);
+        addNation("Scoti", 320, NationType.CELTIC, "Tribal Confederation", "Pagan", "Celtic", 2263, 419);
+        addNation("Hibernians", 330, NationType.CELTIC, "Tribal Confederation", "Pagan", "Celtic", 2249, 435);
+
         // Eastern European Tribes
-        addNation("Sarmatians", 240, NationType.TRIBAL, "Tribal Confederation", "Pagan", "Sarmatian");
-        addNation("Alans", 250, NationType.TRIBAL, "Tribal Confederation", "Pagan", "Sarmatian");
-        addNation("Roxolani", 260, NationType.TRIBAL, "Tribal Confederation", "Pagan", "Sarmatian");
-        addNation("Iazyges", 270, NationType.TRIBAL, "Tribal Confederation", "Pagan", "Sarmatian");
-        
+        addNation("Sarmatians", 240, NationType.TRIBAL, "Tribal Confederation", "Pagan", "Sarmatian", 2916, 511);
+        addNation("Alans", 250, NationType.TRIBAL, "Tribal Confederation", "Pagan", "Sarmatian", 2986, 572);
+        addNation("Roxolani", 260, NationType.TRIBAL, "Tribal Confederation", "Pagan", "Sarmatian", 2819, 526);
+        addNation("Iazyges", 270, NationType.TRIBAL, "Tribal Confederation", "Pagan", "Sarmatian", 2638, 534);
+
         // African Nations
-        addNation("Garamantes", 220, NationType.AFRICAN, "Tribal Kingdom", "Pagan", "Berber");
-        addNation("Blemmyes", 230, NationType.AFRICAN, "Tribal Kingdom", "Pagan", "Nubian");
-        addNation("Nobatae", 240, NationType.AFRICAN, "Tribal Kingdom", "Pagan", "Nubian");
-        addNation("Makuria", 250, NationType.AFRICAN, "Kingdom", "Pagan", "Nubian");
-        addNation("Axum", 260, NationType.AFRICAN, "Kingdom", "Pagan", "Ethiopian");
-        
+        addNation("Garamantes", 220, NationType.AFRICAN, "Tribal Kingdom", "Pagan", "Berber", 2541, 848);
+        addNation("Blemmyes", 230, NationType.AFRICAN, "Tribal Kingdom", "Pagan", "Nubian", 2833, 909);
+        addNation("Nobatae", 240, NationType.AFRICAN, "Tribal Kingdom", "Pagan", "Nubian", 2805, 924);
+        addNation("Makuria", 250, NationType.AFRICAN, "Kingdom", "Pagan", "Nubian", 2791, 970);
+        addNation("Axum", 260, NationType.AFRICAN, "Kingdom", "Pagan", "Ethiopian", 2902, 1031);
+
         // Arabian Peninsula
-        addNation("Lakhmids", 266, NationType.ARABIAN, "Client Kingdom", "Pagan", "Arabian");
-        addNation("Ghassanids", 280, NationType.ARABIAN, "Client Kingdom", "Pagan", "Arabian");
-        addNation("Kindah", 290, NationType.ARABIAN, "Tribal Confederation", "Pagan", "Arabian");
-        addNation("Qedar", 300, NationType.ARABIAN, "Tribal Confederation", "Pagan", "Arabian");
-        
+        addNation("Lakhmids", 266, NationType.ARABIAN, "Client Kingdom", "Pagan", "Arabian", 2972, 756);
+        addNation("Ghassanids", 280, NationType.ARABIAN, "Client Kingdom", "Pagan", "Arabian", 2874, 756);
+        addNation("Kindah", 290, NationType.ARABIAN, "Tribal Confederation", "Pagan", "Arabian", 2986, 878);
+        addNation("Qedar", 300, NationType.ARABIAN, "Tribal Confederation", "Pagan", "Arabian", 2888, 786);
+
         // Indian Subcontinent
-        addNation("Gupta Empire", 320, NationType.INDIAN, "Empire", "Hindu", "Indian");
-        addNation("Pallava", 275, NationType.INDIAN, "Kingdom", "Hindu", "Indian");
-        addNation("Chalukya", 340, NationType.INDIAN, "Kingdom", "Hindu", "Indian");
-        addNation("Kadamba", 345, NationType.INDIAN, "Kingdom", "Hindu", "Indian");
-        addNation("Western Ganga", 350, NationType.INDIAN, "Kingdom", "Hindu", "Indian");
-        
+        addNation("Gupta Empire", 320, NationType.INDIAN, "Empire", "Hindu", "Indian", 3480, 850);
+        addNation("Pallava", 275, NationType.INDIAN, "Kingdom", "Hindu", "Indian", 3420, 1060);
+        addNation("Chalukya", 340, NationType.INDIAN, "Kingdom", "Hindu", "Indian", 3370, 1000);
+        addNation("Kadamba", 345, NationType.INDIAN, "Kingdom", "Hindu", "Indian", 3360, 1025);
+        addNation("Western Ganga", 350, NationType.INDIAN, "Kingdom", "Hindu", "Indian", 3385, 1065);
+
         // Central Asian
-        addNation("Kushan Empire", 30, NationType.EASTERN, "Empire", "Buddhist", "Central Asian");
-        addNation("Sassanid Empire", 224, NationType.EASTERN, "Empire", "Zoroastrian", "Persian");
-        addNation("Hephthalites", 408, NationType.EASTERN, "Empire", "Pagan", "Central Asian");
-        addNation("Kidarites", 320, NationType.EASTERN, "Kingdom", "Pagan", "Central Asian");
-        
+        addNation("Kushan Empire", 30, NationType.EASTERN, "Empire", "Buddhist", "Central Asian", 3200, 670);
+        addNation("Sassanid Empire", 224, NationType.EASTERN, "Empire", "Zoroastrian", "Persian", 3040, 800);
+        addNation("Hephthalites", 408, NationType.EASTERN, "Empire", "Pagan", "Central Asian", 3220, 640);
+        addNation("Kidarites", 320, NationType.EASTERN, "Kingdom", "Pagan", "Central Asian", 3260, 660);
+
         // East Asian
-        addNation("Cao Wei", 220, NationType.EASTERN, "Empire", "Confucian", "Chinese");
-        addNation("Shu Han", 221, NationType.EASTERN, "Empire", "Confucian", "Chinese");
-        addNation("Eastern Wu", 229, NationType.EASTERN, "Empire", "Confucian", "Chinese");
-        addNation("Jin Dynasty", 266, NationType.EASTERN, "Empire", "Confucian", "Chinese");
-        addNation("Sixteen Kingdoms", 304, NationType.EASTERN, "Confederation", "Mixed", "Chinese");
-        
+        addNation("Cao Wei", 220, NationType.EASTERN, "Empire", "Confucian", "Chinese", 3800, 720);
+        addNation("Shu Han", 221, NationType.EASTERN, "Empire", "Confucian", "Chinese", 3697, 783);
+        addNation("Eastern Wu", 229, NationType.EASTERN, "Empire", "Confucian", "Chinese", 3884, 760);
+        addNation("Jin Dynasty", 266, NationType.EASTERN, "Empire", "Confucian", "Chinese", 3800, 720);
+        addNation("Sixteen Kingdoms", 304, NationType.EASTERN, "Confederation", "Mixed", "Chinese", 3760, 690);
+
         // Later Germanic Migrations
-        addNation("Ostrogoths", 375, NationType.GERMANIC, "Kingdom", "Pagan", "Germanic");
-        addNation("Visigoths", 376, NationType.GERMANIC, "Kingdom", "Pagan", "Germanic");
-        addNation("Ostrogothic Kingdom", 493, NationType.GERMANIC, "Kingdom", "Pagan", "Germanic");
-        addNation("Visigothic Kingdom", 418, NationType.GERMANIC, "Kingdom", "Pagan", "Germanic");
-        addNation("Vandal Kingdom", 435, NationType.GERMANIC, "Kingdom", "Pagan", "Germanic");
-        addNation("Burgundian Kingdom", 443, NationType.GERMANIC, "Kingdom", "Pagan", "Germanic");
-        addNation("Lombard Kingdom", 568, NationType.GERMANIC, "Kingdom", "Pagan", "Germanic");
-        addNation("Frankish Kingdom", 481, NationType.GERMANIC, "Kingdom", "Pagan", "Germanic");
-        addNation("Anglo-Saxon Kingdoms", 450, NationType.GERMANIC, "Confederation", "Pagan", "Germanic");
+        addNation("Ostrogoths", 375, NationType.GERMANIC, "Kingdom", "Pagan", "Germanic", 2805, 526);
+        addNation("Visigoths", 376, NationType.GERMANIC, "Kingdom", "Pagan", "Germanic", 2721, 557);
+        addNation("Ostrogothic Kingdom", 493, NationType.GERMANIC, "Kingdom", "Pagan", "Germanic", 2527, 566);
+        addNation("Visigothic Kingdom", 418, NationType.GERMANIC, "Kingdom", "Pagan", "Germanic", 2379, 578);
+        addNation("Vandal Kingdom", 435, NationType.GERMANIC, "Kingdom", "Pagan", "Germanic", 2499, 682);
+        addNation("Burgundian Kingdom", 443, NationType.GERMANIC, "Kingdom", "Pagan", "Germanic", 2427, 545);
+        addNation("Lombard Kingdom", 568, NationType.GERMANIC, "Kingdom", "Pagan", "Germanic", 2485, 554);
+        addNation("Frankish Kingdom", 481, NationType.GERMANIC, "Kingdom", "Pagan", "Germanic", 2407, 471);
+        addNation("Anglo-Saxon Kingdoms", 450, NationType.GERMANIC, "Confederation", "Pagan", "Germanic", 2374, 450);
     }
-    
-    private void addNation(String name, int spawnYear, NationType type, String government, String religion, String culture) {
-        historicalNations.put(name, new NationSpawnInfo(name, spawnYear, type, government, religion, culture));
+
+    private void addNation(String name, int spawnYear, NationType type, String government, String religion, String culture,
+                           double homeX, double homeY) {
+        timeline.add(new NationSpawnInfo(name, spawnYear, type, government, religion, culture, homeX, homeY));
     }
-    
-    public void update(GameDate currentDate) {
+
+    // Spawns every nation due by the current year, catching up if the date jumped ahead
+    public synchronized void update(GameDate currentDate) {
         int currentYear = currentDate.getYear();
-        
-        for (Map.Entry<String, NationSpawnInfo> entry : historicalNations.entrySet()) {
-            String nationName = entry.getKey();
-            NationSpawnInfo spawnInfo = entry.getValue();
-            
-            if (currentYear >= spawnInfo.spawnYear && !spawnedNations.contains(nationName)) {
-                spawnNation(spawnInfo);
-                spawnedNations.add(nationName);
+        // Each spawn gets one attempt; a skipped nation is not retried
+        while (cursor < timeline.size() && timeline.get(cursor).spawnYear <= currentYear) {
+            NationSpawnInfo spawnInfo = timeline.get(cursor++);
+            if (spawnNation(spawnInfo)) {
+                spawnedNations.add(spawnInfo.name);
             }
         }
     }
-    
-    private void spawnNation(NationSpawnInfo spawnInfo) {
+
+    private boolean spawnNation(NationSpawnInfo spawnInfo) {
+        if (worldMap.getCountry(spawnInfo.name) != null) {
+            System.out.println("Historical nation " + spawnInfo.name + " already exists; skipping spawn");
+            return false;
+        }
+        List<Province> homeland = resolveHomeland(spawnInfo);
+        if (homeland.isEmpty()) {
+            System.out.println("Historical nation " + spawnInfo.name + " found no free land within "
+                + (int) MAX_SPAWN_RADIUS + " of its home; skipping spawn");
+            return false;
+        }
+
         // Create the new nation
-        Country newCountry = new Country(spawnInfo.name);
-        
+        Country newCountry = new Country(spawnInfo.name, spawnInfo.type);
+
         // Set historical attributes
         newCountry.setGovernmentType(spawnInfo.government);
         newCountry.setReligion(spawnInfo.religion);
         newCountry.setCulture(spawnInfo.culture);
-        
-        // Assign starting provinces based on historical locations
-        assignHistoricalProvinces(newCountry, spawnInfo);
-        
-        // Add to world map
+
+        // Register first so listeners can look the new owner up, then hand over the land in one batch.
+        // The country manager's list is what the AI, events, dynasties and research iterate.
         worldMap.addCountry(newCountry);
-        
-        System.out.println("Historical nation spawned: " + spawnInfo.name + " in " + spawnInfo.spawnYear);
-    }
-    
-    private void assignHistoricalProvinces(Country country, NationSpawnInfo spawnInfo) {
-        // This is a simplified assignment - in a full implementation,
-        // you would have detailed province mappings for each historical nation
-        List<String> provinces = getHistoricalProvinces(spawnInfo);
-        
-        for (String provinceId : provinces) {
-            var province = worldMap.getProvince(provinceId);
-            if (province != null && province.getOwner().equals("Uninhabited")) {
-                province.setOwner(country.getName());
-                country.addProvince(province);
-            }
+        if (countryManager != null) {
+            countryManager.addCountry(newCountry);
         }
+        worldMap.transferProvinces(homeland, newCountry);
+
+        System.out.println("Historical nation spawned: " + spawnInfo.name + " in " + spawnInfo.spawnYear
+            + " with " + homeland.size() + " provinces");
+        return true;
     }
-    
-    private List<String> getHistoricalProvinces(NationSpawnInfo spawnInfo) {
-        List<String> provinces = new ArrayList<>();
-        
-        // Simplified province assignment based on nation type and name
-        switch (spawnInfo.type) {
-            case GERMANIC -> {
-                // Germanic tribes get provinces in Germany, Scandinavia, etc.
-                if (spawnInfo.name.contains("Goth")) {
-                    provinces.addAll(List.of("germany_1", "germany_2", "germany_3"));
-                } else if (spawnInfo.name.contains("Frank")) {
-                    provinces.addAll(List.of("germany_4", "germany_5", "germany_6"));
-                } else if (spawnInfo.name.contains("Saxon")) {
-                    provinces.addAll(List.of("germany_7", "germany_8", "germany_9"));
-                } else {
-                    // Generic Germanic provinces
-                    provinces.addAll(List.of("germany_" + random.nextInt(20)));
-                }
-            }
-            case CELTIC -> {
-                // Celtic tribes get provinces in Britain, Ireland, etc.
-                if (spawnInfo.name.contains("Pict")) {
-                    provinces.addAll(List.of("scotland_1", "scotland_2"));
-                } else if (spawnInfo.name.contains("Scot")) {
-                    provinces.addAll(List.of("scotland_3", "scotland_4"));
-                } else {
-                    provinces.addAll(List.of("britain_" + random.nextInt(10)));
-                }
-            }
-            case TRIBAL -> {
-                // Sarmatian tribes get provinces in Eastern Europe
-                provinces.addAll(List.of("eastern_europe_" + random.nextInt(15)));
-            }
-            case AFRICAN -> {
-                // African nations get provinces in North Africa
-                provinces.addAll(List.of("africa_" + random.nextInt(20)));
-            }
-            case ARABIAN -> {
-                // Arabian nations get provinces in Arabia
-                provinces.addAll(List.of("arabia_" + random.nextInt(15)));
-            }
-            case INDIAN -> {
-                // Indian nations get provinces in India
-                provinces.addAll(List.of("india_" + random.nextInt(25)));
-            }
-            case EASTERN -> {
-                // Eastern nations get provinces in Central Asia, China, etc.
-                if (spawnInfo.name.contains("Chinese") || spawnInfo.name.contains("Han")) {
-                    provinces.addAll(List.of("china_" + random.nextInt(30)));
-                } else {
-                    provinces.addAll(List.of("central_asia_" + random.nextInt(20)));
+
+    // Free provinces nearest the nation's home, grown as a connected block over province adjacency
+    private List<Province> resolveHomeland(NationSpawnInfo spawnInfo) {
+        List<Province> homeland = new ArrayList<>();
+        if (colonizationIndex == null) return homeland;
+        // Nearest first, so the seed is the head of the list
+        List<Province> inRange = colonizationIndex.getWithinRange(spawnInfo.homeX, spawnInfo.homeY, MAX_SPAWN_RADIUS);
+        if (inRange.isEmpty()) return homeland;
+        ProvinceAdjacency adjacency = worldMap.getAdjacency();
+        int target = homelandSize(spawnInfo.government);
+        Map<Province, Double> distance = new IdentityHashMap<>();
+        for (Province province : inRange) {
+            distance.put(province, distanceFromHome(adjacency, province, spawnInfo));
+        }
+        Province seed = inRange.get(0);
+
+        // Best-first growth: always take the free frontier province closest to home
+        PriorityQueue<Province> frontier = new PriorityQueue<>(Comparator.comparingDouble(distance::get));
+        Set<Province> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        frontier.add(seed);
+        seen.add(seed);
+        while (!frontier.isEmpty() && homeland.size() < target) {
+            Province province = frontier.poll();
+            homeland.add(province);
+            for (Province neighbor : adjacency.getNeighbors(province)) {
+                if (distance.containsKey(neighbor) && seen.add(neighbor)) {
+                    frontier.add(neighbor);
                 }
             }
-            case GREEK -> {
-                // Assign Greek provinces (example)
-                provinces.addAll(List.of("greece_" + random.nextInt(10)));
-            }
-            case ROMAN -> {
-                // Assign Roman provinces (example)
-                provinces.addAll(List.of("italy_" + random.nextInt(10)));
-            }
         }
-        
-        return provinces;
+        return homeland;
     }
-    
-    public List<String> getSpawnedNations() {
+
+    private double distanceFromHome(ProvinceAdjacency adjacency, Province province, NationSpawnInfo spawnInfo) {
+        double[] position = adjacency.getPosition(province);
+        double dx = position[0] - spawnInfo.homeX;
+        double dy = position[1] - spawnInfo.homeY;
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    private int homelandSize(String government) {
+        if (government.equals("Empire")) return 8;
+        if (government.contains("Kingdom")) return 5;
+        return 3;
+    }
+
+    public synchronized void setCountryManager(CountryManager countryManager) {
+        this.countryManager = countryManager;
+    }
+
+    public synchronized void setColonizationIndex(ColonizationIndex colonizationIndex) {
+        this.colonizationIndex = colonizationIndex;
+    }
+
+    public synchronized List<String> getSpawnedNations() {
         return new ArrayList<>(spawnedNations);
     }
-    
-    public Map<String, NationSpawnInfo> getHistoricalNations() {
-        return new HashMap<>(historicalNations);
+
+    // Nations still to come, soonest first
+    public synchronized List<String> getUpcomingNations(int limit) {
+        List<String> upcoming = new ArrayList<>();
+        for (int i = cursor; i < timeline.size() && upcoming.size() < limit; i++) {
+            NationSpawnInfo spawnInfo = timeline.get(i);
+            upcoming.add(spawnInfo.name + " (Year " + spawnInfo.spawnYear + ")");
+        }
+        return upcoming;
     }
-    
+
+    // Year of the next spawn, or -1 once the timeline is exhausted
+    public synchronized int getNextSpawnYear() {
+        return cursor < timeline.size() ? timeline.get(cursor).spawnYear : -1;
+    }
+
     private static class NationSpawnInfo {
         String name;
         int spawnYear;
@@ -229,14 +249,19 @@ public class HistoricalNationSpawner {
         String government;
         String religion;
         String culture;
-        
-        NationSpawnInfo(String name, int spawnYear, NationType type, String government, String religion, String culture) {
+        double homeX;
+        double homeY;
+
+        NationSpawnInfo(String name, int spawnYear, NationType type, String government, String religion, String culture,
+                        double homeX, double homeY) {
             this.name = name;
             this.spawnYear = spawnYear;
             this.type = type;
             this.government = government;
             this.religion = religion;
             this.culture = culture;
+            this.homeX = homeX;
+            this.homeY = homeY;
         }
     }
-} 
\ No newline at end of file
+}
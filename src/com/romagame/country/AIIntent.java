@@ -0,0 +1,36 @@
+package com.romagame.country;
+
+import com.romagame.country.AIManager.AIAction;
+
+/**
+ * A decision produced by the AI think phase. Intents are computed without
+ * touching shared game state and applied afterwards, one at a time, by the
+ * planner's arbiter.
+ */
+public class AIIntent {
+    private final String country;
+    private final AIAction action;
+    private final String target;
+    private final double utility;
+
+    public AIIntent(String country, AIAction action, String target, double utility) {
+        this.country = country;
+        this.action = action;
+        this.target = target;
+        this.utility = utility;
+    }
+
+    public AIIntent withUtility(double utility) {
+        return new AIIntent(country, action, target, utility);
+    }
+
+    public String getCountry() { return country; }
+    public AIAction getAction() { return action; }
+    public String getTarget() { return target; }
+    public double getUtility() { return utility; }
+
+    @Override
+    public String toString() {
+        return country + " " + action + (target != null ? " -> " + target : "") + String.format(" (%.2f)", utility);
+    }
+}
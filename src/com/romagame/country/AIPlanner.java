@@ -0,0 +1,438 @@
+package com.romagame.country;
+
+import com.romagame.map.Country;
+import com.romagame.map.CountryStats;
+import com.romagame.map.Law;
+import com.romagame.map.Province;
+import com.romagame.map.WorldMap;
+import com.romagame.diplomacy.Coalition;
+import com.romagame.diplomacy.DiplomacyManager;
+import com.romagame.diplomacy.ThreatAssessment;
+import com.romagame.technology.Technology;
+import com.romagame.technology.TechnologyManager;
+import com.romagame.colonization.ColonizationManager;
+import com.romagame.military.WarForecaster;
+import com.romagame.government.Advisor;
+import com.romagame.government.DynastyManager;
+import com.romagame.core.GameDate;
+import com.romagame.colonization.ColonizationMission;
+import com.romagame.country.AIManager.AIAction;
+import com.romagame.country.AIManager.AIPersonality;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Set;
+import java.util.HashSet;
+import java.util.Comparator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Utility-scoring AI. Every option is scored from the country's cached
+ * aggregates (CountryStats, treasury, stability) and weighted by personality;
+ * the best option above MIN_UTILITY becomes the country's intent. Countries
+ * think in a rolling order, each one roughly every THINK_INTERVAL days, and no
+ * more than MAX_EVALUATIONS_PER_TICK countries think on any single day.
+ * Thinking only reads game state, so large slices are evaluated in parallel;
+ * the resulting intents are then applied serially in COMMIT_ORDER.
+ */
+public class AIPlanner {
+    public static final int THINK_INTERVAL = 10;
+    public static final int MAX_EVALUATIONS_PER_TICK = 64;
+    private static final int PARALLEL_THRESHOLD = 16;
+    private static final double MIN_UTILITY = 0.1;
+
+    private static final double UNITS_PER_PROVINCE = 3.0;
+    private static final double RECRUIT_COST = 10.0;
+    private static final double BUILD_COST = 30.0;
+    private static final double COLONIZE_COST = 50.0;
+    private static final int COLONISTS = 500;
+    private static final double ALLY_RELATION = 25.0;
+    private static final double WAR_RELATION = -25.0;
+    private static final double WAR_STRENGTH_RATIO = 1.5;
+    private static final double COALITION_DANGER = 0.5; // per coalition member, added to the threat when recruiting
+    private static final double MIN_WIN_CHANCE = 0.6;
+    private static final int SALARY_RESERVE_MONTHS = 12;
+    private static final Set<String> NON_PLAYABLE = Set.of("Ocean", "Uncolonized", "Uninhabited", "Uncivilized");
+
+    // Personality weight per action, indexed [personality][action]
+    private static final double[][] WEIGHTS = new double[AIPersonality.values().length][AIAction.values().length];
+    static {
+        setWeights(AIPersonality.AGGRESSIVE, 1.4, 0.6, 0.5, 1.5, 0.8, 0.6, 0.5, 0.7, 0.6);
+        setWeights(AIPersonality.DEFENSIVE, 1.3, 0.9, 1.2, 0.3, 0.5, 0.8, 0.8, 1.0, 0.8);
+        setWeights(AIPersonality.TRADER, 0.6, 1.2, 1.1, 0.3, 1.2, 0.9, 0.9, 0.8, 1.0);
+        setWeights(AIPersonality.BUILDER, 0.6, 1.5, 0.8, 0.3, 0.9, 1.1, 1.1, 1.1, 1.1);
+        setWeights(AIPersonality.BALANCED, 1.0, 1.0, 1.0, 0.7, 0.8, 1.0, 1.0, 1.0, 0.9);
+    }
+
+    private static void setWeights(AIPersonality personality, double... weights) {
+        WEIGHTS[personality.ordinal()] = weights;
+    }
+
+    // Arbiter order: by action (alliances settle before war declarations), then most urgent first, then by name
+    private static final Comparator<AIIntent> COMMIT_ORDER = Comparator
+        .comparing(AIIntent::getAction)
+        .thenComparing(Comparator.comparingDouble(AIIntent::getUtility).reversed())
+        .thenComparing(AIIntent::getCountry);
+
+    private AIManager aiManager;
+    private DiplomacyManager diplomacyManager;
+    private TechnologyManager technologyManager;
+    private ColonizationManager colonizationManager;
+    private WarForecaster warForecaster;
+    private WorldMap worldMap;
+    private DynastyManager dynastyManager;
+    private GameDate date;
+
+    private List<String> thinkOrder;
+    private Set<String> scheduled;
+    private int cursor;
+    private Map<String, List<Law>> lawOptions;
+
+    public AIPlanner(AIManager aiManager) {
+        this.aiManager = aiManager;
+        this.thinkOrder = new ArrayList<>();
+        this.scheduled = new HashSet<>();
+        this.cursor = 0;
+        this.lawOptions = new ConcurrentHashMap<>();
+    }
+
+    // One AI tick: the next slice of the rolling order thinks in parallel, then the arbiter applies the intents
+    public void tick(Map<String, Country> countries, String playerCountry) {
+        List<Country> thinking = nextSlice(countries, playerCountry);
+        if (thinking.isEmpty()) return;
+
+        // Think phase: reads game state only, one intent slot per country
+        AIIntent[] intents = new AIIntent[thinking.size()];
+        if (thinking.size() >= PARALLEL_THRESHOLD) {
+            // Runs on the common pool, shared with the war forecaster; nothing to shut down
+            IntStream.range(0, intents.length).parallel()
+                .forEach(i -> intents[i] = evaluate(thinking.get(i), countries));
+        } else {
+            for (int i = 0; i < intents.length; i++) {
+                intents[i] = evaluate(thinking.get(i), countries);
+            }
+        }
+
+        // Commit phase: apply in a stable order so the outcome doesn't depend on thread timing
+        List<AIIntent> ordered = new ArrayList<>();
+        for (AIIntent intent : intents) {
+            if (intent != null) ordered.add(intent);
+        }
+        ordered.sort(COMMIT_ORDER);
+        Set<String> claimedProvinces = new HashSet<>();
+        for (AIIntent intent : ordered) {
+            Country country = countries.get(intent.getCountry());
+            if (country != null) {
+                apply(country, intent, claimedProvinces);
+            }
+        }
+    }
+
+    // Countries due to think this tick, advancing the rolling cursor
+    private List<Country> nextSlice(Map<String, Country> countries, String playerCountry) {
+        for (Country country : countries.values()) {
+            if (scheduled.add(country.getName())) {
+                thinkOrder.add(country.getName());
+            }
+        }
+        List<Country> slice = new ArrayList<>();
+        if (thinkOrder.isEmpty()) return slice;
+
+        // Enough evaluations per day to visit everyone every THINK_INTERVAL days, up to the budget
+        int budget = Math.min(MAX_EVALUATIONS_PER_TICK,
+            (thinkOrder.size() + THINK_INTERVAL - 1) / THINK_INTERVAL);
+        for (int i = 0; i < budget; i++) {
+            if (cursor >= thinkOrder.size()) cursor = 0;
+            String name = thinkOrder.get(cursor);
+            Country country = countries.get(name);
+            if (country == null) {
+                // Country is gone; drop it from the rotation
+                thinkOrder.remove(cursor);
+                scheduled.remove(name);
+                if (thinkOrder.isEmpty()) break;
+                continue;
+            }
+            cursor++;
+            if (!name.equals(playerCountry) && !NON_PLAYABLE.contains(name) && aiManager.isNationEnabled(name)) {
+                slice.add(country);
+            }
+        }
+        return slice;
+    }
+
+    // Score every option and return the best one worth doing, or null
+    AIIntent evaluate(Country country, Map<String, Country> countries) {
+        AIPersonality personality = aiManager.getPersonality(country.getName());
+        double[] weights = WEIGHTS[personality.ordinal()];
+        CountryStats stats = country.getStats();
+        int wars = diplomacyManager != null ? diplomacyManager.getWarsInvolving(country.getName()).size() : 0;
+        ThreatAssessment threats = diplomacyManager != null ? diplomacyManager.getThreatCache().get(country.getName()) : null;
+
+        AIIntent best = null;
+        best = better(best, scoreRecruit(country, stats, wars, threats), weights);
+        best = better(best, scoreBuild(country, stats), weights);
+        best = better(best, scoreAlly(country, wars, threats), weights);
+        best = better(best, scoreWar(country, stats, wars, threats, countries), weights);
+        best = better(best, scoreColonize(country, stats), weights);
+        best = better(best, scoreResearch(country), weights);
+        best = better(best, scoreLaw(country), weights);
+        best = better(best, scoreStability(country), weights);
+        best = better(best, scoreAdvisor(country), weights);
+        return best != null && best.getUtility() >= MIN_UTILITY ? best : null;
+    }
+
+    private AIIntent better(AIIntent best, AIIntent candidate, double[] weights) {
+        if (candidate == null) return best;
+        candidate = candidate.withUtility(candidate.getUtility() * weights[candidate.getAction().ordinal()]);
+        return best == null || candidate.getUtility() > best.getUtility() ? candidate : best;
+    }
+
+    private AIIntent scoreRecruit(Country country, CountryStats stats, int wars, ThreatAssessment threats) {
+        if (country.getTreasury() < RECRUIT_COST * 2) return null;
+        double danger = threats != null ? Math.min(2.0, threats.getThreat()) : 0.0;
+        Coalition coalition = diplomacyManager != null
+            ? diplomacyManager.getCoalitionManager().getCoalitionAgainst(country.getName()) : null;
+        if (coalition != null) {
+            danger += COALITION_DANGER * coalition.getSize();
+        }
+        double wanted = Math.max(1, stats.getProvinceCount()) * UNITS_PER_PROVINCE * (1 + wars + danger);
+        double shortfall = 1.0 - stats.getTotalUnits() / wanted;
+        if (shortfall <= 0) return null;
+        return new AIIntent(country.getName(), AIAction.RECRUIT, null, shortfall);
+    }
+
+    private AIIntent scoreBuild(Country country, CountryStats stats) {
+        if (country.getTreasury() < BUILD_COST || stats.getProvinceCount() == 0) return null;
+        Province target = null;
+        for (Province province : country.getProvinces()) {
+            if (target == null || province.getDevelopment() < target.getDevelopment()) {
+                target = province;
+            }
+        }
+        // Poorer provinces and a fuller treasury make building more attractive
+        double affordability = Math.min(1.0, country.getTreasury() / (BUILD_COST * 4));
+        double need = 1.0 / (1.0 + target.getDevelopment() / 5.0);
+        return new AIIntent(country.getName(), AIAction.BUILD, target.getId(), need * affordability);
+    }
+
+    private AIIntent scoreAlly(Country country, int wars, ThreatAssessment threats) {
+        if (threats == null) return null;
+        ThreatAssessment.Contact best = null;
+        for (ThreatAssessment.Contact contact : threats.getContacts()) {
+            if (contact.getRelation() >= ALLY_RELATION && !contact.isAllied() && !contact.isAtWar()
+                    && (best == null || contact.getRelation() > best.getRelation())) {
+                best = contact;
+            }
+        }
+        if (best == null) return null;
+        // Threatened countries look for friends
+        double need = 0.5 + 0.3 * wars + 0.3 * Math.min(1.0, threats.getThreat())
+            - 0.1 * diplomacyManager.getAllies(country.getName()).size();
+        return new AIIntent(country.getName(), AIAction.ALLY, best.getName(), need * Math.min(1.0, best.getRelation() / 50.0));
+    }
+
+    private AIIntent scoreWar(Country country, CountryStats stats, int wars, ThreatAssessment threats,
+                              Map<String, Country> countries) {
+        if (threats == null || wars > 0 || stats.getTotalUnits() == 0) return null;
+        // Attacking any member of a coalition against us brings the whole coalition in
+        Coalition coalition = diplomacyManager.getCoalitionManager().getCoalitionAgainst(country.getName());
+        ThreatAssessment.Contact best = null;
+        double bestScore = 0.0;
+        for (ThreatAssessment.Contact contact : threats.getTargets(WAR_STRENGTH_RATIO)) {
+            if (NON_PLAYABLE.contains(contact.getName()) || contact.getRelation() > WAR_RELATION) continue;
+            if (coalition != null && coalition.hasMember(contact.getName())) continue;
+            Country enemy = countries.get(contact.getName());
+            if (enemy == null || enemy.getStats().getProvinceCount() == 0) continue;
+            // Nearby weak rivals are the most attractive
+            double score = Math.min(3.0, contact.getAdvantage()) * contact.getProximity();
+            if (score > bestScore) {
+                bestScore = score;
+                best = contact;
+            }
+        }
+        if (best == null) return null;
+        double confidence = Math.min(1.0, (Math.min(3.0, best.getAdvantage()) - 1.0) / 2.0) * best.getProximity();
+        return new AIIntent(country.getName(), AIAction.DECLARE_WAR, best.getName(),
+            confidence * Math.min(1.0, country.getStability() + 0.5));
+    }
+
+    private AIIntent scoreColonize(Country country, CountryStats stats) {
+        if (colonizationManager == null || worldMap == null || country.getTreasury() < COLONIZE_COST
+                || stats.getProvinceCount() == 0) {
+            return null;
+        }
+        // One colony at a time, and never a province someone is already settling
+        Set<String> claimed = new HashSet<>();
+        for (ColonizationMission mission : colonizationManager.getActiveMissions()) {
+            if (mission.getCountryName().equals(country.getName())) return null;
+            claimed.add(mission.getProvinceId());
+        }
+        // Nearest reachable candidate from the index, not a scan of the whole map
+        Province target = null;
+        for (Province province : colonizationManager.getColonizationIndex()
+                .getWithinRangeOf(country, ColonizationManager.MAX_COLONIZATION_RANGE)) {
+            if (!claimed.contains(province.getId())) {
+                target = province;
+                break;
+            }
+        }
+        if (target == null) return null;
+        double affordability = Math.min(1.0, country.getTreasury() / (COLONIZE_COST * 4));
+        return new AIIntent(country.getName(), AIAction.COLONIZE, target.getId(), 0.5 * affordability);
+    }
+
+    private AIIntent scoreResearch(Country country) {
+        if (technologyManager == null) return null;
+        String name = country.getName();
+        if (technologyManager.hasActiveResearch(name)) return null;
+        Technology cheapest = null;
+        for (Technology tech : technologyManager.getAvailableTechnologies(name)) {
+            if (cheapest == null || tech.getResearchCost() < cheapest.getResearchCost()) {
+                cheapest = tech;
+            }
+        }
+        if (cheapest == null) return null;
+        return new AIIntent(country.getName(), AIAction.RESEARCH, cheapest.getName(), 0.6);
+    }
+
+    private AIIntent scoreLaw(Country country) {
+        if (!country.getEnactingLaws().isEmpty()) return null;
+        // Each country needs its own Law instances since they carry enactment state
+        List<Law> laws = lawOptions.computeIfAbsent(country.getName(), k -> Law.createHistoricalLaws());
+        for (Law law : laws) {
+            if (!country.hasLaw(law.getName()) && law.canEnact(country)) {
+                double affordability = Math.min(1.0, country.getTreasury() / (law.getEnactmentCost() * 3.0));
+                return new AIIntent(country.getName(), AIAction.ENACT_LAW, law.getName(), 0.5 * affordability);
+            }
+        }
+        return null;
+    }
+
+    private AIIntent scoreStability(Country country) {
+        double urgency = 0.0;
+        if (country.getStability() < 0.5) urgency += 0.5 - country.getStability();
+        if (country.getLegitimacy() < 0.8) urgency += (0.8 - country.getLegitimacy()) / 2;
+        return urgency > 0 ? new AIIntent(country.getName(), AIAction.MAINTAIN_STABILITY, null, urgency) : null;
+    }
+
+    private AIIntent scoreAdvisor(Country country) {
+        if (dynastyManager == null) return null;
+        String name = country.getName();
+        List<Advisor> hired = dynastyManager.getAdvisors(name);
+        if (hired.size() >= DynastyManager.MAX_ADVISORS) return null;
+        // Only hire when a year of everyone's salaries is already in the treasury
+        double salaries = 0;
+        for (Advisor advisor : hired) {
+            salaries += advisor.getSalary();
+        }
+        Advisor best = null;
+        for (Advisor candidate : dynastyManager.getCandidates(name)) {
+            double reserve = (salaries + candidate.getSalary()) * SALARY_RESERVE_MONTHS;
+            if (country.getTreasury() >= reserve && (best == null || candidate.getLevel() > best.getLevel())) {
+                best = candidate;
+            }
+        }
+        if (best == null) return null;
+        double openSeats = 1.0 - (double) hired.size() / DynastyManager.MAX_ADVISORS;
+        return new AIIntent(name, AIAction.HIRE_ADVISOR, best.getName(), 0.4 * openSeats + 0.1 * best.getLevel());
+    }
+
+    // Re-checks each intent against the state left by the intents applied before it
+    void apply(Country country, AIIntent intent, Set<String> claimedProvinces) {
+        String name = country.getName();
+        String target = intent.getTarget();
+        switch (intent.getAction()) {
+            case RECRUIT -> {
+                if (country.getTreasury() < RECRUIT_COST) return;
+                String unitType = aiManager.chooseUnitType(country);
+                int amount = aiManager.getPersonality(name) == AIPersonality.AGGRESSIVE ? 2 : 1;
+                country.recruitUnit(unitType, amount);
+                country.setTreasury(country.getTreasury() - amount * RECRUIT_COST);
+            }
+            case BUILD -> {
+                Province province = worldMap != null ? worldMap.getProvince(target) : null;
+                if (province == null || province.getOwnerCountry() != country || country.getTreasury() < BUILD_COST) return;
+                List<Province.BuildingSlot> slots = province.getBuildingSlots();
+                int slot = 0;
+                for (int i = 1; i < slots.size(); i++) {
+                    if (slots.get(i).getLevel() < slots.get(slot).getLevel()) slot = i;
+                }
+                String type = "Empty".equals(slots.get(slot).getType()) ? "Workshop" : slots.get(slot).getType();
+                province.setBuildingSlot(slot, type, slots.get(slot).getLevel() + 1);
+                province.setDevelopment(province.getDevelopment() + 1.0);
+                country.setTreasury(country.getTreasury() - BUILD_COST);
+            }
+            case ALLY -> {
+                if (!diplomacyManager.isAtWar(name, target)) {
+                    diplomacyManager.offerAlliance(name, target);
+                }
+            }
+            case DECLARE_WAR -> {
+                if (diplomacyManager.areAllied(name, target) || diplomacyManager.isAtWar(name, target)) return;
+                // Only go to war when the simulated odds back up the strength estimate
+                if (warForecaster != null && warForecaster.forecast(name, target).getWinProbability() < MIN_WIN_CHANCE) return;
+                // Declaring adds the aggressive expansion
+                diplomacyManager.declareWar(name, target);
+            }
+            case COLONIZE -> {
+                // First claim this tick wins; the commit order makes that deterministic
+                if (country.getTreasury() < COLONIZE_COST || !claimedProvinces.add(target)) return;
+                if (colonizationManager.startColonization(name, target, COLONISTS)) {
+                    country.setTreasury(country.getTreasury() - COLONIZE_COST);
+                }
+            }
+            case RESEARCH -> technologyManager.startResearch(name, target);
+            case ENACT_LAW -> {
+                for (Law law : lawOptions.get(name)) {
+                    if (law.getName().equals(target)) {
+                        country.startLawEnactment(law);
+                        break;
+                    }
+                }
+            }
+            case MAINTAIN_STABILITY -> {
+                if (country.getStability() < 0.5) {
+                    country.setStability(country.getStability() + 0.1);
+                }
+                if (country.getLegitimacy() < 0.8) {
+                    country.setLegitimacy(country.getLegitimacy() + 0.05);
+                }
+            }
+            case HIRE_ADVISOR -> {
+                for (Advisor candidate : dynastyManager.getCandidates(name)) {
+                    if (candidate.getName().equals(target)) {
+                        dynastyManager.hireAdvisor(name, candidate, date);
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    public void setDiplomacyManager(DiplomacyManager diplomacyManager) {
+        this.diplomacyManager = diplomacyManager;
+    }
+
+    public void setTechnologyManager(TechnologyManager technologyManager) {
+        this.technologyManager = technologyManager;
+    }
+
+    public void setColonizationManager(ColonizationManager colonizationManager) {
+        this.colonizationManager = colonizationManager;
+    }
+
+    public void setWorldMap(WorldMap worldMap) {
+        this.worldMap = worldMap;
+    }
+
+    public void setWarForecaster(WarForecaster warForecaster) {
+        this.warForecaster = warForecaster;
+    }
+
+    // The date is the engine's own, which advances in place
+    public void setDynastyManager(DynastyManager dynastyManager, GameDate date) {
+        this.dynastyManager = dynastyManager;
+        this.date = date;
+    }
+}
@@ -2,13 +2,15 @@ package com.romagame.country;
 
 import com.romagame.map.WorldMap;
 import com.romagame.map.Country;
+import com.romagame.map.Province;
+import com.romagame.colonization.ColonizationIndex;
 import com.romagame.diplomacy.DiplomacyManager;
 import com.romagame.military.MilitaryManager;
 import com.romagame.economy.EconomyManager;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Map;
-import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class CountryManager {
     private WorldMap worldMap;
@@ -20,9 +22,11 @@ public class CountryManager {
     public CountryManager(WorldMap worldMap, DiplomacyManager diplomacyManager, 
                         MilitaryManager militaryManager, EconomyManager economyManager) {
         this.worldMap = worldMap;
-        this.countries = new HashMap<>();
+        // Nations spawn on the game thread while the UI reads the list
+        this.countries = new ConcurrentHashMap<>();
         this.playerCountry = "France"; // Default player country
         this.aiManager = new AIManager(diplomacyManager, militaryManager, economyManager);
+        this.aiManager.setWorldMap(worldMap);
         this.diplomacyManager = diplomacyManager;
     }
     
@@ -41,10 +45,13 @@ public class CountryManager {
     }
     
     public void processAI() {
-        // Process AI decisions for non-player countries using the new AI manager
-        for (Country country : countries.values()) {
-            aiManager.processAIDecisions(country, playerCountry);
-        }
+        // Each day only a slice of the AI countries re-plans
+        aiManager.processAI(countries, playerCountry);
+    }
+    
+    // Registers a country that appears mid-game, e.g. a spawned historical nation
+    public void addCountry(Country country) {
+        countries.putIfAbsent(country.getName(), country);
     }
     
     public Country getCountry(String name) {
@@ -69,10 +76,19 @@ public class CountryManager {
         // End war between countries
     }
     
+    // Hands a province to the country; taking land from another nation causes aggressive expansion
     public void annexProvince(String country, String provinceId) {
         Country targetCountry = countries.get(country);
-        if (targetCountry != null) {
-            // Transfer province ownership
+        Province province = worldMap.getProvince(provinceId);
+        if (targetCountry == null || province == null || province.getOwnerCountry() == targetCountry) {
+            return;
+        }
+        String formerOwner = province.getOwner();
+        boolean settled = !ColonizationIndex.isColonizable(province);
+        worldMap.transferProvinces(List.of(province), targetCountry);
+        if (settled && formerOwner != null && diplomacyManager != null) {
+            diplomacyManager.addAggression(country, formerOwner,
+                DiplomacyManager.ANNEX_AGGRESSION + province.getDevelopment());
         }
     }
     
@@ -13,11 +13,11 @@ public class Alliance {
         this.duration = 0;
     }
     
-    public void update() {
+    public void update(int days) {
         if (isActive) {
-            duration++;
-            // Check if alliance should break (simplified)
-            if (Math.random() < 0.001) { // 0.1% chance per update
+            duration += days;
+            // Check if alliance should break (simplified): 0.1% chance per day
+            if (Math.random() < 1 - Math.pow(1 - 0.001, days)) {
                 breakAlliance();
             }
         }
@@ -0,0 +1,37 @@
+package com.romagame.diplomacy;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Set;
+
+public class Coalition {
+    private String target;
+    private Set<String> members;
+    private int monthsActive;
+    
+    public Coalition(String target) {
+        this.target = target;
+        this.members = new LinkedHashSet<>();
+        this.monthsActive = 0;
+    }
+    
+    public void update() {
+        monthsActive++;
+    }
+    
+    public boolean addMember(String country) {
+        return !country.equals(target) && members.add(country);
+    }
+    
+    public boolean removeMember(String country) {
+        return members.remove(country);
+    }
+    
+    // Getters
+    public String getTarget() { return target; }
+    public List<String> getMembers() { return new ArrayList<>(members); }
+    public boolean hasMember(String country) { return members.contains(country); }
+    public int getSize() { return members.size(); }
+    public int getMonthsActive() { return monthsActive; }
+}
@@ -0,0 +1,176 @@
+package com.romagame.diplomacy;
+
+import java.util.Map;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.LinkedHashSet;
+
+/**
+ * Tracks aggressive expansion (AE) per victim/aggressor pair and keeps
+ * coalitions against aggressive countries up to date.
+ * Only pairs with AE are stored, and candidacy is only re-evaluated for
+ * aggressors whose AE changed since the last monthly update.
+ */
+public class CoalitionManager {
+    // Two wars on neighbouring countries within a few months are enough to unite them
+    private static final double JOIN_THRESHOLD = 40.0;
+    private static final double LEAVE_THRESHOLD = 20.0;
+    private static final double MONTHLY_DECAY = 2.0;
+    private static final double MAX_AE = 200.0;
+    private static final double FRIENDLY_RELATION = 25.0;
+    private static final int MIN_MEMBERS = 2;
+    
+    private DiplomacyManager diplomacyManager;
+    // aggressor -> victim -> AE
+    private Map<String, Map<String, Double>> aggression;
+    private Set<String> dirtyAggressors;
+    private Map<String, Coalition> coalitions;
+    
+    public CoalitionManager(DiplomacyManager diplomacyManager) {
+        this.diplomacyManager = diplomacyManager;
+        aggression = new HashMap<>();
+        dirtyAggressors = new LinkedHashSet<>();
+        coalitions = new LinkedHashMap<>();
+    }
+    
+    public void addAggressiveExpansion(String aggressor, String victim, double amount) {
+        if (aggressor.equals(victim) || amount == 0) {
+            return;
+        }
+        Map<String, Double> victims = aggression.computeIfAbsent(aggressor, k -> new HashMap<>());
+        double value = Math.max(0, Math.min(MAX_AE, victims.getOrDefault(victim, 0.0) + amount));
+        if (value > 0) {
+            victims.put(victim, value);
+        } else {
+            victims.remove(victim);
+        }
+        if (victims.isEmpty()) {
+            aggression.remove(aggressor);
+        }
+        dirtyAggressors.add(aggressor);
+    }
+    
+    // Force candidacy for the given aggressor to be re-checked next update
+    public void markDirty(String aggressor) {
+        dirtyAggressors.add(aggressor);
+    }
+    
+    // Monthly: decay AE, then re-evaluate coalitions whose inputs changed
+    public void update() {
+        decayAggression();
+        for (String aggressor : dirtyAggressors) {
+            evaluateCoalition(aggressor);
+        }
+        dirtyAggressors.clear();
+        for (Coalition coalition : coalitions.values()) {
+            coalition.update();
+        }
+    }
+    
+    private void decayAggression() {
+        Iterator<Map.Entry<String, Map<String, Double>>> it = aggression.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Map<String, Double>> entry = it.next();
+            String aggressor = entry.getKey();
+            Coalition coalition = coalitions.get(aggressor);
+            Iterator<Map.Entry<String, Double>> victims = entry.getValue().entrySet().iterator();
+            while (victims.hasNext()) {
+                Map.Entry<String, Double> victim = victims.next();
+                double value = victim.getValue() - MONTHLY_DECAY;
+                // Only crossing the leave threshold can change a coalition
+                if (coalition != null && value < LEAVE_THRESHOLD && coalition.hasMember(victim.getKey())) {
+                    dirtyAggressors.add(aggressor);
+                }
+                if (value <= 0) {
+                    victims.remove();
+                } else {
+                    victim.setValue(value);
+                }
+            }
+            if (entry.getValue().isEmpty()) {
+                it.remove();
+                if (coalition != null) {
+                    dirtyAggressors.add(aggressor);
+                }
+            }
+        }
+    }
+    
+    private void evaluateCoalition(String aggressor) {
+        Map<String, Double> victims = aggression.getOrDefault(aggressor, new HashMap<>());
+        Coalition coalition = coalitions.get(aggressor);
+        boolean existed = coalition != null;
+        if (coalition == null) {
+            coalition = new Coalition(aggressor);
+        }
+        
+        // Drop members that have calmed down or made friends with the target
+        for (String member : coalition.getMembers()) {
+            if (victims.getOrDefault(member, 0.0) < LEAVE_THRESHOLD || isFriendly(member, aggressor)) {
+                coalition.removeMember(member);
+            }
+        }
+        
+        // Add new candidates
+        List<String> joined = new ArrayList<>();
+        for (Map.Entry<String, Double> entry : victims.entrySet()) {
+            String victim = entry.getKey();
+            if (entry.getValue() >= JOIN_THRESHOLD && !coalition.hasMember(victim) && !isFriendly(victim, aggressor)) {
+                coalition.addMember(victim);
+                joined.add(victim);
+            }
+        }
+        
+        if (coalition.getSize() < MIN_MEMBERS) {
+            if (existed) {
+                coalitions.remove(aggressor);
+                System.out.println("Coalition against " + aggressor + " dissolved");
+            }
+            return;
+        }
+        if (!existed) {
+            coalitions.put(aggressor, coalition);
+            System.out.println("Coalition formed against " + aggressor + ": " + coalition.getMembers());
+        }
+        for (String member : joined) {
+            diplomacyManager.modifyRelation(member, aggressor, -10.0);
+        }
+    }
+    
+    private boolean isFriendly(String country, String aggressor) {
+        return diplomacyManager.areAllied(country, aggressor)
+            || diplomacyManager.getRelation(country, aggressor) >= FRIENDLY_RELATION;
+    }
+    
+    public double getAggressiveExpansion(String aggressor, String victim) {
+        Map<String, Double> victims = aggression.get(aggressor);
+        return victims != null ? victims.getOrDefault(victim, 0.0) : 0.0;
+    }
+    
+    public List<String> getVictimsOf(String aggressor) {
+        Map<String, Double> victims = aggression.get(aggressor);
+        return victims != null ? new ArrayList<>(victims.keySet()) : new ArrayList<>();
+    }
+    
+    public Coalition getCoalitionAgainst(String target) {
+        return coalitions.get(target);
+    }
+    
+    public List<Coalition> getCoalitions() {
+        return new ArrayList<>(coalitions.values());
+    }
+    
+    public List<Coalition> getCoalitionsWithMember(String country) {
+        List<Coalition> result = new ArrayList<>();
+        for (Coalition coalition : coalitions.values()) {
+            if (coalition.hasMember(country)) {
+                result.add(coalition);
+            }
+        }
+        return result;
+    }
+}
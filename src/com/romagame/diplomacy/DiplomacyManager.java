@@ -2,56 +2,106 @@ package com.romagame.diplomacy;
 
 import java.util.Map;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Iterator;
 import java.util.Random;
 import com.romagame.map.Country;
+import com.romagame.core.GameScheduler;
 
 public class DiplomacyManager {
+    // Aggressive expansion from declaring a war and from taking a province (plus its development)
+    public static final double WAR_AGGRESSION = 30.0;
+    public static final double ANNEX_AGGRESSION = 10.0;
+    // Share of the victim's AE felt by the aggressor's other contacts, scaled by their proximity
+    private static final double AGGRESSION_SPREAD = 0.5;
+    
     private Map<String, Map<String, DiplomaticRelation>> relations;
-    private List<Alliance> alliances;
+    // Countries with relations, grouped by scheduler bucket so each daily pass only touches its own
+    private List<List<String>> relationsByBucket;
+    private Map<Long, Alliance> alliances;
     private List<TradeAgreement> tradeAgreements;
     private List<War> activeWars;
     private Random random;
     private com.romagame.country.CountryManager countryManager;
+    private CoalitionManager coalitionManager;
+    private List<WarListener> warListeners;
+    private ThreatCache threatCache;
+    // Bumped for both sides whenever a relation, alliance or war between them changes
+    private Map<String, Integer> diplomaticVersions;
+    
+    // Membership indexes, kept in sync by formAlliance, breakAlliance, declareWar and makePeace.
+    // Countries get a dense id the first time they take part in an alliance or war.
+    private Map<String, Integer> countryIds;
+    private List<String> countryNames;
+    private List<BitSet> allySets;
+    private List<BitSet> enemySets;
+    private Map<Long, War> warsByPair;
+    private Map<String, List<War>> warsByCountry;
     
     public DiplomacyManager(com.romagame.country.CountryManager countryManager) {
         this.countryManager = countryManager;
         relations = new HashMap<>();
-        alliances = new ArrayList<>();
+        relationsByBucket = new ArrayList<>();
+        for (int i = 0; i < GameScheduler.BUCKETS; i++) {
+            relationsByBucket.add(new ArrayList<>());
+        }
+        alliances = new LinkedHashMap<>();
         tradeAgreements = new ArrayList<>();
         activeWars = new ArrayList<>();
         random = new Random();
+        countryIds = new HashMap<>();
+        countryNames = new ArrayList<>();
+        allySets = new ArrayList<>();
+        enemySets = new ArrayList<>();
+        warsByPair = new HashMap<>();
+        warsByCountry = new HashMap<>();
+        coalitionManager = new CoalitionManager(this);
+        warListeners = new ArrayList<>();
+        diplomaticVersions = new HashMap<>();
+        threatCache = new ThreatCache(this);
     }
     
     public void update() {
-        // Update diplomatic relations
-        updateRelations();
+        // Daily: wars
+        updateWars();
+    }
+    
+    public void updateMonthly() {
         updateAlliances();
         updateTradeAgreements();
-        updateWars();
+        coalitionManager.update();
     }
     
-    private void updateRelations() {
-        // Natural relation drift
-        for (Map<String, DiplomaticRelation> countryRelations : relations.values()) {
-            for (DiplomaticRelation relation : countryRelations.values()) {
-                relation.update();
+    // Called daily by the scheduler; each country's relations drift once per bucket cycle
+    public void updateRelations(int bucket) {
+        for (String country : relationsByBucket.get(bucket)) {
+            for (DiplomaticRelation relation : relations.get(country).values()) {
+                relation.update(GameScheduler.BUCKETS);
             }
+            bumpVersion(country);
         }
     }
     
     private void updateAlliances() {
-        // Check alliance conditions
-        for (Alliance alliance : alliances) {
-            alliance.update();
+        // Check alliance conditions, dropping alliances that broke down on their own
+        Iterator<Alliance> it = alliances.values().iterator();
+        while (it.hasNext()) {
+            Alliance alliance = it.next();
+            alliance.update(30);
+            if (!alliance.isActive()) {
+                it.remove();
+                unindexAlliance(alliance.getCountry1(), alliance.getCountry2());
+            }
         }
     }
     
     private void updateTradeAgreements() {
         // Update trade agreement effects
         for (TradeAgreement agreement : tradeAgreements) {
-            agreement.update();
+            agreement.update(30);
         }
     }
     
@@ -65,19 +115,38 @@ public class DiplomacyManager {
             if (war.canMakePeace() && random.nextDouble() < 0.1) { // 10% chance to end war
                 endWar(war);
                 activeWars.remove(i);
+                unindexWar(war);
             }
         }
     }
     
     public void setRelation(String country1, String country2, double value) {
-        relations.computeIfAbsent(country1, k -> new HashMap<>());
-        relations.computeIfAbsent(country2, k -> new HashMap<>());
+        relationsOf(country1);
+        relationsOf(country2);
         
         DiplomaticRelation relation1 = new DiplomaticRelation(country1, country2, value);
         DiplomaticRelation relation2 = new DiplomaticRelation(country2, country1, value);
         
         relations.get(country1).put(country2, relation1);
         relations.get(country2).put(country1, relation2);
+        bumpVersions(country1, country2);
+    }
+    
+    // Creates the country's relations map on first use and files it under its bucket
+    private Map<String, DiplomaticRelation> relationsOf(String country) {
+        Map<String, DiplomaticRelation> countryRelations = relations.get(country);
+        if (countryRelations == null) {
+            countryRelations = new HashMap<>();
+            relations.put(country, countryRelations);
+            relationsByBucket.get(GameScheduler.bucketOf(country)).add(country);
+        }
+        return countryRelations;
+    }
+    
+    // Countries this country has an explicit relation with
+    public List<String> getKnownCountries(String country) {
+        Map<String, DiplomaticRelation> countryRelations = relations.get(country);
+        return countryRelations != null ? new ArrayList<>(countryRelations.keySet()) : new ArrayList<>();
     }
     
     public double getRelation(String country1, String country2) {
@@ -97,6 +166,7 @@ public class DiplomacyManager {
             DiplomaticRelation relation = countryRelations.get(country2);
             if (relation != null) {
                 relation.modify(change);
+                bumpVersions(country1, country2);
             }
         }
     }
@@ -131,10 +201,11 @@ public class DiplomacyManager {
     
     public boolean breakAlliance(String country1, String country2) {
         // Remove alliance
-        alliances.removeIf(a -> 
-            (a.getCountry1().equals(country1) && a.getCountry2().equals(country2)) ||
-            (a.getCountry1().equals(country2) && a.getCountry2().equals(country1))
-        );
+        long key = existingPairKey(country1, country2);
+        Alliance alliance = key >= 0 ? alliances.remove(key) : null;
+        if (alliance != null) {
+            unindexAlliance(country1, country2);
+        }
         
         // Penalty for breaking alliance
         modifyRelation(country1, country2, -20.0);
@@ -150,10 +221,24 @@ public class DiplomacyManager {
         
         // Create new war
         War war = new War(attacker, defender);
+        // Attacking a coalition member brings the rest of the coalition in on the defending side
+        Coalition coalition = coalitionManager.getCoalitionAgainst(attacker);
+        if (coalition != null && coalition.hasMember(defender)) {
+            for (String member : coalition.getMembers()) {
+                if (!areAllied(member, attacker)) {
+                    war.addParticipant(member, false);
+                }
+            }
+        }
         activeWars.add(war);
+        indexWar(war);
+        for (WarListener listener : warListeners) {
+            listener.warDeclared(war);
+        }
         
         // Set relations to hostile
         setRelation(attacker, defender, -50.0);
+        addAggression(attacker, defender, WAR_AGGRESSION);
         
         System.out.println("War declared: " + attacker + " vs " + defender);
         return true;
@@ -164,6 +249,7 @@ public class DiplomacyManager {
         if (war != null) {
             endWar(war);
             activeWars.remove(war);
+            unindexWar(war);
             
             // Improve relations after peace
             modifyRelation(country1, country2, 10.0);
@@ -185,20 +271,24 @@ public class DiplomacyManager {
     }
     
     public boolean isAtWar(String country1, String country2) {
-        return activeWars.stream().anyMatch(war -> 
-            (war.getAttacker().equals(country1) && war.getDefender().equals(country2)) ||
-            (war.getAttacker().equals(country2) && war.getDefender().equals(country1))
-        );
+        Integer id1 = countryIds.get(country1);
+        Integer id2 = countryIds.get(country2);
+        return id1 != null && id2 != null && enemySets.get(id1).get(id2);
     }
     
     public War getWarBetween(String country1, String country2) {
-        return activeWars.stream()
-            .filter(war -> 
-                (war.getAttacker().equals(country1) && war.getDefender().equals(country2)) ||
-                (war.getAttacker().equals(country2) && war.getDefender().equals(country1))
-            )
-            .findFirst()
-            .orElse(null);
+        long key = existingPairKey(country1, country2);
+        if (key < 0) return null;
+        War war = warsByPair.get(key);
+        if (war == null && isAtWar(country1, country2)) {
+            // Fighting through an ally's war
+            for (War other : warsByCountry.get(country1)) {
+                if (other.getOpponents(country1).contains(country2)) {
+                    return other;
+                }
+            }
+        }
+        return war;
     }
     
     public List<War> getWars() {
@@ -206,23 +296,30 @@ public class DiplomacyManager {
     }
     
     public List<War> getWarsInvolving(String country) {
-        return activeWars.stream()
-            .filter(war -> war.getParticipants().contains(country))
-            .collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+        List<War> wars = warsByCountry.get(country);
+        return wars != null ? new ArrayList<>(wars) : new ArrayList<>();
     }
     
     // Alliance Management
     public void formAlliance(String country1, String country2) {
+        long key = pairKey(country1, country2);
+        if (country1.equals(country2) || alliances.containsKey(key)) {
+            return;
+        }
         Alliance alliance = new Alliance(country1, country2);
-        alliances.add(alliance);
+        alliances.put(key, alliance);
+        int id1 = countryId(country1);
+        int id2 = countryId(country2);
+        allySets.get(id1).set(id2);
+        allySets.get(id2).set(id1);
+        bumpVersions(country1, country2);
         System.out.println("Alliance formed: " + country1 + " and " + country2);
     }
     
     public boolean areAllied(String country1, String country2) {
-        return alliances.stream().anyMatch(alliance ->
-            (alliance.getCountry1().equals(country1) && alliance.getCountry2().equals(country2)) ||
-            (alliance.getCountry1().equals(country2) && alliance.getCountry2().equals(country1))
-        );
+        Integer id1 = countryIds.get(country1);
+        Integer id2 = countryIds.get(country2);
+        return id1 != null && id2 != null && allySets.get(id1).get(id2);
     }
     
     public void formTradeAgreement(String country1, String country2) {
@@ -233,7 +330,7 @@ public class DiplomacyManager {
     
     // Getters
     public List<Alliance> getAlliances() {
-        return new ArrayList<>(alliances);
+        return new ArrayList<>(alliances.values());
     }
     
     public List<TradeAgreement> getTradeAgreements() {
@@ -245,29 +342,98 @@ public class DiplomacyManager {
     }
     
     public List<String> getEnemies(String country) {
-        List<String> enemies = new ArrayList<>();
-        for (War war : activeWars) {
-            if (war.getParticipants().contains(country)) {
-                for (String participant : war.getParticipants()) {
-                    if (!participant.equals(country)) {
-                        enemies.add(participant);
-                    }
+        Integer id = countryIds.get(country);
+        return id != null ? namesOf(enemySets.get(id)) : new ArrayList<>();
+    }
+    
+    public List<String> getAllies(String country) {
+        Integer id = countryIds.get(country);
+        return id != null ? namesOf(allySets.get(id)) : new ArrayList<>();
+    }
+    
+    // --- Membership index maintenance ---
+    
+    private int countryId(String country) {
+        Integer id = countryIds.get(country);
+        if (id == null) {
+            id = countryNames.size();
+            countryIds.put(country, id);
+            countryNames.add(country);
+            allySets.add(new BitSet());
+            enemySets.add(new BitSet());
+        }
+        return id;
+    }
+    
+    // Order-independent key for a pair of countries
+    private long pairKey(String country1, String country2) {
+        long id1 = countryId(country1);
+        long id2 = countryId(country2);
+        return id1 < id2 ? (id1 << 32) | id2 : (id2 << 32) | id1;
+    }
+    
+    // Same key for lookups, without registering unseen names; -1 if either country is unknown
+    private long existingPairKey(String country1, String country2) {
+        Integer id1 = countryIds.get(country1);
+        Integer id2 = countryIds.get(country2);
+        if (id1 == null || id2 == null) return -1;
+        long a = id1, b = id2;
+        return a < b ? (a << 32) | b : (b << 32) | a;
+    }
+    
+    private List<String> namesOf(BitSet bits) {
+        List<String> names = new ArrayList<>(bits.cardinality());
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            names.add(countryNames.get(i));
+        }
+        return names;
+    }
+    
+    private void unindexAlliance(String country1, String country2) {
+        int id1 = countryId(country1);
+        int id2 = countryId(country2);
+        allySets.get(id1).clear(id2);
+        allySets.get(id2).clear(id1);
+        bumpVersions(country1, country2);
+    }
+    
+    private void indexWar(War war) {
+        warsByPair.put(pairKey(war.getAttacker(), war.getDefender()), war);
+        for (String participant : war.getParticipants()) {
+            warsByCountry.computeIfAbsent(participant, k -> new ArrayList<>()).add(war);
+        }
+        rebuildEnemies(war);
+    }
+    
+    private void unindexWar(War war) {
+        for (WarListener listener : warListeners) {
+            listener.warEnded(war);
+        }
+        warsByPair.remove(pairKey(war.getAttacker(), war.getDefender()));
+        for (String participant : war.getParticipants()) {
+            List<War> wars = warsByCountry.get(participant);
+            if (wars != null) {
+                wars.remove(war);
+                if (wars.isEmpty()) {
+                    warsByCountry.remove(participant);
                 }
             }
         }
-        return enemies;
+        rebuildEnemies(war);
     }
     
-    public List<String> getAllies(String country) {
-        List<String> allies = new ArrayList<>();
-        for (Alliance alliance : alliances) {
-            if (alliance.getCountry1().equals(country)) {
-                allies.add(alliance.getCountry2());
-            } else if (alliance.getCountry2().equals(country)) {
-                allies.add(alliance.getCountry1());
+    // Recompute enemy sets for everyone in the given war from their remaining wars - O(degree)
+    private void rebuildEnemies(War war) {
+        for (String participant : war.getParticipants()) {
+            BitSet enemies = enemySets.get(countryId(participant));
+            enemies.clear();
+            bumpVersion(participant);
+            for (War other : warsByCountry.getOrDefault(participant, new ArrayList<>())) {
+                for (String opponent : other.getOpponents(participant)) {
+                    enemies.set(countryId(opponent));
+                }
             }
         }
-        return allies;
     }
     
     // Enhanced relation calculation
@@ -281,30 +447,76 @@ public class DiplomacyManager {
 
     // Aggression-diplo stat management
     public void addAggression(String countryName, double amount) {
-        Country country = countryManager.getCountry(countryName);
+        Country country = findCountry(countryName);
         if (country != null) {
             country.addAggressionDiplo(amount);
         }
     }
+    
+    // Aggression against a specific victim also counts towards coalitions; nearby countries feel part of it
+    public void addAggression(String aggressor, String victim, double amount) {
+        addAggression(aggressor, amount);
+        coalitionManager.addAggressiveExpansion(aggressor, victim, amount);
+        ThreatAssessment assessment = threatCache.get(aggressor);
+        if (assessment != null) {
+            for (ThreatAssessment.Contact contact : assessment.getContacts()) {
+                if (!contact.getName().equals(victim) && !contact.isAllied()) {
+                    coalitionManager.addAggressiveExpansion(aggressor, contact.getName(),
+                        amount * AGGRESSION_SPREAD * contact.getProximity());
+                }
+            }
+        }
+        Country country = findCountry(aggressor);
+        if (country != null) {
+            checkAggressionEffects(country);
+        }
+    }
 
     public void checkAggressionEffects(com.romagame.map.Country country) {
         double aggro = country.getAggressionDiplo();
         if (aggro > 50) {
-            // Sanctions: reduce trade, worsen relations
-            for (com.romagame.map.Country other : countryManager.getAllCountries()) {
-                if (!other.getName().equals(country.getName())) {
-                    modifyRelation(other.getName(), country.getName(), -10.0);
-                }
-            }
-        }
-        if (aggro > 100) {
-            // Coalition: AI nations may form a coalition
-            for (com.romagame.map.Country other : countryManager.getAllCountries()) {
-                if (!other.getName().equals(country.getName()) && getRelation(other.getName(), country.getName()) < -25) {
-                    formAlliance(other.getName(), "Coalition vs " + country.getName());
-                }
+            // Sanctions: only countries that suffered from the aggression react, harder the more they feel threatened
+            for (String victim : coalitionManager.getVictimsOf(country.getName())) {
+                ThreatAssessment assessment = threatCache.get(victim);
+                double fear = assessment != null ? Math.min(1.0, assessment.getThreatFrom(country.getName())) : 0.0;
+                modifyRelation(victim, country.getName(), -10.0 * (1.0 + fear));
             }
         }
+        // Coalitions are formed by the coalition manager on its monthly update
+        coalitionManager.markDirty(country.getName());
+    }
+    
+    public void addWarListener(WarListener listener) {
+        warListeners.add(listener);
+    }
+    
+    public ThreatCache getThreatCache() {
+        return threatCache;
+    }
+    
+    public void setWorldMap(com.romagame.map.WorldMap worldMap) {
+        threatCache.setWorldMap(worldMap);
+    }
+    
+    public int getDiplomaticVersion(String country) {
+        return diplomaticVersions.getOrDefault(country, 0);
+    }
+    
+    Country findCountry(String name) {
+        return countryManager != null ? countryManager.getCountry(name) : null;
+    }
+    
+    private void bumpVersion(String country) {
+        diplomaticVersions.merge(country, 1, Integer::sum);
+    }
+    
+    private void bumpVersions(String country1, String country2) {
+        bumpVersion(country1);
+        bumpVersion(country2);
+    }
+    
+    public CoalitionManager getCoalitionManager() {
+        return coalitionManager;
     }
 
     public List<String> listAllWars() {
@@ -21,12 +21,13 @@ public class DiplomaticRelation {
         return "Hostile";
     }
     
-    public void update() {
+    public void update(int days) {
         // Natural relation drift towards neutral
+        double drift = 0.01 * days;
         if (value > 0) {
-            value = Math.max(0, value - 0.01);
+            value = Math.max(0, value - drift);
         } else if (value < 0) {
-            value = Math.min(0, value + 0.01);
+            value = Math.min(0, value + drift);
         }
         status = determineStatus(value);
     }
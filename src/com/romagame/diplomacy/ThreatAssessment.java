@@ -0,0 +1,108 @@
+package com.romagame.diplomacy;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Collections;
+
+/**
+ * Snapshot of how one country sees the countries around it: each contact's
+ * strength relative to ours (allies included), relations, alliance and war
+ * status, distance, and the threat that adds up to. Built by ThreatCache and
+ * valid until one of the versions it was computed from changes.
+ */
+public class ThreatAssessment {
+    private final String country;
+    private final List<Contact> contacts;
+    private final double threat;
+    private final Contact biggestThreat;
+
+    // Versions of every input, checked by ThreatCache before reuse
+    final int diplomaticVersion;
+    final int adjacencyVersion;
+    final String[] inputs;
+    final int[] inputVersions;
+
+    ThreatAssessment(String country, List<Contact> contacts, int diplomaticVersion, int adjacencyVersion,
+                     String[] inputs, int[] inputVersions) {
+        this.country = country;
+        this.contacts = Collections.unmodifiableList(contacts);
+        this.diplomaticVersion = diplomaticVersion;
+        this.adjacencyVersion = adjacencyVersion;
+        this.inputs = inputs;
+        this.inputVersions = inputVersions;
+        double total = 0.0;
+        Contact biggest = null;
+        for (Contact contact : contacts) {
+            total += contact.threat;
+            if (contact.threat > 0 && (biggest == null || contact.threat > biggest.threat)) {
+                biggest = contact;
+            }
+        }
+        this.threat = total;
+        this.biggestThreat = biggest;
+    }
+
+    public String getCountry() { return country; }
+    public List<Contact> getContacts() { return contacts; }
+    public double getThreat() { return threat; }
+    public Contact getBiggestThreat() { return biggestThreat; }
+
+    public Contact getContact(String other) {
+        for (Contact contact : contacts) {
+            if (contact.name.equals(other)) return contact;
+        }
+        return null;
+    }
+
+    public double getThreatFrom(String other) {
+        Contact contact = getContact(other);
+        return contact != null ? contact.threat : 0.0;
+    }
+
+    // Contacts we outmatch by at least the given factor and could attack
+    public List<Contact> getTargets(double minAdvantage) {
+        List<Contact> targets = new ArrayList<>();
+        for (Contact contact : contacts) {
+            if (!contact.allied && !contact.atWar && contact.getAdvantage() >= minAdvantage) {
+                targets.add(contact);
+            }
+        }
+        return targets;
+    }
+
+    public static class Contact {
+        private final String name;
+        private final double strengthRatio; // their strength / ours
+        private final double relation;
+        private final boolean allied;
+        private final boolean atWar;
+        private final boolean neighbor;
+        private final double distance;
+        private final double proximity;
+        private final double threat;
+
+        Contact(String name, double strengthRatio, double relation, boolean allied, boolean atWar,
+                boolean neighbor, double distance, double proximity, double threat) {
+            this.name = name;
+            this.strengthRatio = strengthRatio;
+            this.relation = relation;
+            this.allied = allied;
+            this.atWar = atWar;
+            this.neighbor = neighbor;
+            this.distance = distance;
+            this.proximity = proximity;
+            this.threat = threat;
+        }
+
+        public String getName() { return name; }
+        public double getStrengthRatio() { return strengthRatio; }
+        public double getAdvantage() { return strengthRatio > 0 ? 1.0 / strengthRatio : Double.MAX_VALUE; }
+        public double getRelation() { return relation; }
+        public boolean isAllied() { return allied; }
+        public boolean isAtWar() { return atWar; }
+        public boolean isNeighbor() { return neighbor; }
+        public double getDistance() { return distance; }
+        public double getProximity() { return proximity; }
+        public double getThreat() { return threat; }
+    }
+}
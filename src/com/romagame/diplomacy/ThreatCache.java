@@ -0,0 +1,144 @@
+package com.romagame.diplomacy;
+
+import com.romagame.map.Country;
+import com.romagame.map.WorldMap;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Set;
+import java.util.LinkedHashSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-country threat and opportunity assessments, computed on demand and
+ * reused until an input changes. An entry is stale when the country's
+ * diplomatic version, the adjacency version, or the CountryStats military
+ * version of any country it read (itself, its allies, its contacts) has moved on.
+ * Checking that is a handful of int compares, so repeated lookups within a
+ * tick are effectively free. Safe to query from the AI think threads.
+ */
+public class ThreatCache {
+    // Share of an ally's army counted towards our own strength
+    private static final double ALLY_SUPPORT = 0.5;
+    // Map distance at which a non-neighbour's threat is halved
+    private static final double DISTANCE_SCALE = 200.0;
+    // Hostility of a neutral (relation 0) country; allies are never hostile and enemies always are
+    private static final double BASE_HOSTILITY = 0.25;
+
+    private DiplomacyManager diplomacyManager;
+    private WorldMap worldMap;
+    private Map<String, ThreatAssessment> cache;
+    private AtomicLong hits;
+    private AtomicLong misses;
+
+    public ThreatCache(DiplomacyManager diplomacyManager) {
+        this.diplomacyManager = diplomacyManager;
+        this.cache = new ConcurrentHashMap<>();
+        this.hits = new AtomicLong();
+        this.misses = new AtomicLong();
+    }
+
+    public void setWorldMap(WorldMap worldMap) {
+        this.worldMap = worldMap;
+        cache.clear();
+    }
+
+    // Current assessment for a country, or null if the country is unknown
+    public ThreatAssessment get(String countryName) {
+        Country country = diplomacyManager.findCountry(countryName);
+        if (country == null) return null;
+        ThreatAssessment cached = cache.get(countryName);
+        if (cached != null && isCurrent(cached)) {
+            hits.incrementAndGet();
+            return cached;
+        }
+        misses.incrementAndGet();
+        ThreatAssessment fresh = assess(country);
+        cache.put(countryName, fresh);
+        return fresh;
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    public long getHits() { return hits.get(); }
+    public long getMisses() { return misses.get(); }
+
+    private boolean isCurrent(ThreatAssessment assessment) {
+        if (assessment.diplomaticVersion != diplomacyManager.getDiplomaticVersion(assessment.getCountry())) return false;
+        if (assessment.adjacencyVersion != adjacencyVersion()) return false;
+        for (int i = 0; i < assessment.inputs.length; i++) {
+            if (statsVersion(assessment.inputs[i]) != assessment.inputVersions[i]) return false;
+        }
+        return true;
+    }
+
+    private ThreatAssessment assess(Country country) {
+        String name = country.getName();
+        int diplomaticVersion = diplomacyManager.getDiplomaticVersion(name);
+        int adjacencyVersion = adjacencyVersion();
+        List<String> inputs = new ArrayList<>();
+        inputs.add(name);
+
+        double ourStrength = country.getStats().getTotalUnits();
+        for (String ally : diplomacyManager.getAllies(name)) {
+            Country allyCountry = diplomacyManager.findCountry(ally);
+            if (allyCountry != null) {
+                ourStrength += ALLY_SUPPORT * allyCountry.getStats().getTotalUnits();
+                inputs.add(ally);
+            }
+        }
+
+        Set<String> neighbors = worldMap != null ? worldMap.getAdjacency().getNeighborCountries(country) : Set.of();
+        Set<String> candidates = new LinkedHashSet<>(neighbors);
+        candidates.addAll(diplomacyManager.getKnownCountries(name));
+        candidates.addAll(diplomacyManager.getEnemies(name));
+        candidates.remove(name);
+
+        double[] center = centerOf(country);
+        List<ThreatAssessment.Contact> contacts = new ArrayList<>();
+        for (String other : candidates) {
+            Country otherCountry = diplomacyManager.findCountry(other);
+            if (otherCountry == null) continue;
+            inputs.add(other);
+            double theirStrength = otherCountry.getStats().getTotalUnits();
+            double ratio = theirStrength / Math.max(1.0, ourStrength);
+            double relation = diplomacyManager.getRelation(name, other);
+            boolean allied = diplomacyManager.areAllied(name, other);
+            boolean atWar = diplomacyManager.isAtWar(name, other);
+            boolean neighbor = neighbors.contains(other);
+
+            double distance = 0.0;
+            double[] otherCenter = centerOf(otherCountry);
+            if (center != null && otherCenter != null) {
+                distance = Math.hypot(center[0] - otherCenter[0], center[1] - otherCenter[1]);
+            }
+            double proximity = neighbor ? 1.0 : 1.0 / (1.0 + distance / DISTANCE_SCALE);
+            double hostility = atWar ? 1.0 : allied ? 0.0 : Math.max(0.0, Math.min(1.0, BASE_HOSTILITY - relation / 100.0));
+            contacts.add(new ThreatAssessment.Contact(other, ratio, relation, allied, atWar, neighbor,
+                distance, proximity, ratio * hostility * proximity));
+        }
+
+        String[] inputNames = inputs.toArray(new String[0]);
+        int[] inputVersions = new int[inputNames.length];
+        for (int i = 0; i < inputNames.length; i++) {
+            inputVersions[i] = statsVersion(inputNames[i]);
+        }
+        return new ThreatAssessment(name, contacts, diplomaticVersion, adjacencyVersion, inputNames, inputVersions);
+    }
+
+    private double[] centerOf(Country country) {
+        return worldMap != null ? worldMap.getAdjacency().getCenter(country) : null;
+    }
+
+    private int adjacencyVersion() {
+        return worldMap != null ? worldMap.getAdjacency().getVersion() : 0;
+    }
+
+    private int statsVersion(String countryName) {
+        Country country = diplomacyManager.findCountry(countryName);
+        return country != null ? country.getStats().getMilitaryVersion() : -1;
+    }
+}
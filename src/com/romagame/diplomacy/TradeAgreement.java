@@ -13,10 +13,10 @@ public class TradeAgreement {
         this.tradeBonus = 0.1; // 10% trade bonus
     }
     
-    public void update() {
+    public void update(int days) {
         if (isActive) {
-            // Check if agreement should end (simplified)
-            if (Math.random() < 0.0005) { // 0.05% chance per update
+            // Check if agreement should end (simplified): 0.05% chance per day
+            if (Math.random() < 1 - Math.pow(1 - 0.0005, days)) {
                 endAgreement();
             }
         }
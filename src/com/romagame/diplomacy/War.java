@@ -4,35 +4,46 @@ import java.util.List;
 import java.util.ArrayList;
 import java.util.Map;
 import java.util.HashMap;
-import java.util.Random;
+import java.util.LinkedHashMap;
 
 public class War {
     private String attacker;
     private String defender;
     private double warScore;
+    private double battleScore;
+    private double occupationScore;
     private int duration;
     private boolean active;
     private List<String> participants;
+    private List<String> attackerSide;
+    private List<String> defenderSide;
     private Map<String, Double> warContributions;
     private List<Battle> battles;
-    private List<String> occupiedProvinces;
-    private Random random;
+    // province id -> occupying country, and the war score each occupation is worth
+    private Map<String, String> occupiedProvinces;
+    private Map<String, Double> occupationValues;
     
     public War(String attacker, String defender) {
         this.attacker = attacker;
         this.defender = defender;
         this.warScore = 0.0;
+        this.battleScore = 0.0;
+        this.occupationScore = 0.0;
         this.duration = 0;
         this.active = true;
         this.participants = new ArrayList<>();
+        this.attackerSide = new ArrayList<>();
+        this.defenderSide = new ArrayList<>();
         this.warContributions = new HashMap<>();
         this.battles = new ArrayList<>();
-        this.occupiedProvinces = new ArrayList<>();
-        this.random = new Random();
+        this.occupiedProvinces = new LinkedHashMap<>();
+        this.occupationValues = new HashMap<>();
         
         // Add initial participants
         participants.add(attacker);
         participants.add(defender);
+        attackerSide.add(attacker);
+        defenderSide.add(defender);
         warContributions.put(attacker, 0.0);
         warContributions.put(defender, 0.0);
     }
@@ -42,104 +53,51 @@ public class War {
         
         duration++;
         
-        // Natural war score drift
-        if (warScore > 0) {
-            warScore = Math.max(0, warScore - 0.1);
-        } else if (warScore < 0) {
-            warScore = Math.min(0, warScore + 0.1);
+        // Battle results fade over time; occupations keep counting while they last
+        if (battleScore > 0) {
+            battleScore = Math.max(0, battleScore - 0.1);
+        } else if (battleScore < 0) {
+            battleScore = Math.min(0, battleScore + 0.1);
         }
         
         // Check for war exhaustion
         if (duration > 120) { // 10 years
-            warScore *= 0.95; // War exhaustion penalty
-        }
-        
-        // Random events
-        if (random.nextDouble() < 0.05) { // 5% chance per update
-            generateWarEvent();
+            battleScore *= 0.95; // War exhaustion penalty
         }
+        recalculateWarScore();
     }
     
-    private void generateWarEvent() {
-        double chance = random.nextDouble();
-        if (chance < 0.3) {
-            // Battle event
-            generateBattle();
-        } else if (chance < 0.6) {
-            // Occupation event
-            generateOccupation();
-        } else {
-            // Diplomatic event
-            generateDiplomaticEvent();
-        }
+    // Called by the war engine when armies of the two sides meet
+    public void recordBattle(String winner, String loser, double result) {
+        double swing = Math.min(5.0, Math.abs(result) / 1000.0);
+        battleScore += attackerSide.contains(winner) ? swing : -swing;
+        warContributions.merge(winner, 1.0, Double::sum);
+        battles.add(new Battle(winner, loser, result, duration));
+        recalculateWarScore();
     }
     
-    private void generateBattle() {
-        // Simulate a battle
-        double attackerStrength = calculateMilitaryStrength(attacker);
-        double defenderStrength = calculateMilitaryStrength(defender);
-        
-        // Add random factors
-        attackerStrength *= 0.8 + random.nextDouble() * 0.4; // 80-120% effectiveness
-        defenderStrength *= 0.8 + random.nextDouble() * 0.4;
-        
-        double battleResult = attackerStrength - defenderStrength;
-        
-        if (battleResult > 0) {
-            // Attacker wins
-            warScore += Math.min(5.0, battleResult / 1000.0);
-            warContributions.put(attacker, warContributions.get(attacker) + 1.0);
-        } else {
-            // Defender wins
-            warScore -= Math.min(5.0, Math.abs(battleResult) / 1000.0);
-            warContributions.put(defender, warContributions.get(defender) + 1.0);
-        }
-        
-        // Record battle
-        battles.add(new Battle(attacker, defender, battleResult, duration));
-    }
-    
-    private void generateOccupation() {
-        // Simulate province occupation
-        if (random.nextDouble() < 0.3) { // 30% chance of occupation
-            String occupiedProvince = "province_" + random.nextInt(100);
-            if (!occupiedProvinces.contains(occupiedProvince)) {
-                occupiedProvinces.add(occupiedProvince);
-                if (random.nextBoolean()) {
-                    // Attacker occupies
-                    warScore += 2.0;
-                    warContributions.put(attacker, warContributions.get(attacker) + 2.0);
-                } else {
-                    // Defender recovers
-                    warScore -= 1.0;
-                    warContributions.put(defender, warContributions.get(defender) + 1.0);
-                }
-            }
-        }
+    // Called by the war engine when a siege completes
+    public void recordOccupation(String provinceId, String occupier, double value) {
+        recordLiberation(provinceId);
+        double score = attackerSide.contains(occupier) ? value : -value;
+        occupiedProvinces.put(provinceId, occupier);
+        occupationValues.put(provinceId, score);
+        occupationScore += score;
+        warContributions.merge(occupier, value, Double::sum);
+        recalculateWarScore();
     }
     
-    private void generateDiplomaticEvent() {
-        // Random diplomatic events
-        double event = random.nextDouble();
-        if (event < 0.2) {
-            // Alliance formation
-            warScore += random.nextDouble() * 3.0;
-        } else if (event < 0.4) {
-            // Betrayal
-            warScore -= random.nextDouble() * 3.0;
-        } else if (event < 0.6) {
-            // Peace negotiations
-            warScore *= 0.9; // Reduce war score
-        } else {
-            // Escalation
-            warScore *= 1.1; // Increase war score
+    public void recordLiberation(String provinceId) {
+        occupiedProvinces.remove(provinceId);
+        Double score = occupationValues.remove(provinceId);
+        if (score != null) {
+            occupationScore -= score;
+            recalculateWarScore();
         }
     }
     
-    private double calculateMilitaryStrength(String countryName) {
-        // This would integrate with the military system
-        // For now, return a base strength
-        return 1000.0 + random.nextDouble() * 2000.0;
+    private void recalculateWarScore() {
+        warScore = Math.max(-100.0, Math.min(100.0, battleScore + occupationScore));
     }
     
     public void addParticipant(String country, boolean isAttacker) {
@@ -148,15 +106,20 @@ public class War {
             warContributions.put(country, 0.0);
             
             if (isAttacker) {
-                warScore += 5.0; // Ally joins attacker
+                attackerSide.add(country);
+                battleScore += 5.0; // Ally joins attacker
             } else {
-                warScore -= 5.0; // Ally joins defender
+                defenderSide.add(country);
+                battleScore -= 5.0; // Ally joins defender
             }
+            recalculateWarScore();
         }
     }
     
     public void removeParticipant(String country) {
         participants.remove(country);
+        attackerSide.remove(country);
+        defenderSide.remove(country);
         warContributions.remove(country);
     }
     
@@ -201,9 +164,24 @@ public class War {
     public int getDuration() { return duration; }
     public boolean isActive() { return active; }
     public List<String> getParticipants() { return new ArrayList<>(participants); }
+    public List<String> getAttackerSide() { return new ArrayList<>(attackerSide); }
+    public List<String> getDefenderSide() { return new ArrayList<>(defenderSide); }
+    
+    public boolean isOnAttackerSide(String country) {
+        return attackerSide.contains(country);
+    }
+    
+    // Countries fighting against the given participant
+    public List<String> getOpponents(String country) {
+        if (attackerSide.contains(country)) return new ArrayList<>(defenderSide);
+        if (defenderSide.contains(country)) return new ArrayList<>(attackerSide);
+        return new ArrayList<>();
+    }
     public Map<String, Double> getWarContributions() { return new HashMap<>(warContributions); }
     public List<Battle> getBattles() { return new ArrayList<>(battles); }
-    public List<String> getOccupiedProvinces() { return new ArrayList<>(occupiedProvinces); }
+    public List<String> getOccupiedProvinces() { return new ArrayList<>(occupiedProvinces.keySet()); }
+    public String getOccupier(String provinceId) { return occupiedProvinces.get(provinceId); }
+    public double getOccupationScore() { return occupationScore; }
     
     public static class Battle {
         private String attacker;
@@ -0,0 +1,6 @@
+package com.romagame.diplomacy;
+
+public interface WarListener {
+    void warDeclared(War war);
+    void warEnded(War war);
+}
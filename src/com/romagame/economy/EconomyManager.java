@@ -1,102 +1,119 @@
 package com.romagame.economy;
 
+import com.romagame.map.Country;
+import com.romagame.map.WorldMap;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.List;
 import java.util.ArrayList;
 
 public class EconomyManager {
-    private Map<String, Double> globalPrices;
+    private GoodsCatalog goodsCatalog;
+    private PriceEngine priceEngine;
     private Map<String, TradeRoute> tradeRoutes;
-    private List<TradeNode> tradeNodes;
+    private TradeNetwork tradeNetwork;
+    private WorldMap worldMap;
     
     public EconomyManager() {
-        globalPrices = new HashMap<>();
+        goodsCatalog = new GoodsCatalog();
+        priceEngine = new PriceEngine(goodsCatalog);
         tradeRoutes = new HashMap<>();
-        tradeNodes = new ArrayList<>();
+        tradeNetwork = new TradeNetwork(this);
         initializeEconomy();
     }
     
+    public void setWorldMap(WorldMap worldMap) {
+        this.worldMap = worldMap;
+        tradeNetwork.setWorldMap(worldMap);
+    }
+    
     private void initializeEconomy() {
-        // Initialize global prices for trade goods
-        globalPrices.put("Grain", 2.0);
-        globalPrices.put("Wool", 3.0);
-        globalPrices.put("Wine", 5.0);
-        globalPrices.put("Cloth", 8.0);
-        globalPrices.put("Spices", 15.0);
-        globalPrices.put("Tea", 12.0);
-        globalPrices.put("Furs", 10.0);
-        globalPrices.put("Fish", 4.0);
-        globalPrices.put("Slaves", 20.0);
-        globalPrices.put("Ivory", 25.0);
-        
-        // Initialize major trade nodes
+        // Prices start at the catalog base prices; initialize major trade nodes
         initializeTradeNodes();
     }
     
     private void initializeTradeNodes() {
-        tradeNodes.add(new TradeNode("English Channel", "Western Europe"));
-        tradeNodes.add(new TradeNode("Genoa", "Mediterranean"));
-        tradeNodes.add(new TradeNode("Venice", "Mediterranean"));
-        tradeNodes.add(new TradeNode("Constantinople", "Eastern Mediterranean"));
-        tradeNodes.add(new TradeNode("Alexandria", "Red Sea"));
-        tradeNodes.add(new TradeNode("Malacca", "Southeast Asia"));
-        tradeNodes.add(new TradeNode("Hangzhou", "East Asia"));
-        tradeNodes.add(new TradeNode("Zanzibar", "East Africa"));
-    }
-    
-    public void update() {
-        // Update global economy
-        updatePrices();
-        updateTradeRoutes();
-        updateTradeNodes();
-    }
-    
-    private void updatePrices() {
-        // Simulate price fluctuations
-        for (String good : globalPrices.keySet()) {
-            double currentPrice = globalPrices.get(good);
-            double fluctuation = (Math.random() - 0.5) * 0.1; // ±5% fluctuation
-            globalPrices.put(good, currentPrice * (1 + fluctuation));
-        }
+        // Anchors are map pixel positions; provinces join the nearest node
+        tradeNetwork.addNode(new TradeNode("English Channel", "Western Europe", 2358, 520));
+        tradeNetwork.addNode(new TradeNode("Genoa", "Mediterranean", 2476, 603));
+        tradeNetwork.addNode(new TradeNode("Venice", "Mediterranean", 2515, 583));
+        tradeNetwork.addNode(new TradeNode("Constantinople", "Eastern Mediterranean", 2738, 644));
+        tradeNetwork.addNode(new TradeNode("Alexandria", "Red Sea", 2751, 782));
+        tradeNetwork.addNode(new TradeNode("Malacca", "Southeast Asia", 3694, 1182));
+        tradeNetwork.addNode(new TradeNode("Hangzhou", "East Asia", 3930, 796));
+        tradeNetwork.addNode(new TradeNode("Zanzibar", "East Africa", 2869, 1293));
+        
+        // Trade flows west towards the Mediterranean and the Channel
+        addTradeRoute("Silk Sea Route", "Hangzhou", "Malacca");
+        addTradeRoute("Spice Route", "Malacca", "Alexandria");
+        addTradeRoute("Swahili Coast", "Zanzibar", "Alexandria");
+        addTradeRoute("Levant Route", "Alexandria", "Constantinople");
+        addTradeRoute("Egyptian Grain Route", "Alexandria", "Venice");
+        addTradeRoute("Aegean Route", "Constantinople", "Venice");
+        addTradeRoute("Tyrrhenian Route", "Constantinople", "Genoa");
+        addTradeRoute("Atlantic Route", "Genoa", "English Channel");
     }
     
-    private void updateTradeRoutes() {
-        // Update trade route efficiency and income
-        for (TradeRoute route : tradeRoutes.values()) {
-            route.update();
+    // Monthly, scheduled a day before the trade pass
+    public void updatePrices() {
+        if (worldMap != null) {
+            priceEngine.update(worldMap.getAllProvinces());
         }
     }
     
-    private void updateTradeNodes() {
-        // Update trade node power and income
-        for (TradeNode node : tradeNodes) {
-            node.update();
+    // Monthly
+    public void updateTrade() {
+        tradeNetwork.update();
+        payTradeIncome();
+    }
+    
+    private void payTradeIncome() {
+        if (worldMap == null) return;
+        for (Map.Entry<String, Double> entry : tradeNetwork.getTradeIncomes().entrySet()) {
+            Country country = worldMap.getCountry(entry.getKey());
+            if (country != null && entry.getValue() > 0) {
+                country.setTreasury(country.getTreasury() + entry.getValue());
+            }
         }
     }
     
     public double getPrice(String good) {
-        return globalPrices.getOrDefault(good, 1.0);
+        return priceEngine.getPrice(goodsCatalog.getId(good));
     }
     
     public void setPrice(String good, double price) {
-        globalPrices.put(good, price);
+        priceEngine.setPrice(goodsCatalog.getId(good), price);
+    }
+    
+    public GoodsCatalog getGoodsCatalog() {
+        return goodsCatalog;
+    }
+    
+    public PriceEngine getPriceEngine() {
+        return priceEngine;
     }
     
     public TradeNode getTradeNode(String name) {
-        return tradeNodes.stream()
-                .filter(node -> node.getName().equals(name))
-                .findFirst()
-                .orElse(null);
+        return tradeNetwork.getNode(name);
     }
     
     public List<TradeNode> getAllTradeNodes() {
-        return new ArrayList<>(tradeNodes);
+        return tradeNetwork.getNodes();
     }
     
     public void addTradeRoute(String name, String from, String to) {
         TradeRoute route = new TradeRoute(name, from, to);
-        tradeRoutes.put(name, route);
+        if (tradeNetwork.addRoute(route)) {
+            tradeRoutes.put(name, route);
+        }
+    }
+    
+    public List<TradeRoute> getTradeRoutes() {
+        return new ArrayList<>(tradeRoutes.values());
+    }
+    
+    public TradeNetwork getTradeNetwork() {
+        return tradeNetwork;
     }
     
     public void initializeEconomies() {
@@ -0,0 +1,25 @@
+package com.romagame.economy;
+
+public class Good {
+    public enum Category {
+        STAPLE, MATERIAL, LUXURY
+    }
+    
+    private int id;
+    private String name;
+    private double basePrice;
+    private Category category;
+    
+    public Good(int id, String name, double basePrice, Category category) {
+        this.id = id;
+        this.name = name;
+        this.basePrice = basePrice;
+        this.category = category;
+    }
+    
+    // Getters
+    public int getId() { return id; }
+    public String getName() { return name; }
+    public double getBasePrice() { return basePrice; }
+    public Category getCategory() { return category; }
+}
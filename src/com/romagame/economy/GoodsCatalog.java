@@ -0,0 +1,74 @@
+package com.romagame.economy;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.HashMap;
+
+/**
+ * Every tradeable good, numbered 0..size-1 so per-good data can live in
+ * plain arrays indexed by id.
+ */
+public class GoodsCatalog {
+    private List<Good> goods;
+    private Map<String, Integer> ids;
+    
+    public GoodsCatalog() {
+        goods = new ArrayList<>();
+        ids = new HashMap<>();
+        initializeGoods();
+    }
+    
+    private void initializeGoods() {
+        // Produced by provinces (see Province.determineTradeGoods)
+        register("Grain", 2.0, Good.Category.STAPLE);
+        register("Fish", 4.0, Good.Category.STAPLE);
+        register("Wool", 3.0, Good.Category.MATERIAL);
+        register("Cloth", 8.0, Good.Category.MATERIAL);
+        register("Wine", 5.0, Good.Category.LUXURY);
+        register("Furs", 10.0, Good.Category.LUXURY);
+        register("Spices", 15.0, Good.Category.LUXURY);
+        register("Tea", 12.0, Good.Category.LUXURY);
+        register("Slaves", 20.0, Good.Category.MATERIAL);
+        register("Ivory", 25.0, Good.Category.LUXURY);
+        // Traded goods not yet produced by any province
+        register("Rice", 3.0, Good.Category.STAPLE);
+        register("Olive Oil", 6.0, Good.Category.MATERIAL);
+        register("Silk", 18.0, Good.Category.LUXURY);
+        register("Porcelain", 16.0, Good.Category.LUXURY);
+    }
+    
+    public Good register(String name, double basePrice, Good.Category category) {
+        Integer existing = ids.get(name);
+        if (existing != null) {
+            return goods.get(existing);
+        }
+        Good good = new Good(goods.size(), name, basePrice, category);
+        goods.add(good);
+        ids.put(name, good.getId());
+        return good;
+    }
+    
+    // Dense id of the good, or -1 if it is not in the catalog
+    public int getId(String name) {
+        Integer id = ids.get(name);
+        return id != null ? id : -1;
+    }
+    
+    public Good getGood(int id) {
+        return goods.get(id);
+    }
+    
+    public Good getGood(String name) {
+        int id = getId(name);
+        return id >= 0 ? goods.get(id) : null;
+    }
+    
+    public List<Good> getAllGoods() {
+        return new ArrayList<>(goods);
+    }
+    
+    public int size() {
+        return goods.size();
+    }
+}
@@ -0,0 +1,163 @@
+package com.romagame.economy;
+
+import com.romagame.map.Province;
+import com.romagame.map.Province.PopType;
+import com.romagame.map.ProvinceModifier;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Monthly supply/demand pricing. Supply comes from province production,
+ * demand from pops, and all per-good state lives in arrays indexed by the
+ * catalog id. Prices move part of the way towards their target each month
+ * and the last HISTORY_LENGTH months are kept per good for charts.
+ */
+public class PriceEngine {
+    public static final int HISTORY_LENGTH = 60; // five years of monthly prices
+    private static final double DAMPING = 0.2;
+    private static final double ELASTICITY = 0.5;
+    private static final double MIN_PRICE_FACTOR = 0.25;
+    private static final double MAX_PRICE_FACTOR = 4.0;
+    
+    // Demand per pop for each good category, indexed [PopType.ordinal()][Category.ordinal()]
+    private static final double[][] POP_DEMAND = {
+        {1.0, 2.0, 5.0},   // NOBLES
+        {1.0, 1.5, 1.0},   // CITY_FOLK
+        {1.0, 2.0, 0.3},   // CRAFTSMEN
+        {1.0, 0.3, 0.05},  // PEASANTS
+        {0.8, 0.1, 0.0},   // SLAVES
+        {1.0, 0.2, 0.02},  // SERFS
+        {1.2, 0.5, 0.1}    // SOLDIERS
+    };
+    
+    private GoodsCatalog catalog;
+    private double[] basePrice;
+    private double[] price;
+    private double[] supply;
+    private double[] demand;
+    private int[] category;
+    private double[] categoryWeight; // number of goods sharing each category's demand
+    private double[][] history;
+    private int historyHead;
+    private int historyCount;
+    
+    public PriceEngine(GoodsCatalog catalog) {
+        this.catalog = catalog;
+        resize();
+    }
+    
+    // Reallocate the arrays if goods were added to the catalog
+    private void resize() {
+        int n = catalog.size();
+        double[] oldPrice = price;
+        basePrice = new double[n];
+        price = new double[n];
+        supply = new double[n];
+        demand = new double[n];
+        category = new int[n];
+        categoryWeight = new double[Good.Category.values().length];
+        for (int i = 0; i < n; i++) {
+            Good good = catalog.getGood(i);
+            basePrice[i] = good.getBasePrice();
+            price[i] = oldPrice != null && i < oldPrice.length ? oldPrice[i] : basePrice[i];
+            category[i] = good.getCategory().ordinal();
+            categoryWeight[category[i]]++;
+        }
+        double[][] oldHistory = history;
+        history = new double[n][HISTORY_LENGTH];
+        if (oldHistory != null) {
+            for (int i = 0; i < oldHistory.length; i++) {
+                history[i] = oldHistory[i];
+            }
+        }
+    }
+    
+    public void update(Collection<Province> provinces) {
+        if (catalog.size() != price.length) resize();
+        int n = price.length;
+        Arrays.fill(supply, 0.0);
+        
+        // Supply from production, demand per category from pops
+        double[] categoryDemand = new double[categoryWeight.length];
+        PopType[] popTypes = PopType.values();
+        for (Province province : provinces) {
+            double output = Math.max(0.0, province.getDevelopment() + province.getModifier(ProvinceModifier.PRODUCTION));
+            for (String goodName : province.getTradeGoods()) {
+                int id = catalog.getId(goodName);
+                if (id >= 0) supply[id] += output;
+            }
+            for (PopType type : popTypes) {
+                double pops = province.getPop(type) / 1000.0;
+                double[] weights = POP_DEMAND[type.ordinal()];
+                for (int c = 0; c < weights.length; c++) {
+                    categoryDemand[c] += pops * weights[c];
+                }
+            }
+        }
+        
+        double totalSupply = 0.0;
+        double totalDemand = 0.0;
+        for (int i = 0; i < n; i++) {
+            demand[i] = categoryDemand[category[i]] / categoryWeight[category[i]];
+            // Goods nobody produces have no market; they stay out of the shares
+            if (supply[i] > 0.0) {
+                totalSupply += supply[i];
+                totalDemand += demand[i];
+            }
+        }
+        if (totalSupply == 0.0 || totalDemand == 0.0) return;
+        
+        // Compare each good's share of demand with its share of supply
+        double supplyScale = 1.0 / totalSupply;
+        double demandScale = 1.0 / totalDemand;
+        for (int i = 0; i < n; i++) {
+            double target = basePrice[i]; // unproduced goods drift back to their base price
+            if (supply[i] > 0.0) {
+                double ratio = demand[i] * demandScale / (supply[i] * supplyScale);
+                target = basePrice[i] * Math.pow(ratio, ELASTICITY);
+            }
+            target = Math.max(basePrice[i] * MIN_PRICE_FACTOR, Math.min(basePrice[i] * MAX_PRICE_FACTOR, target));
+            price[i] += DAMPING * (target - price[i]);
+        }
+        recordHistory();
+    }
+    
+    private void recordHistory() {
+        for (int i = 0; i < price.length; i++) {
+            history[i][historyHead] = price[i];
+        }
+        historyHead = (historyHead + 1) % HISTORY_LENGTH;
+        historyCount = Math.min(HISTORY_LENGTH, historyCount + 1);
+    }
+    
+    public double getPrice(int id) {
+        return id >= 0 && id < price.length ? price[id] : 1.0;
+    }
+    
+    public void setPrice(int id, double value) {
+        if (id >= 0 && id < price.length) price[id] = value;
+    }
+    
+    public double getSupply(int id) {
+        return id >= 0 && id < supply.length ? supply[id] : 0.0;
+    }
+    
+    public double getDemand(int id) {
+        return id >= 0 && id < demand.length ? demand[id] : 0.0;
+    }
+    
+    // Recorded prices for the good, oldest first
+    public double[] getPriceHistory(int id) {
+        if (id < 0 || id >= history.length) return new double[0];
+        double[] result = new double[historyCount];
+        int start = (historyHead - historyCount + HISTORY_LENGTH) % HISTORY_LENGTH;
+        for (int i = 0; i < historyCount; i++) {
+            result[i] = history[id][(start + i) % HISTORY_LENGTH];
+        }
+        return result;
+    }
+    
+    public GoodsCatalog getCatalog() {
+        return catalog;
+    }
+}
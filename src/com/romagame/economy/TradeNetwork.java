@@ -0,0 +1,272 @@
+package com.romagame.economy;
+
+import com.romagame.map.Province;
+import com.romagame.map.ProvinceOwnershipListener;
+import com.romagame.map.WorldMap;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Map;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+
+/**
+ * Trade nodes connected by routes into a DAG. Provinces feed value into their
+ * nearest node; each node keeps part of its value for the countries with trade
+ * power there and pushes the rest downstream, pulled towards the downstream
+ * nodes with the most trade power.
+ * Only nodes touched by ownership or price changes, and whatever lies
+ * downstream of them, are recomputed on the monthly pass.
+ */
+public class TradeNetwork implements ProvinceOwnershipListener {
+    private static final double RETAINED_SHARE = 0.5; // share of value kept by non-end nodes
+    private static final double PRICE_CHANGE_THRESHOLD = 0.01;
+    private static final double FLOW_EPSILON = 0.001;
+    
+    private EconomyManager economy;
+    private WorldMap worldMap;
+    private Map<String, TradeNode> nodes;
+    private Map<String, Integer> topoIndex;
+    private Map<String, TradeNode> provinceNodes;
+    private Map<String, Set<TradeNode>> nodesByGood;
+    private Map<String, Double> pricesUsed;
+    private Set<TradeNode> dirtyProduction;
+    private Set<TradeNode> dirtyValue;
+    private Set<TradeNode> dirtyFlow;
+    // node name -> country -> retained income, so totals can be adjusted per node
+    private Map<String, Map<String, Double>> nodeIncome;
+    private Map<String, Double> countryIncome;
+    
+    public TradeNetwork(EconomyManager economy) {
+        this.economy = economy;
+        nodes = new LinkedHashMap<>();
+        topoIndex = new HashMap<>();
+        provinceNodes = new HashMap<>();
+        nodesByGood = new HashMap<>();
+        pricesUsed = new HashMap<>();
+        dirtyProduction = new LinkedHashSet<>();
+        dirtyValue = new LinkedHashSet<>();
+        dirtyFlow = new LinkedHashSet<>();
+        nodeIncome = new HashMap<>();
+        countryIncome = new HashMap<>();
+    }
+    
+    public void setWorldMap(WorldMap worldMap) {
+        this.worldMap = worldMap;
+        worldMap.addOwnershipListener(this);
+    }
+    
+    public void addNode(TradeNode node) {
+        nodes.put(node.getName(), node);
+        rebuildTopology();
+    }
+    
+    public boolean addRoute(TradeRoute route) {
+        TradeNode from = nodes.get(route.getFromNode());
+        TradeNode to = nodes.get(route.getToNode());
+        if (from == null || to == null) {
+            System.err.println("Trade route " + route.getName() + " references an unknown node");
+            return false;
+        }
+        if (reaches(to, from)) {
+            System.err.println("Trade route " + route.getName() + " would create a cycle");
+            return false;
+        }
+        from.addOutgoing(route);
+        to.addIncoming(route);
+        rebuildTopology();
+        dirtyFlow.add(from);
+        return true;
+    }
+    
+    private boolean reaches(TradeNode start, TradeNode target) {
+        Deque<TradeNode> stack = new ArrayDeque<>();
+        Set<TradeNode> seen = new HashSet<>();
+        stack.push(start);
+        while (!stack.isEmpty()) {
+            TradeNode node = stack.pop();
+            if (node == target) return true;
+            if (!seen.add(node)) continue;
+            for (TradeRoute route : node.getOutgoing()) {
+                stack.push(nodes.get(route.getToNode()));
+            }
+        }
+        return false;
+    }
+    
+    // Kahn's algorithm; upstream nodes get lower indexes
+    private void rebuildTopology() {
+        Map<String, Integer> inDegree = new HashMap<>();
+        for (TradeNode node : nodes.values()) {
+            inDegree.put(node.getName(), node.getIncoming().size());
+        }
+        Deque<TradeNode> ready = new ArrayDeque<>();
+        for (TradeNode node : nodes.values()) {
+            if (inDegree.get(node.getName()) == 0) ready.add(node);
+        }
+        topoIndex.clear();
+        while (!ready.isEmpty()) {
+            TradeNode node = ready.poll();
+            topoIndex.put(node.getName(), topoIndex.size());
+            for (TradeRoute route : node.getOutgoing()) {
+                if (inDegree.merge(route.getToNode(), -1, Integer::sum) == 0) {
+                    ready.add(nodes.get(route.getToNode()));
+                }
+            }
+        }
+    }
+    
+    @Override
+    public void provincesTransferred(List<Province> provinces) {
+        for (Province province : provinces) {
+            TradeNode node = provinceNodes.get(province.getId());
+            if (node == null) {
+                node = assignProvince(province);
+            }
+            if (node != null) dirtyProduction.add(node);
+        }
+    }
+    
+    private TradeNode assignProvince(Province province) {
+        // The JSON loader stores map centroids in the latitude/longitude fields
+        double x = province.getLatitude();
+        double y = province.getLongitude();
+        TradeNode nearest = null;
+        double best = Double.MAX_VALUE;
+        for (TradeNode node : nodes.values()) {
+            double dx = node.getAnchorX() - x;
+            double dy = node.getAnchorY() - y;
+            double distance = dx * dx + dy * dy;
+            if (distance < best) {
+                best = distance;
+                nearest = node;
+            }
+        }
+        if (nearest != null) {
+            nearest.addProvince(province);
+            provinceNodes.put(province.getId(), nearest);
+            dirtyProduction.add(nearest);
+        }
+        return nearest;
+    }
+    
+    private void assignNewProvinces() {
+        if (worldMap == null || provinceNodes.size() >= worldMap.getProvinceCount()) return;
+        for (Province province : worldMap.getAllProvinces()) {
+            if (!provinceNodes.containsKey(province.getId())) {
+                assignProvince(province);
+            }
+        }
+    }
+    
+    private void checkPrices() {
+        for (Map.Entry<String, Set<TradeNode>> entry : nodesByGood.entrySet()) {
+            String good = entry.getKey();
+            double price = economy.getPrice(good);
+            Double used = pricesUsed.get(good);
+            if (used == null || Math.abs(price - used) > used * PRICE_CHANGE_THRESHOLD) {
+                pricesUsed.put(good, price);
+                dirtyValue.addAll(entry.getValue());
+            }
+        }
+    }
+    
+    // Monthly trade pass
+    public void update() {
+        assignNewProvinces();
+        
+        for (TradeNode node : dirtyProduction) {
+            node.recalculateProduction();
+            for (String good : node.getGoods().keySet()) {
+                nodesByGood.computeIfAbsent(good, k -> new HashSet<>()).add(node);
+            }
+            dirtyValue.add(node);
+            // Trade power changed, so upstream nodes split their flow differently
+            for (TradeRoute route : node.getIncoming()) {
+                dirtyFlow.add(nodes.get(route.getFromNode()));
+            }
+        }
+        dirtyProduction.clear();
+        
+        checkPrices();
+        for (TradeNode node : dirtyValue) {
+            node.recalculateLocalValue(economy);
+            dirtyFlow.add(node);
+        }
+        dirtyValue.clear();
+        
+        propagate();
+    }
+    
+    private void propagate() {
+        PriorityQueue<TradeNode> queue = new PriorityQueue<>(
+            Comparator.comparingInt((TradeNode n) -> topoIndex.getOrDefault(n.getName(), 0)));
+        Set<TradeNode> queued = new HashSet<>(dirtyFlow);
+        queue.addAll(dirtyFlow);
+        dirtyFlow.clear();
+        
+        while (!queue.isEmpty()) {
+            TradeNode node = queue.poll();
+            node.recalculateIncoming();
+            double total = node.getTradeValue();
+            double retained = node.isEndNode() ? total : total * RETAINED_SHARE;
+            node.setRetainedValue(retained);
+            distributeIncome(node, retained);
+            
+            // Push the rest downstream, weighted by downstream trade power
+            double forwarded = total - retained;
+            double weightSum = 0.0;
+            for (TradeRoute route : node.getOutgoing()) {
+                weightSum += 1.0 + nodes.get(route.getToNode()).getTradePower();
+            }
+            for (TradeRoute route : node.getOutgoing()) {
+                TradeNode target = nodes.get(route.getToNode());
+                double flow = forwarded * (1.0 + target.getTradePower()) / weightSum;
+                if (Math.abs(flow - route.getFlow()) > FLOW_EPSILON) {
+                    route.setFlow(flow);
+                    if (queued.add(target)) queue.add(target);
+                }
+            }
+        }
+    }
+    
+    private void distributeIncome(TradeNode node, double retained) {
+        Map<String, Double> previous = nodeIncome.getOrDefault(node.getName(), new HashMap<>());
+        for (Map.Entry<String, Double> entry : previous.entrySet()) {
+            countryIncome.merge(entry.getKey(), -entry.getValue(), Double::sum);
+        }
+        Map<String, Double> current = new HashMap<>();
+        for (String country : node.getCountryPower().keySet()) {
+            double income = retained * node.getPowerShare(country);
+            current.put(country, income);
+            countryIncome.merge(country, income, Double::sum);
+        }
+        nodeIncome.put(node.getName(), current);
+    }
+    
+    public double getTradeIncome(String country) {
+        return Math.max(0.0, countryIncome.getOrDefault(country, 0.0));
+    }
+    
+    public Map<String, Double> getTradeIncomes() {
+        return new HashMap<>(countryIncome);
+    }
+    
+    public TradeNode getNode(String name) {
+        return nodes.get(name);
+    }
+    
+    public TradeNode getNodeOf(String provinceId) {
+        return provinceNodes.get(provinceId);
+    }
+    
+    public List<TradeNode> getNodes() {
+        return new ArrayList<>(nodes.values());
+    }
+}
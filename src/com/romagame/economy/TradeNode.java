@@ -1,89 +1,119 @@
 package com.romagame.economy;
 
+import com.romagame.map.Province;
+import com.romagame.map.ProvinceModifier;
+import java.util.List;
+import java.util.ArrayList;
 import java.util.Map;
 import java.util.HashMap;
 
 public class TradeNode {
     private String name;
     private String region;
+    private double anchorX; // map position used to assign provinces
+    private double anchorY;
     private double tradePower;
     private double tradeValue;
+    private double localValue;
+    private double incomingValue;
+    private double retainedValue;
     private Map<String, Double> goods;
+    private Map<String, Double> countryPower;
+    private List<Province> provinces;
+    private List<TradeRoute> outgoing;
+    private List<TradeRoute> incoming;
     
-    public TradeNode(String name, String region) {
+    public TradeNode(String name, String region, double anchorX, double anchorY) {
         this.name = name;
         this.region = region;
-        this.tradePower = 100.0;
+        this.anchorX = anchorX;
+        this.anchorY = anchorY;
+        this.tradePower = 0.0;
         this.tradeValue = 0.0;
+        this.localValue = 0.0;
+        this.incomingValue = 0.0;
+        this.retainedValue = 0.0;
         this.goods = new HashMap<>();
-        initializeGoods();
+        this.countryPower = new HashMap<>();
+        this.provinces = new ArrayList<>();
+        this.outgoing = new ArrayList<>();
+        this.incoming = new ArrayList<>();
     }
     
-    private void initializeGoods() {
-        // Initialize trade goods based on region
-        switch (region) {
-            case "Western Europe" -> {
-                goods.put("Wool", 10.0);
-                goods.put("Wine", 8.0);
-                goods.put("Cloth", 5.0);
-            }
-            case "Mediterranean" -> {
-                goods.put("Wine", 12.0);
-                goods.put("Olive Oil", 8.0);
-                goods.put("Silk", 6.0);
-            }
-            case "East Asia" -> {
-                goods.put("Tea", 15.0);
-                goods.put("Silk", 10.0);
-                goods.put("Porcelain", 8.0);
-            }
-            case "Southeast Asia" -> {
-                goods.put("Spices", 20.0);
-                goods.put("Tea", 8.0);
-                goods.put("Rice", 12.0);
-            }
-            default -> {
-                goods.put("Grain", 10.0);
-                goods.put("Fish", 8.0);
+    // Rebuild produced goods and per-country trade power from the node's provinces
+    public void recalculateProduction() {
+        goods.clear();
+        countryPower.clear();
+        tradePower = 0.0;
+        for (Province province : provinces) {
+            double development = province.getDevelopment();
+            double output = Math.max(0.0, development + province.getModifier(ProvinceModifier.PRODUCTION));
+            for (String good : province.getTradeGoods()) {
+                goods.merge(good, output, Double::sum);
             }
+            double power = Math.max(0.0, development + province.getModifier(ProvinceModifier.TRADE_POWER))
+                * (province.isCapital() ? 2.0 : 1.0);
+            countryPower.merge(province.getOwner(), power, Double::sum);
+            tradePower += power;
         }
     }
     
-    public void update() {
-        // Update trade node
-        calculateTradeValue();
-        updateTradePower();
+    public void recalculateLocalValue(EconomyManager prices) {
+        localValue = 0.0;
+        for (Map.Entry<String, Double> good : goods.entrySet()) {
+            localValue += good.getValue() * prices.getPrice(good.getKey()) * 0.1;
+        }
     }
     
-    private void calculateTradeValue() {
-        tradeValue = goods.values().stream().mapToDouble(Double::doubleValue).sum();
+    public void recalculateIncoming() {
+        incomingValue = 0.0;
+        for (TradeRoute route : incoming) {
+            incomingValue += route.getIncome();
+        }
+        tradeValue = localValue + incomingValue;
     }
     
-    private void updateTradePower() {
-        // Trade power can fluctuate based on various factors
-        double fluctuation = (Math.random() - 0.5) * 0.05; // ±2.5% fluctuation
-        tradePower *= (1 + fluctuation);
+    public void addProvince(Province province) {
+        provinces.add(province);
     }
     
-    public void addGood(String good, double amount) {
-        goods.merge(good, amount, Double::sum);
+    public void removeProvince(Province province) {
+        provinces.remove(province);
     }
     
-    public void removeGood(String good, double amount) {
-        if (goods.containsKey(good)) {
-            double current = goods.get(good);
-            goods.put(good, Math.max(0, current - amount));
-        }
+    public void addOutgoing(TradeRoute route) {
+        outgoing.add(route);
+    }
+    
+    public void addIncoming(TradeRoute route) {
+        incoming.add(route);
+    }
+    
+    public boolean isEndNode() {
+        return outgoing.isEmpty();
+    }
+    
+    public double getPowerShare(String country) {
+        return tradePower > 0 ? countryPower.getOrDefault(country, 0.0) / tradePower : 0.0;
     }
     
     // Getters
     public String getName() { return name; }
     public String getRegion() { return region; }
+    public double getAnchorX() { return anchorX; }
+    public double getAnchorY() { return anchorY; }
     public double getTradePower() { return tradePower; }
     public double getTradeValue() { return tradeValue; }
-    public Map<String, Double> getGoods() { return goods; }
+    public double getLocalValue() { return localValue; }
+    public double getIncomingValue() { return incomingValue; }
+    public double getRetainedValue() { return retainedValue; }
+    public Map<String, Double> getGoods() { return new HashMap<>(goods); }
+    public Map<String, Double> getCountryPower() { return new HashMap<>(countryPower); }
+    public List<Province> getProvinces() { return new ArrayList<>(provinces); }
+    public List<TradeRoute> getOutgoing() { return new ArrayList<>(outgoing); }
+    public List<TradeRoute> getIncoming() { return new ArrayList<>(incoming); }
     
-    public void setTradePower(double power) {
-        this.tradePower = power;
+    public void setRetainedValue(double value) {
+        this.retainedValue = value;
     }
-} 
\ No newline at end of file
+}
@@ -5,6 +5,7 @@ public class TradeRoute {
     private String fromNode;
     private String toNode;
     private double efficiency;
+    private double flow;
     private double income;
     private boolean isActive;
     
@@ -12,38 +13,30 @@ public class TradeRoute {
         this.name = name;
         this.fromNode = fromNode;
         this.toNode = toNode;
-        this.efficiency = 0.8; // Base efficiency
+        this.efficiency = 0.8; // Share of the flow that arrives downstream
+        this.flow = 0.0;
         this.income = 0.0;
         this.isActive = true;
     }
     
-    public void update() {
-        if (!isActive) return;
-        
-        // Calculate income based on efficiency and connected nodes
+    // Set by the trade network when value is pushed along this route
+    public void setFlow(double flow) {
+        this.flow = flow;
         calculateIncome();
-        
-        // Efficiency can fluctuate
-        updateEfficiency();
     }
     
     private void calculateIncome() {
-        // Simplified income calculation
-        income = efficiency * 10.0; // Base income
-    }
-    
-    private void updateEfficiency() {
-        // Efficiency can change due to various factors
-        double fluctuation = (Math.random() - 0.5) * 0.02; // ±1% fluctuation
-        efficiency = Math.max(0.1, Math.min(1.0, efficiency + fluctuation));
+        income = isActive ? flow * efficiency : 0.0;
     }
     
     public void setActive(boolean active) {
         this.isActive = active;
+        calculateIncome();
     }
     
     public void setEfficiency(double efficiency) {
         this.efficiency = Math.max(0.0, Math.min(1.0, efficiency));
+        calculateIncome();
     }
     
     // Getters
@@ -51,6 +44,7 @@ public class TradeRoute {
     public String getFromNode() { return fromNode; }
     public String getToNode() { return toNode; }
     public double getEfficiency() { return efficiency; }
+    public double getFlow() { return flow; }
     public double getIncome() { return income; }
     public boolean isActive() { return isActive; }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,52 @@
+package com.romagame.events;
+
+import com.romagame.map.Country;
+
+/**
+ * Country values that event triggers can test. Every read is a field or a
+ * cached CountryStats aggregate, so snapshotting all of them for a country
+ * is cheap.
+ */
+public enum CountryAttribute {
+    STABILITY("stability"),
+    PRESTIGE("prestige"),
+    LEGITIMACY("legitimacy"),
+    POPULATION("population"),
+    PROVINCES("provinces"),
+    TREASURY("treasury"),
+    INCOME("income"),
+    EXPENSES("expenses"),
+    DEVELOPMENT("development"),
+    MILITARY("military");
+
+    private final String key;
+
+    CountryAttribute(String key) {
+        this.key = key;
+    }
+
+    public String getKey() { return key; }
+
+    public double read(Country country) {
+        return switch (this) {
+            case STABILITY -> country.getStability();
+            case PRESTIGE -> country.getPrestige();
+            case LEGITIMACY -> country.getLegitimacy();
+            case POPULATION -> country.getStats().getTotalPopulation();
+            case PROVINCES -> country.getStats().getProvinceCount();
+            case TREASURY -> country.getTreasury();
+            case INCOME -> country.getIncome();
+            case EXPENSES -> country.getExpenses();
+            case DEVELOPMENT -> country.getTotalDevelopment();
+            case MILITARY -> country.getStats().getTotalUnits();
+        };
+    }
+
+    // Attribute for a trigger key such as "stability", or null if unknown
+    public static CountryAttribute fromKey(String key) {
+        for (CountryAttribute attribute : values()) {
+            if (attribute.key.equals(key)) return attribute;
+        }
+        return null;
+    }
+}
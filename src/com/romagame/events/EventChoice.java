@@ -31,11 +31,15 @@ public class EventChoice {
                     country.setLegitimacy(country.getLegitimacy() + value);
                     break;
                 case "population":
-                    // Apply population modifier to all provinces
+                    // Scale every pop type of every province by the same fraction
+                    int types = Province.PopType.values().length;
+                    int[] pops = new int[types];
                     for (var province : country.getProvinces()) {
-                        int currentPop = province.getPopulation();
-                        int newPop = (int)(currentPop * (1 + value));
-                        province.setPop(Province.PopType.PEASANTS, newPop);
+                        province.copyPopsTo(pops, 0);
+                        for (int i = 0; i < types; i++) {
+                            pops[i] = (int) Math.round(pops[i] * value);
+                        }
+                        province.applyPopDeltas(pops, 0);
                     }
                     break;
                 case "religious_unity":
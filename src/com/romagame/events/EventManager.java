@@ -1,25 +1,41 @@
 package com.romagame.events;
 
+import com.romagame.core.GameDate;
+import com.romagame.government.Ruler;
 import com.romagame.map.Country;
+import com.romagame.map.ModifierSource;
+import com.romagame.map.ModifierType;
 import java.util.*;
 import java.util.Random;
 
+// Shared by the game thread and the events panel on the EDT, so state access is synchronized
 public class EventManager {
+    private static final int YEAR = 365;
+    // How long an event's lasting effect (an option's "other" effect) stays on the country
+    private static final int EVENT_MODIFIER_DAYS = 5 * YEAR;
+    private static final double EVENT_MODIFIER_SCALE = 0.05;
+    
     private Random random;
     private Map<String, GameEvent> events;
-    private Map<String, Ruler> rulers;
-    private Map<String, Advisor> advisors;
-    private List<GameEvent> activeEvents;
+    private List<GameEvent> eventList; // events in registration order, for random picks
+    private Map<String, Map<String, GameEvent>> activeEvents; // per country, at most one of each event
+    private Map<String, Map<String, Double>> weightModifiers; // per country, per event
+    private Map<String, Country> trackedCountries;
+    private EventScheduler scheduler;
+    private long currentDay;
+    private FlavorEventDispatcher flavorEvents;
     
     public EventManager() {
         this.random = new Random();
-        this.events = new HashMap<>();
-        this.rulers = new HashMap<>();
-        this.advisors = new HashMap<>();
-        this.activeEvents = new ArrayList<>();
+        this.events = new LinkedHashMap<>();
+        this.activeEvents = new HashMap<>();
+        this.weightModifiers = new HashMap<>();
+        this.trackedCountries = new HashMap<>();
+        this.scheduler = new EventScheduler(random);
+        this.flavorEvents = new FlavorEventDispatcher();
         initializeEvents();
-        initializeRulers();
-        initializeAdvisors();
+        this.eventList = new ArrayList<>(events.values());
+        initializeFlavorEvents();
     }
     
     private void initializeEvents() {
@@ -28,6 +44,7 @@ public class EventManager {
             "The Great Fire of Rome",
             "A devastating fire has swept through the capital, destroying much of the city.",
             EventType.DISASTER,
+            30 * YEAR,
             Arrays.asList("Accept the loss", "Organize relief efforts", "Blame the Christians"),
             Arrays.asList(
                 new EventOption("Accept the loss", -2.0, -1.0, 0.0, -1.0, "Stability -2, Prestige -1"),
@@ -40,6 +57,7 @@ public class EventManager {
             "Barbarian Invasion",
             "Fierce barbarian tribes have crossed the borders, threatening our provinces.",
             EventType.MILITARY,
+            10 * YEAR,
             Arrays.asList("Mobilize the legions", "Negotiate peace", "Pay tribute"),
             Arrays.asList(
                 new EventOption("Mobilize the legions", 0.0, 0.0, -3.0, 2.0, "Treasury -3, Military Tradition +2"),
@@ -52,6 +70,7 @@ public class EventManager {
             "Plague Outbreak",
             "A deadly plague has spread through our cities, claiming many lives.",
             EventType.DISASTER,
+            15 * YEAR,
             Arrays.asList("Quarantine cities", "Pray for divine intervention", "Ignore the crisis"),
             Arrays.asList(
                 new EventOption("Quarantine cities", -1.0, 0.0, -2.0, 0.0, "Stability -1, Treasury -2"),
@@ -64,6 +83,7 @@ public class EventManager {
             "Merchant Guild Petition",
             "The merchant guilds request reduced taxes and trade privileges.",
             EventType.ECONOMIC,
+            8 * YEAR,
             Arrays.asList("Grant privileges", "Reject demands", "Compromise"),
             Arrays.asList(
                 new EventOption("Grant privileges", 0.0, 0.0, -1.0, 1.0, "Treasury -1, Trade Efficiency +1"),
@@ -76,6 +96,7 @@ public class EventManager {
             "Religious Schism",
             "Religious tensions have divided our population between different faiths.",
             EventType.RELIGIOUS,
+            20 * YEAR,
             Arrays.asList("Enforce orthodoxy", "Allow tolerance", "Seek compromise"),
             Arrays.asList(
                 new EventOption("Enforce orthodoxy", 0.0, 0.0, -1.0, 1.0, "Treasury -1, Religious Unity +1"),
@@ -88,6 +109,7 @@ public class EventManager {
             "Noble Rebellion",
             "Powerful nobles have risen in rebellion against the crown.",
             EventType.POLITICAL,
+            15 * YEAR,
             Arrays.asList("Crush the rebellion", "Negotiate peace", "Grant concessions"),
             Arrays.asList(
                 new EventOption("Crush the rebellion", 0.0, 0.0, -2.0, 2.0, "Treasury -2, Military Tradition +2"),
@@ -100,6 +122,7 @@ public class EventManager {
             "Golden Age",
             "Our empire experiences unprecedented prosperity and cultural flourishing.",
             EventType.POSITIVE,
+            30 * YEAR,
             Arrays.asList("Celebrate achievements", "Invest in future", "Expand influence"),
             Arrays.asList(
                 new EventOption("Celebrate achievements", 1.0, 2.0, -1.0, 0.0, "Stability +1, Prestige +2, Treasury -1"),
@@ -112,6 +135,7 @@ public class EventManager {
             "Natural Disaster",
             "A devastating earthquake has struck our provinces, causing widespread destruction.",
             EventType.DISASTER,
+            12 * YEAR,
             Arrays.asList("Organize relief", "Rebuild stronger", "Abandon affected areas"),
             Arrays.asList(
                 new EventOption("Organize relief", -1.0, 0.0, -2.0, 1.0, "Stability -1, Treasury -2, Prestige +1"),
@@ -121,50 +145,103 @@ public class EventManager {
         ));
     }
     
-    private void initializeRulers() {
-        // Historical rulers with monarch points
-        rulers.put("Trajan", new Ruler("Trajan", "Roman Emperor", 6, 5, 4, "Military", "Conqueror"));
-        rulers.put("Hadrian", new Ruler("Hadrian", "Roman Emperor", 4, 6, 5, "Administrative", "Builder"));
-        rulers.put("Marcus Aurelius", new Ruler("Marcus Aurelius", "Roman Emperor", 5, 6, 6, "Diplomatic", "Philosopher"));
-        rulers.put("Augustus", new Ruler("Augustus", "Roman Emperor", 6, 6, 5, "Administrative", "Founder"));
-        rulers.put("Constantine", new Ruler("Constantine", "Roman Emperor", 5, 4, 6, "Diplomatic", "Reformer"));
-        rulers.put("Julian", new Ruler("Julian", "Roman Emperor", 4, 5, 4, "Military", "Restorer"));
-        rulers.put("Vespasian", new Ruler("Vespasian", "Roman Emperor", 5, 5, 4, "Administrative", "Stabilizer"));
-        rulers.put("Titus", new Ruler("Titus", "Roman Emperor", 4, 4, 5, "Diplomatic", "Peacemaker"));
+    private void initializeFlavorEvents() {
+        flavorEvents.register(FlavorEvent.createPlagueEvent());
+        flavorEvents.register(FlavorEvent.createNobleRevoltEvent());
+        flavorEvents.register(FlavorEvent.createTradeOpportunityEvent());
+    }
+    
+    // Fires the events that are due today and draws their next dates; AI countries answer theirs straight away
+    public synchronized void update(GameDate date, List<Country> countries, Country playerCountry) {
+        long today = date.getDayNumber();
+        currentDay = today;
+        if (countries.size() != trackedCountries.size()) {
+            trackNewCountries(countries, today);
+        }
+        for (EventScheduler.Fire fire : scheduler.pollDue(today)) {
+            Country country = trackedCountries.get(fire.getCountryName());
+            GameEvent event = events.get(fire.getEventName());
+            if (country == null || event == null) continue;
+            Map<String, GameEvent> active = activeEvents.computeIfAbsent(country.getName(), k -> new LinkedHashMap<>());
+            // An event still waiting for an answer doesn't fire again
+            if (!active.containsKey(event.getName())) {
+                active.put(event.getName(), event);
+                if (country != playerCountry) {
+                    applyEventChoice(country, event, random.nextInt(event.getOptions().size()));
+                }
+            }
+            scheduleNext(country, event, today);
+        }
+    }
+    
+    private void trackNewCountries(List<Country> countries, long today) {
+        for (Country country : countries) {
+            if (trackedCountries.putIfAbsent(country.getName(), country) == null) {
+                for (GameEvent event : eventList) {
+                    scheduleNext(country, event, today);
+                }
+            }
+        }
+    }
+    
+    private void scheduleNext(Country country, GameEvent event, long today) {
+        scheduler.schedule(country.getName(), event.getName(), event.getMeanTimeToHappen(),
+            getEventWeight(country, event), today);
     }
     
-    private void initializeAdvisors() {
-        // Historical advisors with specialties
-        advisors.put("Marcus Agrippa", new Advisor("Marcus Agrippa", "Military", 3, "Naval Commander", "Naval Force Limit +20%"));
-        advisors.put("Maecenas", new Advisor("Maecenas", "Diplomatic", 3, "Diplomat", "Diplomatic Relations +1"));
-        advisors.put("Vitruvius", new Advisor("Vitruvius", "Administrative", 3, "Architect", "Development Cost -10%"));
-        advisors.put("Livy", new Advisor("Livy", "Administrative", 2, "Historian", "Prestige +0.1"));
-        advisors.put("Ovid", new Advisor("Ovid", "Diplomatic", 2, "Poet", "Cultural Conversion +10%"));
-        advisors.put("Pliny the Elder", new Advisor("Pliny the Elder", "Administrative", 3, "Scholar", "Technology Cost -5%"));
-        advisors.put("Seneca", new Advisor("Seneca", "Diplomatic", 3, "Philosopher", "Stability +0.1"));
-        advisors.put("Tacitus", new Advisor("Tacitus", "Administrative", 2, "Historian", "Legitimacy +0.1"));
+    // How much more likely than usual the event is for this country right now
+    public synchronized double getEventWeight(Country country, GameEvent event) {
+        double stability = country.getStability();
+        double weight = switch (event.getType()) {
+            case DISASTER -> 1.5 - stability;
+            case POLITICAL -> 1.5 - stability + (1.0 - country.getLegitimacy());
+            case MILITARY -> country.getStats().getTotalUnits() == 0 ? 1.5 : 1.0;
+            case POSITIVE -> 0.5 + stability;
+            default -> 1.0;
+        };
+        Map<String, Double> modifiers = weightModifiers.get(country.getName());
+        if (modifiers != null) {
+            weight *= modifiers.getOrDefault(event.getName(), 1.0);
+        }
+        return Math.max(0.0, Math.min(3.0, weight));
+    }
+    
+    // Multiplies the event's weight for the country; applies from its next scheduled date
+    public synchronized void setEventWeightModifier(String countryName, String eventName, double multiplier) {
+        weightModifiers.computeIfAbsent(countryName, k -> new HashMap<>()).put(eventName, multiplier);
     }
     
-    public void processRandomEvents(Country country) {
-        // Random chance for events to occur
-        if (random.nextDouble() < 0.1) { // 10% chance per turn
-            GameEvent event = getRandomEvent();
-            if (event != null) {
-                activeEvents.add(event);
+    // Fires flavor events whose triggers became true; AI countries answer theirs straight away
+    public synchronized void updateFlavorEvents(List<Country> countries, Country playerCountry) {
+        flavorEvents.update(countries);
+        for (Country country : countries) {
+            if (country == playerCountry) continue;
+            FlavorEvent event;
+            while ((event = flavorEvents.pollPendingEvent(country.getName())) != null) {
+                if (!event.getChoices().isEmpty()) {
+                    event.executeChoice(country, random.nextInt(event.getChoices().size()));
+                }
             }
         }
     }
     
-    public GameEvent getRandomEvent() {
-        List<String> eventNames = new ArrayList<>(events.keySet());
-        if (!eventNames.isEmpty()) {
-            String randomEventName = eventNames.get(random.nextInt(eventNames.size()));
-            return events.get(randomEventName);
+    // Flavor events waiting for the player's answer
+    public synchronized List<FlavorEvent> getPendingFlavorEvents(String countryName) {
+        return flavorEvents.getPendingEvents(countryName);
+    }
+    
+    public synchronized void applyFlavorEventChoice(Country country, FlavorEvent event, int choiceIndex) {
+        if (flavorEvents.removePendingEvent(country.getName(), event)) {
+            event.executeChoice(country, choiceIndex);
         }
-        return null;
     }
     
-    public void applyEventChoice(Country country, GameEvent event, int choiceIndex) {
+    public synchronized GameEvent getRandomEvent() {
+        if (eventList.isEmpty()) return null;
+        return eventList.get(random.nextInt(eventList.size()));
+    }
+    
+    public synchronized void applyEventChoice(Country country, GameEvent event, int choiceIndex) {
         if (choiceIndex >= 0 && choiceIndex < event.getOptions().size()) {
             EventOption option = event.getOptions().get(choiceIndex);
             
@@ -172,13 +249,18 @@ public class EventManager {
             country.setStability(country.getStability() + option.getStabilityEffect());
             country.setPrestige(country.getPrestige() + option.getPrestigeEffect());
             country.setTreasury(country.getTreasury() + option.getTreasuryEffect());
+            ModifierType lasting = lastingModifierOf(event.getType());
+            if (lasting != null && option.getOtherEffect() != 0.0) {
+                country.addModifierSource(new ModifierSource("event:" + event.getName(), currentDay + EVENT_MODIFIER_DAYS)
+                    .add(lasting, option.getOtherEffect() * EVENT_MODIFIER_SCALE));
+            }
             
             // Apply monarch point costs if applicable
             Ruler currentRuler = getCurrentRuler(country);
             if (currentRuler != null) {
                 switch (event.getType()) {
                     case ADMINISTRATIVE:
-                        currentRuler.spendAdministrativePoints(1);
+                        currentRuler.spendAdminPoints(1);
                         break;
                     case DIPLOMATIC:
                         currentRuler.spendDiplomaticPoints(1);
@@ -192,30 +274,35 @@ public class EventManager {
             }
             
             // Remove from active events
-            activeEvents.remove(event);
+            Map<String, GameEvent> active = activeEvents.get(country.getName());
+            if (active != null) {
+                active.remove(event.getName());
+            }
         }
     }
     
-    public Ruler getCurrentRuler(Country country) {
-        // For now, return a random ruler - in a full implementation, this would track current ruler
-        List<String> rulerNames = new ArrayList<>(rulers.keySet());
-        if (!rulerNames.isEmpty()) {
-            String randomRulerName = rulerNames.get(random.nextInt(rulerNames.size()));
-            return rulers.get(randomRulerName);
-        }
-        return null;
+    // Modifier an event type's "other" effect feeds into, or null if it has none
+    private static ModifierType lastingModifierOf(EventType type) {
+        return switch (type) {
+            case MILITARY, POLITICAL -> ModifierType.ARMY_TRADITION;
+            case ECONOMIC -> ModifierType.TRADE_EFFICIENCY;
+            case RELIGIOUS -> ModifierType.RELIGIOUS_UNITY;
+            case DISASTER, POSITIVE -> ModifierType.PRODUCTION_EFFICIENCY;
+            default -> null;
+        };
     }
     
-    public List<Advisor> getAvailableAdvisors() {
-        return new ArrayList<>(advisors.values());
+    // The country's reigning ruler, kept current by the dynasty manager
+    public Ruler getCurrentRuler(Country country) {
+        return country.getRuler();
     }
     
-    public List<Ruler> getAvailableRulers() {
-        return new ArrayList<>(rulers.values());
+    public synchronized List<GameEvent> getActiveEvents(String countryName) {
+        return new ArrayList<>(activeEvents.getOrDefault(countryName, Map.of()).values());
     }
     
-    public List<GameEvent> getActiveEvents() {
-        return new ArrayList<>(activeEvents);
+    public synchronized int getScheduledEventCount() {
+        return scheduler.size();
     }
     
     public enum EventType {
@@ -228,12 +315,19 @@ public class EventManager {
         private EventType type;
         private List<String> choices;
         private List<EventOption> options;
+        private double meanTimeToHappen; // days
         
         public GameEvent(String name, String description, EventType type, 
                         List<String> choices, List<EventOption> options) {
+            this(name, description, type, 10 * YEAR, choices, options);
+        }
+        
+        public GameEvent(String name, String description, EventType type, double meanTimeToHappen,
+                        List<String> choices, List<EventOption> options) {
             this.name = name;
             this.description = description;
             this.type = type;
+            this.meanTimeToHappen = meanTimeToHappen;
             this.choices = choices;
             this.options = options;
         }
@@ -244,6 +338,7 @@ public class EventManager {
         public EventType getType() { return type; }
         public List<String> getChoices() { return choices; }
         public List<EventOption> getOptions() { return options; }
+        public double getMeanTimeToHappen() { return meanTimeToHappen; }
     }
     
     public static class EventOption {
@@ -272,68 +367,4 @@ public class EventManager {
         public double getOtherEffect() { return otherEffect; }
         public String getDescription() { return description; }
     }
-    
-    public static class Ruler {
-        private String name;
-        private String title;
-        private int administrativePoints;
-        private int diplomaticPoints;
-        private int militaryPoints;
-        private String focus;
-        private String personality;
-        
-        public Ruler(String name, String title, int admin, int diplo, int mil, String focus, String personality) {
-            this.name = name;
-            this.title = title;
-            this.administrativePoints = admin;
-            this.diplomaticPoints = diplo;
-            this.militaryPoints = mil;
-            this.focus = focus;
-            this.personality = personality;
-        }
-        
-        public void spendAdministrativePoints(int amount) {
-            administrativePoints = Math.max(0, administrativePoints - amount);
-        }
-        
-        public void spendDiplomaticPoints(int amount) {
-            diplomaticPoints = Math.max(0, diplomaticPoints - amount);
-        }
-        
-        public void spendMilitaryPoints(int amount) {
-            militaryPoints = Math.max(0, militaryPoints - amount);
-        }
-        
-        // Getters
-        public String getName() { return name; }
-        public String getTitle() { return title; }
-        public int getAdministrativePoints() { return administrativePoints; }
-        public int getDiplomaticPoints() { return diplomaticPoints; }
-        public int getMilitaryPoints() { return militaryPoints; }
-        public String getFocus() { return focus; }
-        public String getPersonality() { return personality; }
-    }
-    
-    public static class Advisor {
-        private String name;
-        private String type;
-        private int level;
-        private String specialty;
-        private String effect;
-        
-        public Advisor(String name, String type, int level, String specialty, String effect) {
-            this.name = name;
-            this.type = type;
-            this.level = level;
-            this.specialty = specialty;
-            this.effect = effect;
-        }
-        
-        // Getters
-        public String getName() { return name; }
-        public String getType() { return type; }
-        public int getLevel() { return level; }
-        public String getSpecialty() { return specialty; }
-        public String getEffect() { return effect; }
-    }
-} 
\ No newline at end of file
+}
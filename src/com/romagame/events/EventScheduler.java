@@ -0,0 +1,67 @@
+package com.romagame.events;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.util.PriorityQueue;
+import java.util.Comparator;
+import java.util.Random;
+
+/**
+ * Mean-time-to-happen scheduling. Instead of rolling for every event and
+ * country each day, the next fire date of each (country, event) pair is drawn
+ * once from an exponential distribution with the event's MTTH, scaled by the
+ * country's weight for it. Pending fires sit in a queue ordered by day, so a
+ * tick only touches the fires that are due.
+ */
+public class EventScheduler {
+    // Weights are clamped to this so a zero weight still gets looked at again eventually
+    private static final double MIN_WEIGHT = 0.1;
+
+    private PriorityQueue<Fire> queue;
+    private Random random;
+    private long sequence;
+
+    public EventScheduler(Random random) {
+        this.queue = new PriorityQueue<>(Comparator.comparingLong(Fire::getDay).thenComparingLong(f -> f.sequence));
+        this.random = random;
+        this.sequence = 0;
+    }
+
+    // Draws the next fire date; a weight of 2 makes the event twice as likely (half the MTTH)
+    public void schedule(String countryName, String eventName, double meanTimeToHappen, double weight, long today) {
+        double mean = meanTimeToHappen / Math.max(MIN_WEIGHT, weight);
+        long delay = Math.max(1, (long) Math.ceil(-Math.log(1.0 - random.nextDouble()) * mean));
+        queue.add(new Fire(countryName, eventName, today + delay, sequence++));
+    }
+
+    // Removes and returns every fire due on or before today, earliest first
+    public List<Fire> pollDue(long today) {
+        List<Fire> due = new ArrayList<>();
+        while (!queue.isEmpty() && queue.peek().day <= today) {
+            due.add(queue.poll());
+        }
+        return due;
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    public static class Fire {
+        private final String countryName;
+        private final String eventName;
+        private final long day;
+        private final long sequence;
+
+        Fire(String countryName, String eventName, long day, long sequence) {
+            this.countryName = countryName;
+            this.eventName = eventName;
+            this.day = day;
+            this.sequence = sequence;
+        }
+
+        public String getCountryName() { return countryName; }
+        public String getEventName() { return eventName; }
+        public long getDay() { return day; }
+    }
+}
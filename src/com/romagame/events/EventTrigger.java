@@ -5,64 +5,30 @@ import java.util.*;
 
 public class EventTrigger {
     private List<String> conditions;
+    private TriggerPredicate predicate; // compiled once from the condition strings
     private double chance;
     
     public EventTrigger(String... conditions) {
-        this.conditions = Arrays.asList(conditions);
-        this.chance = 1.0; // Default 100% chance if conditions are met
+        this(1.0, conditions); // Default 100% chance if conditions are met
     }
     
     public EventTrigger(double chance, String... conditions) {
         this.conditions = Arrays.asList(conditions);
+        this.predicate = TriggerPredicate.compileAll(this.conditions);
         this.chance = chance;
     }
     
     public boolean checkConditions(Country country) {
-        for (String condition : conditions) {
-            if (!evaluateCondition(country, condition)) {
-                return false;
-            }
+        double[] values = new double[CountryAttribute.values().length];
+        for (CountryAttribute attribute : predicate.getAttributes()) {
+            values[attribute.ordinal()] = attribute.read(country);
         }
-        return true;
-    }
-    
-    private boolean evaluateCondition(Country country, String condition) {
-        String[] parts = condition.split(" ");
-        if (parts.length < 3) return false;
-        
-        String attribute = parts[0];
-        String operator = parts[1];
-        double value = Double.parseDouble(parts[2]);
-        
-        double countryValue = getCountryValue(country, attribute);
-        
-        return switch (operator) {
-            case "<" -> countryValue < value;
-            case "<=" -> countryValue <= value;
-            case ">" -> countryValue > value;
-            case ">=" -> countryValue >= value;
-            case "==" -> countryValue == value;
-            case "!=" -> countryValue != value;
-            default -> false;
-        };
+        return predicate.test(values);
     }
     
-    private double getCountryValue(Country country, String attribute) {
-        return switch (attribute) {
-            case "stability" -> country.getStability();
-            case "prestige" -> country.getPrestige();
-            case "legitimacy" -> country.getLegitimacy();
-            case "population" -> country.getProvinces().stream()
-                .mapToInt(province -> province.getPopulation()).sum();
-            case "provinces" -> country.getProvinces().size();
-            case "treasury" -> country.getTreasury();
-            case "income" -> country.getIncome();
-            case "expenses" -> country.getExpenses();
-            case "development" -> country.getTotalDevelopment();
-            case "military" -> country.getMilitary().values().stream()
-                .mapToInt(Integer::intValue).sum();
-            default -> 0.0;
-        };
+    // Check against an attribute snapshot indexed by CountryAttribute ordinal
+    public boolean checkConditions(double[] values) {
+        return predicate.test(values);
     }
     
     public boolean shouldTrigger() {
@@ -71,5 +37,7 @@ public class EventTrigger {
     
     // Getters
     public List<String> getConditions() { return conditions; }
+    public TriggerPredicate getPredicate() { return predicate; }
+    public Set<CountryAttribute> getAttributes() { return predicate.getAttributes(); }
     public double getChance() { return chance; }
-} 
\ No newline at end of file
+} 
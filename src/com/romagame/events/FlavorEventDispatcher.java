@@ -0,0 +1,135 @@
+package com.romagame.events;
+
+import com.romagame.map.Country;
+import java.util.*;
+
+/**
+ * Change-driven trigger evaluation for flavor events. Each registered event
+ * is indexed by the attributes its trigger reads. Every update takes one
+ * snapshot of a country's attributes, diffs it against the previous one, and
+ * re-checks only the events indexed under an attribute that changed. Events
+ * that fire go to the country's pending queue. A fired event is re-armed once
+ * its trigger stops holding, so it can fire again the next time it comes true.
+ */
+public class FlavorEventDispatcher {
+    private static final CountryAttribute[] ATTRIBUTES = CountryAttribute.values();
+
+    private List<FlavorEvent> events;
+    private List<List<Integer>> eventsByAttribute; // indexed by CountryAttribute ordinal
+    private Map<String, CountryState> states;
+    private Map<String, Deque<FlavorEvent>> pending;
+    private long evaluations;
+
+    public FlavorEventDispatcher() {
+        this.events = new ArrayList<>();
+        this.eventsByAttribute = new ArrayList<>();
+        for (int i = 0; i < ATTRIBUTES.length; i++) {
+            eventsByAttribute.add(new ArrayList<>());
+        }
+        this.states = new HashMap<>();
+        this.pending = new HashMap<>();
+        this.evaluations = 0;
+    }
+
+    public void register(FlavorEvent event) {
+        int index = events.size();
+        events.add(event);
+        for (CountryAttribute attribute : event.getTrigger().getAttributes()) {
+            eventsByAttribute.get(attribute.ordinal()).add(index);
+        }
+        // Existing countries have never seen this event; check it on their next update
+        for (CountryState state : states.values()) {
+            state.dirty.set(index);
+        }
+    }
+
+    public void update(Collection<Country> countries) {
+        for (Country country : countries) {
+            update(country);
+        }
+    }
+
+    public void update(Country country) {
+        CountryState state = states.computeIfAbsent(country.getName(), k -> new CountryState(events.size()));
+        double[] values = state.values;
+        for (CountryAttribute attribute : ATTRIBUTES) {
+            double value = attribute.read(country);
+            int i = attribute.ordinal();
+            if (value != values[i]) {
+                values[i] = value;
+                for (int index : eventsByAttribute.get(i)) {
+                    state.dirty.set(index);
+                }
+            }
+        }
+        if (state.dirty.isEmpty()) return;
+
+        for (int index = state.dirty.nextSetBit(0); index >= 0; index = state.dirty.nextSetBit(index + 1)) {
+            FlavorEvent event = events.get(index);
+            evaluations++;
+            boolean holds = event.getTrigger().checkConditions(values);
+            if (state.fired.get(index)) {
+                if (!holds) state.fired.clear(index);
+            } else if (holds && event.getTrigger().shouldTrigger()) {
+                state.fired.set(index);
+                Deque<FlavorEvent> queue = pending.computeIfAbsent(country.getName(), k -> new ArrayDeque<>());
+                // An event still waiting for an answer isn't queued twice
+                if (!queue.contains(event)) queue.add(event);
+            }
+        }
+        state.dirty.clear();
+    }
+
+    public boolean hasPendingEvents(String countryName) {
+        Deque<FlavorEvent> queue = pending.get(countryName);
+        return queue != null && !queue.isEmpty();
+    }
+
+    // Next event waiting for the country to respond to, or null
+    public FlavorEvent pollPendingEvent(String countryName) {
+        Deque<FlavorEvent> queue = pending.get(countryName);
+        return queue != null ? queue.poll() : null;
+    }
+
+    // Takes a specific event out of the queue once the country has answered it
+    public boolean removePendingEvent(String countryName, FlavorEvent event) {
+        Deque<FlavorEvent> queue = pending.get(countryName);
+        return queue != null && queue.remove(event);
+    }
+
+    public List<FlavorEvent> getPendingEvents(String countryName) {
+        return new ArrayList<>(pending.getOrDefault(countryName, new ArrayDeque<>()));
+    }
+
+    public boolean hasFired(String countryName, String eventId) {
+        CountryState state = states.get(countryName);
+        if (state == null) return false;
+        for (int i = 0; i < events.size(); i++) {
+            if (events.get(i).getId().equals(eventId)) return state.fired.get(i);
+        }
+        return false;
+    }
+
+    public List<FlavorEvent> getEvents() {
+        return new ArrayList<>(events);
+    }
+
+    // Number of trigger checks done so far, for profiling
+    public long getEvaluations() {
+        return evaluations;
+    }
+
+    private static class CountryState {
+        private double[] values;
+        private BitSet dirty;
+        private BitSet fired;
+
+        CountryState(int eventCount) {
+            // NaN never equals a read value, so the first snapshot marks every event dirty
+            this.values = new double[ATTRIBUTES.length];
+            Arrays.fill(values, Double.NaN);
+            this.dirty = new BitSet(eventCount);
+            this.fired = new BitSet(eventCount);
+        }
+    }
+}
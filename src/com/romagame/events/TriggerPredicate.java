@@ -0,0 +1,176 @@
+package com.romagame.events;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.Collections;
+
+/**
+ * Compiled form of trigger conditions such as "stability < 2". Conditions
+ * are parsed once into a tree of comparisons over CountryAttribute ids and
+ * tested against a snapshot of attribute values indexed by ordinal, so a
+ * check does no string work at all.
+ */
+public abstract class TriggerPredicate {
+    public abstract boolean test(double[] values);
+
+    // Attributes this predicate reads; events are only re-checked when one of them changes
+    public abstract Set<CountryAttribute> getAttributes();
+
+    public static TriggerPredicate compile(String condition) {
+        String[] parts = condition.trim().split("\\s+");
+        if (parts.length < 3) {
+            System.err.println("Invalid trigger condition: " + condition);
+            return Constant.FALSE;
+        }
+        CountryAttribute attribute = CountryAttribute.fromKey(parts[0]);
+        Operator operator = Operator.fromSymbol(parts[1]);
+        if (attribute == null || operator == null) {
+            System.err.println("Unknown attribute or operator in trigger condition: " + condition);
+            return Constant.FALSE;
+        }
+        try {
+            return new Comparison(attribute, operator, Double.parseDouble(parts[2]));
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid value in trigger condition: " + condition);
+            return Constant.FALSE;
+        }
+    }
+
+    // All conditions must hold, as in the original condition lists
+    public static TriggerPredicate compileAll(List<String> conditions) {
+        List<TriggerPredicate> predicates = new ArrayList<>();
+        for (String condition : conditions) {
+            predicates.add(compile(condition));
+        }
+        return predicates.size() == 1 ? predicates.get(0) : new All(predicates);
+    }
+
+    public enum Operator {
+        LT("<"), LE("<="), GT(">"), GE(">="), EQ("=="), NE("!=");
+
+        private final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+
+        public String getSymbol() { return symbol; }
+
+        boolean apply(double left, double right) {
+            return switch (this) {
+                case LT -> left < right;
+                case LE -> left <= right;
+                case GT -> left > right;
+                case GE -> left >= right;
+                case EQ -> left == right;
+                case NE -> left != right;
+            };
+        }
+
+        static Operator fromSymbol(String symbol) {
+            for (Operator operator : values()) {
+                if (operator.symbol.equals(symbol)) return operator;
+            }
+            return null;
+        }
+    }
+
+    public static class Comparison extends TriggerPredicate {
+        private final CountryAttribute attribute;
+        private final Operator operator;
+        private final double value;
+        private final Set<CountryAttribute> attributes;
+
+        public Comparison(CountryAttribute attribute, Operator operator, double value) {
+            this.attribute = attribute;
+            this.operator = operator;
+            this.value = value;
+            this.attributes = Collections.unmodifiableSet(EnumSet.of(attribute));
+        }
+
+        @Override
+        public boolean test(double[] values) {
+            return operator.apply(values[attribute.ordinal()], value);
+        }
+
+        @Override
+        public Set<CountryAttribute> getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public String toString() {
+            return attribute.getKey() + " " + operator.getSymbol() + " " + value;
+        }
+    }
+
+    public static class All extends TriggerPredicate {
+        private final TriggerPredicate[] parts;
+        private final Set<CountryAttribute> attributes;
+
+        public All(List<TriggerPredicate> parts) {
+            this.parts = parts.toArray(new TriggerPredicate[0]);
+            EnumSet<CountryAttribute> read = EnumSet.noneOf(CountryAttribute.class);
+            for (TriggerPredicate part : parts) {
+                read.addAll(part.getAttributes());
+            }
+            this.attributes = Collections.unmodifiableSet(read);
+        }
+
+        @Override
+        public boolean test(double[] values) {
+            for (TriggerPredicate part : parts) {
+                if (!part.test(values)) return false;
+            }
+            return true;
+        }
+
+        @Override
+        public Set<CountryAttribute> getAttributes() {
+            return attributes;
+        }
+    }
+
+    public static class Any extends TriggerPredicate {
+        private final TriggerPredicate[] parts;
+        private final Set<CountryAttribute> attributes;
+
+        public Any(List<TriggerPredicate> parts) {
+            this.parts = parts.toArray(new TriggerPredicate[0]);
+            EnumSet<CountryAttribute> read = EnumSet.noneOf(CountryAttribute.class);
+            for (TriggerPredicate part : parts) {
+                read.addAll(part.getAttributes());
+            }
+            this.attributes = Collections.unmodifiableSet(read);
+        }
+
+        @Override
+        public boolean test(double[] values) {
+            for (TriggerPredicate part : parts) {
+                if (part.test(values)) return true;
+            }
+            return false;
+        }
+
+        @Override
+        public Set<CountryAttribute> getAttributes() {
+            return attributes;
+        }
+    }
+
+    private static class Constant extends TriggerPredicate {
+        static final Constant FALSE = new Constant();
+
+        @Override
+        public boolean test(double[] values) {
+            return false;
+        }
+
+        @Override
+        public Set<CountryAttribute> getAttributes() {
+            return Set.of();
+        }
+    }
+}
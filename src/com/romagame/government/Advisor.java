@@ -1,5 +1,6 @@
 package com.romagame.government;
 
+import com.romagame.core.GameDate;
 import java.util.*;
 
 public class Advisor {
@@ -9,46 +10,38 @@ public class Advisor {
     private double salary;
     private List<AdvisorTrait> traits;
     private boolean isActive;
-    private int yearsEmployed;
+    private GameDate birthDate;
+    private GameDate hireDate;
     
     public Advisor(String name, AdvisorType type, int level) {
+        this(name, type, level, new Random());
+    }
+    
+    public Advisor(String name, AdvisorType type, int level, Random random) {
         this.name = name;
         this.type = type;
         this.level = level;
         this.salary = calculateSalary();
         this.traits = new ArrayList<>();
         this.isActive = false;
-        this.yearsEmployed = 0;
-        generateTraits();
+        generateTraits(random);
     }
     
     private double calculateSalary() {
         return level * 2.0; // Base salary per level
     }
     
-    private void generateTraits() {
-        Random random = new Random();
+    private void generateTraits(Random random) {
         int traitCount = random.nextInt(2) + 1; // 1-2 traits
         
         List<AdvisorTrait> availableTraits = new ArrayList<>(Arrays.asList(AdvisorTrait.values()));
-        Collections.shuffle(availableTraits);
+        Collections.shuffle(availableTraits, random);
         
         for (int i = 0; i < traitCount && i < availableTraits.size(); i++) {
             traits.add(availableTraits.get(i));
         }
     }
     
-    public void update() {
-        if (!isActive) return;
-        
-        yearsEmployed++;
-        
-        // Check for advisor death (rare)
-        if (yearsEmployed > 20 && new Random().nextDouble() < 0.05) {
-            isActive = false;
-        }
-    }
-    
     public Map<String, Double> getBonuses() {
         Map<String, Double> bonuses = new HashMap<>();
         
@@ -137,6 +130,15 @@ public class Advisor {
         isActive = true;
     }
     
+    public void hire(GameDate date) {
+        hire();
+        this.hireDate = date.copy();
+    }
+    
+    public void setBirthDate(GameDate birthDate) {
+        this.birthDate = birthDate;
+    }
+    
     public void fire() {
         isActive = false;
     }
@@ -155,7 +157,9 @@ public class Advisor {
     public double getSalary() { return salary; }
     public List<AdvisorTrait> getTraits() { return traits; }
     public boolean isActive() { return isActive; }
-    public int getYearsEmployed() { return yearsEmployed; }
+    public int getYearsEmployed(GameDate today) { return hireDate != null ? today.getYearsSince(hireDate) : 0; }
+    public GameDate getBirthDate() { return birthDate; }
+    public GameDate getHireDate() { return hireDate; }
     
     public enum AdvisorType {
         ADMINISTRATIVE_ADVISOR, DIPLOMATIC_ADVISOR, MILITARY_ADVISOR,
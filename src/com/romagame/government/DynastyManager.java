@@ -0,0 +1,317 @@
+package com.romagame.government;
+
+import com.romagame.core.GameDate;
+import com.romagame.map.Country;
+import java.util.*;
+
+/**
+ * Rulers, heirs and hired advisors of each country. A person's death date is
+ * sampled once, when they enter play, and goes into a queue ordered by day.
+ * The daily update only pops the deaths that are due, so its cost follows the
+ * number of deaths rather than the number of people alive. Monarch points
+ * accrue once a month from the ruler's cached rates plus advisor bonuses, and
+ * hired advisors draw their salary from the treasury at the same time.
+ */
+public class DynastyManager {
+    public static final int MAX_ADVISORS = 3;
+    private static final double DAYS_PER_YEAR = 365.25;
+    // Deaths are the earlier of a background risk at any age and old age setting in
+    private static final double BACKGROUND_LIFESPAN_YEARS = 60.0;
+    private static final int OLD_AGE = 65;
+    private static final double OLD_AGE_LIFESPAN_YEARS = 10.0;
+    private static final int MAX_HEIR_AGE = 20;
+    private static final int CANDIDATES = 3;
+    private static final int MAX_CANDIDATE_LEVEL = 3;
+    private static final String[] ADVISOR_NAMES = {
+        "Marcus Agrippa", "Maecenas", "Vitruvius", "Livy", "Ovid", "Pliny the Elder", "Seneca", "Tacitus"
+    };
+    private static final Advisor.AdvisorType[] CANDIDATE_TYPES = {
+        Advisor.AdvisorType.ADMINISTRATIVE_ADVISOR, Advisor.AdvisorType.DIPLOMATIC_ADVISOR, Advisor.AdvisorType.MILITARY_ADVISOR
+    };
+
+    private Map<String, Dynasty> dynasties;
+    private PriorityQueue<Death> deaths;
+    private Set<Country> fallen; // countries that lost all their land; they don't get a dynasty back
+    private Random random;
+    private long sequence;
+
+    public DynastyManager() {
+        this.dynasties = new LinkedHashMap<>();
+        this.deaths = new PriorityQueue<>(Comparator.comparingLong((Death d) -> d.day).thenComparingLong(d -> d.sequence));
+        this.fallen = new HashSet<>();
+        this.random = new Random();
+        this.sequence = 0;
+    }
+
+    // Starts tracking countries seen for the first time; their existing ruler is kept
+    public synchronized void registerCountries(List<Country> countries, GameDate today) {
+        for (Country country : countries) {
+            if (fallen.contains(country)) continue;
+            Dynasty dynasty = dynasties.get(country.getName());
+            // A recreated country replaces the old entry; the old people's queued deaths go stale
+            if (dynasty == null || dynasty.country != country) {
+                register(country, today);
+            }
+        }
+    }
+
+    // Called daily; handles the deaths that are due
+    public synchronized void update(GameDate today) {
+        long day = today.getDayNumber();
+        while (!deaths.isEmpty() && deaths.peek().day <= day) {
+            Death death = deaths.poll();
+            Dynasty dynasty = dynasties.get(death.countryName);
+            if (dynasty == null) continue;
+            if (death.person == dynasty.ruler) {
+                succeed(dynasty, today);
+            } else if (death.person == dynasty.heir) {
+                dynasty.heir = createHeir(dynasty, today);
+            } else if (dynasty.advisors.remove(death.person)) {
+                ((Advisor) death.person).fire();
+                dynasty.updateAdvisorBonuses();
+            } else if (dynasty.candidates.remove(death.person)) {
+                dynasty.candidates.add(createCandidate(dynasty, today));
+            }
+            // Otherwise the person already left play (e.g. a fired advisor) and the entry is stale
+        }
+    }
+
+    // Called monthly; picks up new countries, drops gone ones, pays advisors and accrues monarch points
+    public synchronized void updateMonthly(GameDate today, List<Country> countries) {
+        registerCountries(countries, today);
+        Set<Country> present = new HashSet<>(countries);
+        Iterator<Dynasty> it = dynasties.values().iterator();
+        while (it.hasNext()) {
+            Dynasty dynasty = it.next();
+            Country country = dynasty.country;
+            if (!country.getProvinces().isEmpty()) {
+                dynasty.landed = true;
+            } else if (dynasty.landed) {
+                // Annexed: the country stays in the lists but its line ends
+                fallen.add(country);
+            }
+            if (!present.contains(country) || fallen.contains(country)) {
+                // Its queued deaths are skipped when they come due
+                for (Advisor advisor : dynasty.advisors) {
+                    advisor.fire();
+                }
+                it.remove();
+                continue;
+            }
+            payAdvisors(dynasty);
+            dynasty.ruler.accrueMonthlyPoints(dynasty.advisorBonus[0], dynasty.advisorBonus[1], dynasty.advisorBonus[2]);
+        }
+    }
+
+    // Hires one of the country's candidates; the salary is paid monthly from then on
+    public synchronized boolean hireAdvisor(String countryName, Advisor advisor, GameDate today) {
+        Dynasty dynasty = dynasties.get(countryName);
+        if (dynasty == null || dynasty.advisors.size() >= MAX_ADVISORS || !dynasty.candidates.remove(advisor)) {
+            return false;
+        }
+        advisor.hire(today);
+        dynasty.advisors.add(advisor);
+        dynasty.updateAdvisorBonuses();
+        dynasty.candidates.add(createCandidate(dynasty, today));
+        return true;
+    }
+
+    public synchronized boolean fireAdvisor(String countryName, Advisor advisor) {
+        Dynasty dynasty = dynasties.get(countryName);
+        if (dynasty == null || !dynasty.advisors.remove(advisor)) return false;
+        // Its queued death is left in place and skipped when it comes due
+        advisor.fire();
+        dynasty.updateAdvisorBonuses();
+        return true;
+    }
+
+    public synchronized Ruler getRuler(String countryName) {
+        Dynasty dynasty = dynasties.get(countryName);
+        return dynasty != null ? dynasty.ruler : null;
+    }
+
+    public synchronized Ruler getHeir(String countryName) {
+        Dynasty dynasty = dynasties.get(countryName);
+        return dynasty != null ? dynasty.heir : null;
+    }
+
+    public synchronized List<Advisor> getAdvisors(String countryName) {
+        Dynasty dynasty = dynasties.get(countryName);
+        return dynasty != null ? new ArrayList<>(dynasty.advisors) : new ArrayList<>();
+    }
+
+    public synchronized List<Advisor> getCandidates(String countryName) {
+        Dynasty dynasty = dynasties.get(countryName);
+        return dynasty != null ? new ArrayList<>(dynasty.candidates) : new ArrayList<>();
+    }
+
+    public synchronized int getPendingDeathCount() {
+        return deaths.size();
+    }
+
+    private void register(Country country, GameDate today) {
+        Ruler ruler = country.getRuler();
+        if (ruler == null) {
+            ruler = new Ruler(country.getName() + " Ruler", 20 + random.nextInt(21), random);
+            country.setRuler(ruler);
+        }
+        Dynasty dynasty = new Dynasty(country, baseNameOf(ruler.getName()));
+        int age = ruler.getAge(today);
+        if (ruler.getBirthDate() == null) {
+            ruler.setBirthDate(birthDateFor(age, today));
+        }
+        if (ruler.getCoronationDate() == null) {
+            ruler.crown(today);
+        }
+        dynasty.ruler = ruler;
+        dynasties.put(country.getName(), dynasty);
+        scheduleDeath(country.getName(), ruler, age, today);
+        dynasty.heir = createHeir(dynasty, today);
+        for (int i = 0; i < CANDIDATES; i++) {
+            dynasty.candidates.add(createCandidate(dynasty, today));
+        }
+    }
+
+    // Candidates age and die like anyone else, so their death is queued as soon as they appear
+    private Advisor createCandidate(Dynasty dynasty, GameDate today) {
+        // Names are unique within a court so the UI and the AI can refer to people by name
+        List<String> names = new ArrayList<>(Arrays.asList(ADVISOR_NAMES));
+        for (Advisor advisor : dynasty.advisors) names.remove(advisor.getName());
+        for (Advisor advisor : dynasty.candidates) names.remove(advisor.getName());
+        String name = names.get(random.nextInt(names.size()));
+        Advisor.AdvisorType type = CANDIDATE_TYPES[random.nextInt(CANDIDATE_TYPES.length)];
+        Advisor advisor = new Advisor(name, type, 1 + random.nextInt(MAX_CANDIDATE_LEVEL), random);
+        int age = 25 + random.nextInt(26);
+        advisor.setBirthDate(birthDateFor(age, today));
+        scheduleDeath(dynasty.country.getName(), advisor, age, today);
+        return advisor;
+    }
+
+    // Advisors the treasury can no longer pay leave, most expensive first
+    private void payAdvisors(Dynasty dynasty) {
+        Country country = dynasty.country;
+        dynasty.advisors.sort(Comparator.comparingDouble(Advisor::getSalary));
+        while (!dynasty.advisors.isEmpty()) {
+            double salaries = 0;
+            for (Advisor advisor : dynasty.advisors) {
+                salaries += advisor.getSalary();
+            }
+            if (country.getTreasury() >= salaries) {
+                country.setTreasury(country.getTreasury() - salaries);
+                return;
+            }
+            dynasty.advisors.remove(dynasty.advisors.size() - 1).fire();
+            dynasty.updateAdvisorBonuses();
+        }
+    }
+
+    private void succeed(Dynasty dynasty, GameDate today) {
+        dynasty.ruler.die();
+        Ruler next = dynasty.heir;
+        if (next == null) {
+            // No heir: an adult relative takes the throne
+            int age = 20 + random.nextInt(21);
+            next = new Ruler(nextRulerName(dynasty), age, random);
+            next.setBirthDate(birthDateFor(age, today));
+            scheduleDeath(dynasty.country.getName(), next, age, today);
+        }
+        next.crown(today);
+        dynasty.ruler = next;
+        dynasty.country.setRuler(next);
+        dynasty.heir = createHeir(dynasty, today);
+    }
+
+    private Ruler createHeir(Dynasty dynasty, GameDate today) {
+        int age = random.nextInt(MAX_HEIR_AGE + 1);
+        Ruler heir = new Ruler(nextRulerName(dynasty), age, random);
+        heir.setBirthDate(birthDateFor(age, today));
+        scheduleDeath(dynasty.country.getName(), heir, age, today);
+        return heir;
+    }
+
+    private void scheduleDeath(String countryName, Object person, int age, GameDate today) {
+        double background = exponential(BACKGROUND_LIFESPAN_YEARS);
+        double oldAge = Math.max(0, OLD_AGE - age) + exponential(OLD_AGE_LIFESPAN_YEARS);
+        long delay = Math.max(1, (long) (Math.min(background, oldAge) * DAYS_PER_YEAR));
+        deaths.add(new Death(countryName, person, today.getDayNumber() + delay, sequence++));
+    }
+
+    private double exponential(double mean) {
+        return -Math.log(1.0 - random.nextDouble()) * mean;
+    }
+
+    private GameDate birthDateFor(int age, GameDate today) {
+        return new GameDate(today.getYear() - age, today.getMonth(), 1);
+    }
+
+    // Successors take the founder's name with a regnal number: Trajan, Trajan II, ...
+    private String nextRulerName(Dynasty dynasty) {
+        dynasty.generation++;
+        return dynasty.baseName + " " + toRoman(dynasty.generation);
+    }
+
+    private static String baseNameOf(String name) {
+        return name.replaceFirst("\\s+[IVXLC]+$", "");
+    }
+
+    private static String toRoman(int number) {
+        int[] values = { 100, 90, 50, 40, 10, 9, 5, 4, 1 };
+        String[] numerals = { "C", "XC", "L", "XL", "X", "IX", "V", "IV", "I" };
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            while (number >= values[i]) {
+                result.append(numerals[i]);
+                number -= values[i];
+            }
+        }
+        return result.toString();
+    }
+
+    private static class Dynasty {
+        private final Country country;
+        private final String baseName;
+        private Ruler ruler;
+        private Ruler heir;
+        private List<Advisor> advisors;
+        private List<Advisor> candidates;
+        private int[] advisorBonus; // admin, diplomatic, military points per month
+        private int generation;
+        private boolean landed; // has held provinces at some point
+
+        Dynasty(Country country, String baseName) {
+            this.country = country;
+            this.baseName = baseName;
+            this.advisors = new ArrayList<>();
+            this.candidates = new ArrayList<>();
+            this.advisorBonus = new int[3];
+            this.generation = 1;
+        }
+
+        void updateAdvisorBonuses() {
+            double admin = 0, diplomatic = 0, military = 0;
+            for (Advisor advisor : advisors) {
+                Map<String, Double> bonuses = advisor.getBonuses();
+                admin += bonuses.getOrDefault("admin_points", 0.0);
+                diplomatic += bonuses.getOrDefault("diplomatic_points", 0.0);
+                military += bonuses.getOrDefault("military_points", 0.0);
+            }
+            advisorBonus[0] = (int) Math.round(admin);
+            advisorBonus[1] = (int) Math.round(diplomatic);
+            advisorBonus[2] = (int) Math.round(military);
+        }
+    }
+
+    private static class Death {
+        private final String countryName;
+        private final Object person; // a Ruler or an Advisor
+        private final long day;
+        private final long sequence;
+
+        Death(String countryName, Object person, long day, long sequence) {
+            this.countryName = countryName;
+            this.person = person;
+            this.day = day;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -1,68 +1,84 @@
 package com.romagame.government;
 
+import com.romagame.core.GameDate;
 import java.util.*;
 
 public class Ruler {
     private String name;
-    private int age;
+    private int age; // age when created, until a birth date is assigned
+    private GameDate birthDate;
+    private GameDate coronationDate;
     private int adminPoints;
     private int diplomaticPoints;
     private int militaryPoints;
     private List<RulerTrait> traits;
     private RulerPersonality personality;
     private boolean isDead;
-    private int yearsReigned;
+    // Monthly point gains; traits never change, so these are worked out once
+    private int adminRate;
+    private int diplomaticRate;
+    private int militaryRate;
     
     public Ruler(String name, int age) {
+        this(name, age, new Random());
+    }
+    
+    public Ruler(String name, int age, Random random) {
         this.name = name;
         this.age = age;
         this.adminPoints = 0;
         this.diplomaticPoints = 0;
         this.militaryPoints = 0;
         this.traits = new ArrayList<>();
-        this.personality = generatePersonality();
+        this.personality = generatePersonality(random);
         this.isDead = false;
-        this.yearsReigned = 0;
-        generateTraits();
+        generateTraits(random);
+        this.adminRate = generateAdminPoints();
+        this.diplomaticRate = generateDiplomaticPoints();
+        this.militaryRate = generateMilitaryPoints();
     }
     
-    private RulerPersonality generatePersonality() {
+    private RulerPersonality generatePersonality(Random random) {
         RulerPersonality[] personalities = RulerPersonality.values();
-        return personalities[new Random().nextInt(personalities.length)];
+        return personalities[random.nextInt(personalities.length)];
     }
     
-    private void generateTraits() {
-        Random random = new Random();
+    private void generateTraits(Random random) {
         int traitCount = random.nextInt(3) + 1; // 1-3 traits
         
         List<RulerTrait> availableTraits = new ArrayList<>(Arrays.asList(RulerTrait.values()));
-        Collections.shuffle(availableTraits);
+        Collections.shuffle(availableTraits, random);
         
         for (int i = 0; i < traitCount && i < availableTraits.size(); i++) {
             traits.add(availableTraits.get(i));
         }
     }
     
-    public void update() {
+    // Called monthly by the dynasty manager; bonuses come from hired advisors
+    public void accrueMonthlyPoints(int adminBonus, int diplomaticBonus, int militaryBonus) {
         if (isDead) return;
         
-        yearsReigned++;
-        age++;
-        
         // Generate monarch points
-        adminPoints += generateAdminPoints();
-        diplomaticPoints += generateDiplomaticPoints();
-        militaryPoints += generateMilitaryPoints();
+        adminPoints += Math.max(0, adminRate + adminBonus);
+        diplomaticPoints += Math.max(0, diplomaticRate + diplomaticBonus);
+        militaryPoints += Math.max(0, militaryRate + militaryBonus);
         
         // Cap monarch points
         adminPoints = Math.min(adminPoints, 999);
         diplomaticPoints = Math.min(diplomaticPoints, 999);
         militaryPoints = Math.min(militaryPoints, 999);
-        
-        // Check for death
-        if (age > 70 && new Random().nextDouble() < 0.1) {
-            isDead = true;
-        }
+    }
+    
+    public void die() {
+        isDead = true;
+    }
+    
+    public void crown(GameDate date) {
+        this.coronationDate = date.copy();
+    }
+    
+    public void setBirthDate(GameDate birthDate) {
+        this.birthDate = birthDate;
     }
     
     private int generateAdminPoints() {
@@ -247,14 +263,19 @@ public class Ruler {
     
     // Getters
     public String getName() { return name; }
-    public int getAge() { return age; }
+    public int getAge(GameDate today) { return birthDate != null ? today.getYearsSince(birthDate) : age; }
+    public GameDate getBirthDate() { return birthDate; }
+    public GameDate getCoronationDate() { return coronationDate; }
     public int getAdminPoints() { return adminPoints; }
     public int getDiplomaticPoints() { return diplomaticPoints; }
     public int getMilitaryPoints() { return militaryPoints; }
     public List<RulerTrait> getTraits() { return traits; }
     public RulerPersonality getPersonality() { return personality; }
     public boolean isDead() { return isDead; }
-    public int getYearsReigned() { return yearsReigned; }
+    public int getYearsReigned(GameDate today) { return coronationDate != null ? today.getYearsSince(coronationDate) : 0; }
+    public int getAdminRate() { return adminRate; }
+    public int getDiplomaticRate() { return diplomaticRate; }
+    public int getMilitaryRate() { return militaryRate; }
     
     public enum RulerPersonality {
         ADMINISTRATIVE, DIPLOMATIC, MILITARY, BALANCED
@@ -1,8 +1,10 @@
 package com.romagame.map;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import com.romagame.government.Ruler;
 
@@ -14,9 +16,10 @@ public class Country {
     private String governmentType;
     private String capital;
     private List<Province> provinces;
-    private Map<String, Double> resources;
+    private Map<String, Double> resources; // stockpiles; province production lives in stats
+    private CountryStats stats;
     private Map<String, Integer> military;
-    private Map<String, Double> modifiers;
+    private ModifierStack modifiers;
     private List<String> ideas;
     private String religion;
     private String culture;
@@ -38,6 +41,9 @@ public class Country {
     private List<String> researchedTechnologies;
     private List<String> researchingTechnologies;
 
+    // Current game year, shared by all countries
+    private static volatile int gameYear = 117; // Default to 117 AD for the Roman Empire scenario
+
     // Group-based mechanics (static for all countries)
     public static final Map<NationType, List<String>> GROUP_IDEAS = new HashMap<>();
     public static final Map<NationType, List<String>> GROUP_REFORMS = new HashMap<>();
@@ -92,13 +98,19 @@ public class Country {
     }
 
     public Country(String name) {
+        this(name, null);
+    }
+    
+    // Nations whose type isn't implied by their name (e.g. historical spawns) pass it in
+    public Country(String name, NationType nationType) {
         this.name = name;
         this.provinces = new ArrayList<>();
         this.resources = new HashMap<>();
+        this.stats = new CountryStats();
         this.military = new HashMap<>();
-        this.modifiers = new HashMap<>();
+        this.modifiers = new ModifierStack(ModifierType.values().length);
         this.ideas = new ArrayList<>();
-        this.nationType = determineNationType();
+        this.nationType = nationType != null ? nationType : determineNationType();
         this.cultureGroup = determineCultureGroup();
         this.goods = new HashMap<>();
         
@@ -156,6 +168,7 @@ public class Country {
         military.put("Cavalry", 0);
         military.put("Artillery", 0);
         military.put("Ships", 0);
+        stats.unitsChanged(military.values().stream().mapToInt(Integer::intValue).sum());
         
         // Add starting ideas
         addStartingIdeas();
@@ -516,22 +529,41 @@ public class Country {
     }
     
     public void addProvince(Province province) {
+        if (province.getOwnerCountry() == this) {
+            return; // Already owned
+        }
+        if (province.getOwnerCountry() != null) {
+            province.getOwnerCountry().removeProvince(province);
+        }
         provinces.add(province);
+        province.setOwnerCountry(this);
+        stats.provinceAdded(province);
         if (capital == null && province.isCapital()) {
             capital = province.getId();
         }
-        updateResources();
     }
     
-    private void updateResources() {
-        // Update resources based on provinces
-        for (Province province : provinces) {
-            for (String good : province.getTradeGoods()) {
-                resources.merge(good, 1.0, Double::sum);
-            }
+    public void removeProvince(Province province) {
+        if (province.getOwnerCountry() != this) {
+            return;
+        }
+        provinces.remove(province);
+        province.setOwnerCountry(null);
+        stats.provinceRemoved(province);
+        if (province.getId().equals(capital)) {
+            capital = null;
         }
     }
     
+    // Called by owned provinces when their development or pops change
+    void onDevelopmentChanged(double delta) {
+        stats.developmentChanged(delta);
+    }
+    
+    void onPopChanged(Province.PopType type, int delta) {
+        stats.popChanged(type, delta);
+    }
+    
     public void update() {
         // Daily country update
         calculateIncome();
@@ -550,14 +582,21 @@ public class Country {
     }
     
     private void calculateIncome() {
-        income = provinces.size() * 2.0; // Base income per province
+        double[] m = modifiers.getTotals();
+        double provinceIncome = stats.getProvinceCount() * 2.0; // Base income per province
+        provinceIncome *= 1.0 + m[ModifierType.TAX_INCOME.ordinal()] + m[ModifierType.AGRICULTURE_INCOME.ordinal()]
+            + m[ModifierType.PRODUCTION_EFFICIENCY.ordinal()] + m[ModifierType.TRADE_EFFICIENCY.ordinal()];
+        provinceIncome *= 1.0 - Math.max(0.0, Math.min(0.9, m[ModifierType.CORRUPTION.ordinal()]));
+        income = Math.max(0.0, provinceIncome);
         income += prestige * 0.1; // Prestige bonus
         income += stability * 0.5; // Stability bonus
     }
     
     private void calculateExpenses() {
-        expenses = military.values().stream().mapToInt(Integer::intValue).sum() * 0.1;
-        expenses += provinces.size() * 0.5; // Maintenance
+        double[] m = modifiers.getTotals();
+        expenses = stats.getMilitaryUpkeep() * Math.max(0.1, 1.0 + m[ModifierType.MERCENARY_MAINTENANCE.ordinal()]);
+        // Maintenance
+        expenses += stats.getProvinceCount() * 0.5 * Math.max(0.1, 1.0 - m[ModifierType.ADMINISTRATIVE_EFFICIENCY.ordinal()]);
     }
     
     private void updateTreasury() {
@@ -571,6 +610,10 @@ public class Country {
     private void updateStability() {
         // Natural stability drift
         if (stability < 0) stability += 0.01;
+        // Unrest and separatism wear stability down; negative values (from good laws) build it up
+        double[] m = modifiers.getTotals();
+        stability -= 0.001 * (m[ModifierType.UNREST.ordinal()] + m[ModifierType.NATIONAL_UNREST.ordinal()]
+            + m[ModifierType.SEPARATISM.ordinal()]);
         if (stability > 3) stability = 3;
     }
     
@@ -640,8 +683,8 @@ public class Country {
     }
     
     public void completeTechnologyResearch(String techName) {
-        if (researchingTechnologies.contains(techName)) {
-            researchingTechnologies.remove(techName);
+        researchingTechnologies.remove(techName);
+        if (!researchedTechnologies.contains(techName)) {
             researchedTechnologies.add(techName);
         }
     }
@@ -663,9 +706,28 @@ public class Country {
     public String getGovernmentType() { return governmentType; }
     public String getCapital() { return capital; }
     public List<Province> getProvinces() { return provinces; }
-    public Map<String, Double> getResources() { return resources; }
-    public Map<String, Integer> getMilitary() { return military; }
-    public Map<String, Double> getModifiers() { return modifiers; }
+    public Map<String, Double> getResources() {
+        Map<String, Double> total = new HashMap<>(resources);
+        for (Map.Entry<String, Double> entry : stats.getResources().entrySet()) {
+            total.merge(entry.getKey(), entry.getValue(), Double::sum);
+        }
+        return total;
+    }
+    public Map<String, Integer> getMilitary() { return Collections.unmodifiableMap(military); }
+    public CountryStats getStats() { return stats; }
+    // Non-zero modifier totals by display name
+    public Map<String, Double> getModifiers() {
+        Map<String, Double> named = new LinkedHashMap<>();
+        double[] totals = modifiers.getTotals();
+        for (ModifierType type : ModifierType.values()) {
+            if (totals[type.ordinal()] != 0.0) {
+                named.put(type.getDisplayName(), totals[type.ordinal()]);
+            }
+        }
+        return named;
+    }
+    public ModifierStack getModifierStack() { return modifiers; }
+    public double getModifier(ModifierType type) { return modifiers.get(type); }
     public List<String> getIdeas() { return ideas; }
     public String getReligion() { return religion; }
     public String getCulture() { return culture; }
@@ -686,12 +748,37 @@ public class Country {
         }
     }
     
+    // Sets a standalone modifier by name, replacing any earlier value set this way
     public void addModifier(String name, double value) {
-        modifiers.put(name, value);
+        ModifierType type = ModifierType.fromName(name);
+        if (type == null) {
+            System.err.println("Unknown modifier: " + name);
+            return;
+        }
+        modifiers.addSource(new ModifierSource("modifier:" + type.getKey()).add(type, value));
+    }
+    
+    public void addModifierSource(ModifierSource source) {
+        modifiers.addSource(source);
+    }
+    
+    public boolean removeModifierSource(String id) {
+        return modifiers.removeSource(id);
+    }
+    
+    public void expireModifiers(long today) {
+        modifiers.expire(today);
+    }
+    
+    // Combat power multiplier from discipline and army quality
+    public double getCombatModifier() {
+        double[] totals = modifiers.getTotals();
+        return Math.max(0.1, 1.0 + totals[ModifierType.DISCIPLINE.ordinal()] + totals[ModifierType.ARMY_QUALITY.ordinal()]);
     }
     
     public void recruitUnit(String type, int amount) {
         military.merge(type, amount, Integer::sum);
+        stats.unitsChanged(amount);
     }
 
     private NationType determineNationType() {
@@ -729,14 +816,16 @@ public class Country {
     public void setGood(String good, int amount) { goods.put(good, amount); }
     
     public double getTotalDevelopment() {
-        return provinces.stream()
-                .mapToDouble(Province::getDevelopment)
-                .sum();
+        return stats.getTotalDevelopment();
     }
     
     public int getGameYear() {
-        // For now, return a default year - this should be connected to the game engine
-        return 117; // Default to 117 AD for the Roman Empire scenario
+        return gameYear;
+    }
+    
+    // Set by the game engine at the start and on every new year
+    public static void setGameYear(int year) {
+        gameYear = year;
     }
 
     public Ruler getRuler() { return ruler; }
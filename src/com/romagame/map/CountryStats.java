@@ -0,0 +1,80 @@
+package com.romagame.map;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Read-only aggregates for a country, kept up to date by Country and
+ * Province as provinces, pops and units change, so queries never walk the
+ * province list.
+ */
+public class CountryStats {
+    public static final double UPKEEP_PER_UNIT = 0.1;
+    
+    private int provinceCount;
+    private double totalDevelopment;
+    private long[] popsByType;
+    private long totalPopulation;
+    private Map<String, Double> resources;
+    private int totalUnits;
+    private int militaryVersion; // bumped when units or provinces change, for threat caches
+    
+    CountryStats() {
+        popsByType = new long[Province.PopType.values().length];
+        resources = new HashMap<>();
+    }
+    
+    void provinceAdded(Province province) {
+        militaryVersion++;
+        provinceCount++;
+        totalDevelopment += province.getDevelopment();
+        for (Province.PopType type : Province.PopType.values()) {
+            popChanged(type, province.getPop(type));
+        }
+        for (String good : province.getTradeGoods()) {
+            resources.merge(good, 1.0, Double::sum);
+        }
+    }
+    
+    void provinceRemoved(Province province) {
+        militaryVersion++;
+        provinceCount--;
+        totalDevelopment -= province.getDevelopment();
+        for (Province.PopType type : Province.PopType.values()) {
+            popChanged(type, -province.getPop(type));
+        }
+        for (String good : province.getTradeGoods()) {
+            resources.merge(good, -1.0, Double::sum);
+            if (resources.get(good) <= 0) {
+                resources.remove(good);
+            }
+        }
+    }
+    
+    void developmentChanged(double delta) {
+        totalDevelopment += delta;
+    }
+    
+    void popChanged(Province.PopType type, int delta) {
+        popsByType[type.ordinal()] += delta;
+        totalPopulation += delta;
+    }
+    
+    void unitsChanged(int delta) {
+        totalUnits += delta;
+        militaryVersion++;
+    }
+    
+    // Getters
+    public int getProvinceCount() { return provinceCount; }
+    public double getTotalDevelopment() { return totalDevelopment; }
+    public double getAverageDevelopment() { return provinceCount > 0 ? totalDevelopment / provinceCount : 0.0; }
+    public long getPops(Province.PopType type) { return popsByType[type.ordinal()]; }
+    public long getTotalPopulation() { return totalPopulation; }
+    public Map<String, Double> getResources() { return Collections.unmodifiableMap(resources); }
+    public double getResource(String good) { return resources.getOrDefault(good, 0.0); }
+    public int getTotalUnits() { return totalUnits; }
+    public double getMilitaryUpkeep() { return totalUnits * UPKEEP_PER_UNIT; }
+    public int getMilitaryVersion() { return militaryVersion; }
+}
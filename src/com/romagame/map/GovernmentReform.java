@@ -24,12 +24,16 @@ public class GovernmentReform {
         INTELLECTUALS, WORKERS, CAPITALISTS, NATIONALISTS, LIBERALS, CONSERVATIVES
     }
     
+    // Requirements of every reform by name, shared by all instances
+    private static final RequirementCache REQUIREMENT_CACHE = new RequirementCache();
+    
     private String name;
     private String description;
     private ReformType type;
     private int tier;
     private int cost;
     private List<String> requirements;
+    private List<Requirement> parsedRequirements; // compiled once from the strings above
     private Map<String, Double> effects;
     private List<InterestGroup> supportedBy;
     private List<InterestGroup> opposedBy;
@@ -44,6 +48,7 @@ public class GovernmentReform {
         this.cost = cost;
         this.yearUnlocked = yearUnlocked;
         this.requirements = new ArrayList<>();
+        this.parsedRequirements = new ArrayList<>();
         this.effects = new HashMap<>();
         this.supportedBy = new ArrayList<>();
         this.opposedBy = new ArrayList<>();
@@ -333,6 +338,11 @@ public class GovernmentReform {
     
     public void addRequirement(String requirement) {
         requirements.add(requirement);
+        Requirement parsed = Requirement.parse(requirement);
+        if (parsed != null) {
+            parsedRequirements.add(parsed);
+            REQUIREMENT_CACHE.register(name, parsedRequirements);
+        }
     }
     
     public void addEffect(String effect, double value) {
@@ -352,190 +362,24 @@ public class GovernmentReform {
     }
     
     public boolean canImplement(Country country) {
-        // Check if country meets requirements
-        for (String requirement : requirements) {
-            if (!checkRequirement(country, requirement)) {
-                return false;
-            }
-        }
-        return true;
-    }
-    
-    private boolean checkRequirement(Country country, String requirement) {
-        // Simple requirement checking - can be expanded
-        switch (requirement) {
-            case "stability_3" -> {
-                return country.getStability() >= 3;
-            }
-            case "treasury_100" -> {
-                return country.getTreasury() >= 100;
-            }
-            case "development_10" -> {
-                return country.getTotalDevelopment() >= 10;
-            }
-            case "year_1500" -> {
-                return country.getGameYear() >= 1500;
-            }
-            case "year_1700" -> {
-                return country.getGameYear() >= 1700;
-            }
-            case "year_1900" -> {
-                return country.getGameYear() >= 1900;
-            }
-            default -> {
-                return true; // Default to allowing
-            }
-        }
+        // Requirements are answered from the shared per-country cache
+        return REQUIREMENT_CACHE.isAvailable(country, name);
     }
     
     public void implement(Country country) {
         if (canImplement(country) && !isImplemented) {
-            // Apply effects to country
-            for (Map.Entry<String, Double> effect : effects.entrySet()) {
-                applyEffect(country, effect.getKey(), effect.getValue());
+            // Stability changes once; everything else is a lasting modifier
+            Double stability = effects.get("stability");
+            if (stability != null) {
+                country.setStability(country.getStability() + stability);
             }
+            country.addModifierSource(ModifierSource.fromEffects("reform:" + name, effects, "stability"));
             isImplemented = true;
         }
     }
     
-    private void applyEffect(Country country, String effect, double value) {
-        switch (effect) {
-            case "stability" -> {
-                country.setStability(country.getStability() + value);
-            }
-            case "trade_efficiency" -> {
-                country.addModifier("Trade Efficiency", value);
-            }
-            case "production_efficiency" -> {
-                country.addModifier("Production Efficiency", value);
-            }
-            case "administrative_efficiency" -> {
-                country.addModifier("Administrative Efficiency", value);
-            }
-            case "army_quality" -> {
-                country.addModifier("Army Quality", value);
-            }
-            case "discipline" -> {
-                country.addModifier("Discipline", value);
-            }
-            case "religious_unity" -> {
-                country.addModifier("Religious Unity", value);
-            }
-            case "corruption" -> {
-                country.addModifier("Corruption", value);
-            }
-            case "unrest" -> {
-                country.addModifier("Unrest", value);
-            }
-            case "technology_cost" -> {
-                country.addModifier("Technology Cost", value);
-            }
-            case "innovation" -> {
-                country.addModifier("Innovation", value);
-            }
-            case "population_growth" -> {
-                country.addModifier("Population Growth", value);
-            }
-            case "merchant_slots" -> {
-                country.addModifier("Merchant Slots", (int)value);
-            }
-            case "leader_pool" -> {
-                country.addModifier("Leader Pool", (int)value);
-            }
-            case "army_tradition" -> {
-                country.addModifier("Army Tradition", value);
-            }
-            case "goods_produced" -> {
-                country.addModifier("Goods Produced", value);
-            }
-            case "tolerance" -> {
-                country.addModifier("Tolerance", value);
-            }
-            case "missionary_strength" -> {
-                country.addModifier("Missionary Strength", value);
-            }
-            case "diplomatic_relations" -> {
-                country.addModifier("Diplomatic Relations", (int)value);
-            }
-            case "manpower" -> {
-                country.addModifier("Manpower", value);
-            }
-            case "absolutism" -> {
-                country.addModifier("Absolutism", value);
-            }
-            case "governing_capacity" -> {
-                country.addModifier("Governing Capacity", value);
-            }
-            case "advisor_cost" -> {
-                country.addModifier("Advisor Cost", value);
-            }
-            case "nobility_influence" -> {
-                country.addModifier("Nobility Influence", value);
-            }
-            case "cavalry_combat_ability" -> {
-                country.addModifier("Cavalry Combat Ability", value);
-            }
-            case "autonomy" -> {
-                country.addModifier("Autonomy", value);
-            }
-            case "mercenary_cost" -> {
-                country.addModifier("Mercenary Cost", value);
-            }
-            case "mercenary_maintenance" -> {
-                country.addModifier("Mercenary Maintenance", value);
-            }
-            case "fort_level" -> {
-                country.addModifier("Fort Level", (int)value);
-            }
-            case "siege_ability" -> {
-                country.addModifier("Siege Ability", value);
-            }
-            case "defensiveness" -> {
-                country.addModifier("Defensiveness", value);
-            }
-            case "naval_force_limit" -> {
-                country.addModifier("Naval Force Limit", value);
-            }
-            case "ship_cost" -> {
-                country.addModifier("Ship Cost", value);
-            }
-            case "naval_tradition" -> {
-                country.addModifier("Naval Tradition", value);
-            }
-            case "legitimacy" -> {
-                country.addModifier("Legitimacy", value);
-            }
-            case "separatism" -> {
-                country.addModifier("Separatism", value);
-            }
-            case "national_unrest" -> {
-                country.addModifier("National Unrest", value);
-            }
-            case "prestige" -> {
-                country.addModifier("Prestige", value);
-            }
-            case "tax_income" -> {
-                country.addModifier("Tax Income", value);
-            }
-            case "burghers_influence" -> {
-                country.addModifier("Burghers Influence", value);
-            }
-            case "clergy_influence" -> {
-                country.addModifier("Clergy Influence", value);
-            }
-            case "espionage_efficiency" -> {
-                country.addModifier("Espionage Efficiency", value);
-            }
-            case "diplomatic_reputation" -> {
-                country.addModifier("Diplomatic Reputation", value);
-            }
-            case "republican_tradition" -> {
-                country.addModifier("Republican Tradition", value);
-            }
-            case "military_power" -> {
-                country.addModifier("Military Power", value);
-            }
-        }
+    public static RequirementCache getRequirementCache() {
+        return REQUIREMENT_CACHE;
     }
     
     // Getters
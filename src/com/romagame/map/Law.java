@@ -17,6 +17,9 @@ public class Law {
         CULTURAL        // Cultural policies, education
     }
     
+    // Requirements of every law by name, shared by all instances
+    private static final RequirementCache REQUIREMENT_CACHE = new RequirementCache();
+    
     private String name;
     private String description;
     private LawType type;
@@ -26,6 +29,7 @@ public class Law {
     private double enactmentProgress;
     private boolean isEnacted;
     private List<String> requirements;
+    private List<Requirement> parsedRequirements; // compiled once from the strings above
     private Map<String, Double> effects;
     private int yearUnlocked;
     
@@ -40,6 +44,7 @@ public class Law {
         this.enactmentProgress = 0.0;
         this.isEnacted = false;
         this.requirements = new ArrayList<>();
+        this.parsedRequirements = new ArrayList<>();
         this.effects = new HashMap<>();
     }
     
@@ -206,6 +211,11 @@ public class Law {
     
     public void addRequirement(String requirement) {
         requirements.add(requirement);
+        Requirement parsed = Requirement.parse(requirement);
+        if (parsed != null) {
+            parsedRequirements.add(parsed);
+            REQUIREMENT_CACHE.register(name, parsedRequirements);
+        }
     }
     
     public void addEffect(String effect, double value) {
@@ -213,95 +223,13 @@ public class Law {
     }
     
     public boolean canEnact(Country country) {
-        // Check if country meets requirements
-        for (String requirement : requirements) {
-            if (!checkRequirement(country, requirement)) {
-                return false;
-            }
+        // Requirements are answered from the shared per-country cache
+        if (!REQUIREMENT_CACHE.isAvailable(country, name)) {
+            return false;
         }
         return !isEnacted && country.getTreasury() >= enactmentCost;
     }
     
-    private boolean checkRequirement(Country country, String requirement) {
-        switch (requirement) {
-            case "stability_3" -> {
-                return country.getStability() >= 3;
-            }
-            case "treasury_100" -> {
-                return country.getTreasury() >= 100;
-            }
-            case "development_10" -> {
-                return country.getTotalDevelopment() >= 10;
-            }
-            case "year_-450" -> {
-                return country.getGameYear() >= -450;
-            }
-            case "year_-133" -> {
-                return country.getGameYear() >= -133;
-            }
-            case "year_-100" -> {
-                return country.getGameYear() >= -100;
-            }
-            case "year_-50" -> {
-                return country.getGameYear() >= -50;
-            }
-            case "year_0" -> {
-                return country.getGameYear() >= 0;
-            }
-            case "year_100" -> {
-                return country.getGameYear() >= 100;
-            }
-            case "year_800" -> {
-                return country.getGameYear() >= 800;
-            }
-            case "year_1000" -> {
-                return country.getGameYear() >= 1000;
-            }
-            case "year_1100" -> {
-                return country.getGameYear() >= 1100;
-            }
-            case "year_1500" -> {
-                return country.getGameYear() >= 1500;
-            }
-            case "year_1600" -> {
-                return country.getGameYear() >= 1600;
-            }
-            case "year_1650" -> {
-                return country.getGameYear() >= 1650;
-            }
-            case "year_1750" -> {
-                return country.getGameYear() >= 1750;
-            }
-            case "year_1780" -> {
-                return country.getGameYear() >= 1780;
-            }
-            case "year_1790" -> {
-                return country.getGameYear() >= 1790;
-            }
-            case "year_1850" -> {
-                return country.getGameYear() >= 1850;
-            }
-            case "year_1870" -> {
-                return country.getGameYear() >= 1870;
-            }
-            case "year_1890" -> {
-                return country.getGameYear() >= 1890;
-            }
-            case "year_1920" -> {
-                return country.getGameYear() >= 1920;
-            }
-            case "year_1950" -> {
-                return country.getGameYear() >= 1950;
-            }
-            case "year_1980" -> {
-                return country.getGameYear() >= 1980;
-            }
-            default -> {
-                return true;
-            }
-        }
-    }
-    
     public void startEnactment(Country country) {
         if (canEnact(country)) {
             country.setTreasury(country.getTreasury() - enactmentCost);
@@ -322,86 +250,21 @@ public class Law {
     
     public void enact(Country country) {
         if (canEnact(country)) {
-            // Apply effects to country
+            // Stability and legitimacy change once; everything else is a lasting modifier
             for (Map.Entry<String, Double> effect : effects.entrySet()) {
-                applyEffect(country, effect.getKey(), effect.getValue());
+                switch (effect.getKey()) {
+                    case "stability" -> country.setStability(country.getStability() + effect.getValue());
+                    case "legitimacy" -> country.setLegitimacy(country.getLegitimacy() + effect.getValue());
+                    default -> { }
+                }
             }
+            country.addModifierSource(ModifierSource.fromEffects("law:" + name, effects, "stability", "legitimacy"));
             isEnacted = true;
         }
     }
     
-    private void applyEffect(Country country, String effect, double value) {
-        switch (effect) {
-            case "stability" -> {
-                country.setStability(country.getStability() + value);
-            }
-            case "legitimacy" -> {
-                country.setLegitimacy(country.getLegitimacy() + value);
-            }
-            case "agriculture_income" -> {
-                country.addModifier("Agriculture Income", value);
-            }
-            case "unrest" -> {
-                country.addModifier("Unrest", value);
-            }
-            case "army_discipline" -> {
-                country.addModifier("Army Discipline", value);
-            }
-            case "manpower" -> {
-                country.addModifier("Manpower", value);
-            }
-            case "trade_efficiency" -> {
-                country.addModifier("Trade Efficiency", value);
-            }
-            case "merchant_slots" -> {
-                country.addModifier("Merchant Slots", value);
-            }
-            case "religious_unity" -> {
-                country.addModifier("Religious Unity", value);
-            }
-            case "missionary_strength" -> {
-                country.addModifier("Missionary Strength", value);
-            }
-            case "administrative_efficiency" -> {
-                country.addModifier("Administrative Efficiency", value);
-            }
-            case "corruption" -> {
-                country.addModifier("Corruption", value);
-            }
-            case "nobility_influence" -> {
-                country.addModifier("Nobility Influence", value);
-            }
-            case "cavalry_combat_ability" -> {
-                country.addModifier("Cavalry Combat Ability", value);
-            }
-            case "production_efficiency" -> {
-                country.addModifier("Production Efficiency", value);
-            }
-            case "clergy_influence" -> {
-                country.addModifier("Clergy Influence", value);
-            }
-            case "army_tradition" -> {
-                country.addModifier("Army Tradition", value);
-            }
-            case "discipline" -> {
-                country.addModifier("Discipline", value);
-            }
-            case "absolutism" -> {
-                country.addModifier("Absolutism", value);
-            }
-            case "religious_tolerance" -> {
-                country.addModifier("Religious Tolerance", value);
-            }
-            case "technology_cost" -> {
-                country.addModifier("Technology Cost", value);
-            }
-            case "population_growth" -> {
-                country.addModifier("Population Growth", value);
-            }
-            case "prestige" -> {
-                country.addModifier("Prestige", value);
-            }
-        }
+    public static RequirementCache getRequirementCache() {
+        return REQUIREMENT_CACHE;
     }
     
     // Getters
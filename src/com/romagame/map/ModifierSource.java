@@ -0,0 +1,95 @@
+package com.romagame.map;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * A named bundle of modifier values contributed by one thing (a law, a
+ * reform, a monument, an event) to one country or province. Values are
+ * stored sparsely as (type id, value) pairs; the id is the ordinal of the
+ * modifier enum the owning ModifierStack is sized for. A source may expire
+ * on a given day number.
+ */
+public class ModifierSource {
+    public static final long NO_EXPIRY = Long.MAX_VALUE;
+
+    private final String id;
+    private final long expiryDay;
+    private int[] types;
+    private double[] values;
+    private int size;
+
+    public ModifierSource(String id) {
+        this(id, NO_EXPIRY);
+    }
+
+    public ModifierSource(String id, long expiryDay) {
+        this.id = id;
+        this.expiryDay = expiryDay;
+        this.types = new int[4];
+        this.values = new double[4];
+        this.size = 0;
+    }
+
+    // Permanent source from an effect table; excluded keys and keys that aren't modifier types are skipped
+    public static ModifierSource fromEffects(String id, Map<String, Double> effects, String... excludedKeys) {
+        ModifierSource source = new ModifierSource(id);
+        for (Map.Entry<String, Double> effect : effects.entrySet()) {
+            if (Arrays.asList(excludedKeys).contains(effect.getKey())) continue;
+            ModifierType type = ModifierType.fromName(effect.getKey());
+            if (type != null) {
+                source.add(type, effect.getValue());
+            }
+        }
+        return source;
+    }
+
+    public ModifierSource add(Enum<?> type, double value) {
+        return add(type.ordinal(), value);
+    }
+
+    public ModifierSource add(int type, double value) {
+        for (int i = 0; i < size; i++) {
+            if (types[i] == type) {
+                values[i] += value;
+                return this;
+            }
+        }
+        if (size == types.length) {
+            types = Arrays.copyOf(types, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        types[size] = type;
+        values[size] = value;
+        size++;
+        return this;
+    }
+
+    // Independent copy with the same id, expiry and values
+    public ModifierSource copy() {
+        ModifierSource copy = new ModifierSource(id, expiryDay);
+        copy.types = Arrays.copyOf(types, types.length);
+        copy.values = Arrays.copyOf(values, values.length);
+        copy.size = size;
+        return copy;
+    }
+
+    // Adds this source's values into a totals array
+    void addTo(double[] totals) {
+        for (int i = 0; i < size; i++) {
+            totals[types[i]] += values[i];
+        }
+    }
+
+    public double get(Enum<?> type) {
+        for (int i = 0; i < size; i++) {
+            if (types[i] == type.ordinal()) return values[i];
+        }
+        return 0.0;
+    }
+
+    public boolean isEmpty() { return size == 0; }
+    public String getId() { return id; }
+    public long getExpiryDay() { return expiryDay; }
+    public boolean isExpired(long today) { return today >= expiryDay; }
+}
@@ -0,0 +1,96 @@
+package com.romagame.map;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.LinkedHashMap;
+
+/**
+ * All modifier sources on one country or province, with their totals
+ * cached in a double[] indexed by modifier ordinal. Totals are rebuilt only
+ * when a source is added, replaced, removed or expires, so readers (income,
+ * upkeep, combat, stability) get each effective modifier with one array read.
+ * Sources are keyed by id, so re-adding a source replaces it rather than
+ * stacking it twice.
+ */
+public class ModifierStack {
+    private final int typeCount;
+    private Map<String, ModifierSource> sources;
+    private volatile double[] totals;
+    private long nextExpiry;
+    private volatile int version;
+
+    public ModifierStack(int typeCount) {
+        this.typeCount = typeCount;
+        this.sources = new LinkedHashMap<>();
+        this.totals = new double[typeCount];
+        this.nextExpiry = ModifierSource.NO_EXPIRY;
+        this.version = 0;
+    }
+
+    public synchronized void addSource(ModifierSource source) {
+        sources.put(source.getId(), source);
+        recompute();
+    }
+
+    // Adds to one value of a permanent source, creating it if needed; the stored source is replaced, never changed in place
+    public synchronized void addToSource(String id, Enum<?> type, double amount) {
+        ModifierSource existing = sources.get(id);
+        ModifierSource updated = existing != null ? existing.copy() : new ModifierSource(id);
+        sources.put(id, updated.add(type, amount));
+        recompute();
+    }
+
+    public synchronized boolean removeSource(String id) {
+        if (sources.remove(id) == null) return false;
+        recompute();
+        return true;
+    }
+
+    public synchronized boolean hasSource(String id) {
+        return sources.containsKey(id);
+    }
+
+    public synchronized ModifierSource getSource(String id) {
+        return sources.get(id);
+    }
+
+    public synchronized List<ModifierSource> getSources() {
+        return new ArrayList<>(sources.values());
+    }
+
+    // Drops sources that have expired by today; a no-op until the earliest expiry comes round
+    public synchronized boolean expire(long today) {
+        if (today < nextExpiry) return false;
+        sources.values().removeIf(source -> source.isExpired(today));
+        recompute();
+        return true;
+    }
+
+    public double get(Enum<?> type) {
+        return totals[type.ordinal()];
+    }
+
+    // Current totals indexed by ordinal; replaced on every change, never modified in place
+    public double[] getTotals() {
+        return totals;
+    }
+
+    // Changes whenever the totals do
+    public int getVersion() {
+        return version;
+    }
+
+    private void recompute() {
+        double[] fresh = new double[typeCount];
+        long earliest = ModifierSource.NO_EXPIRY;
+        for (ModifierSource source : sources.values()) {
+            source.addTo(fresh);
+            earliest = Math.min(earliest, source.getExpiryDay());
+        }
+        nextExpiry = earliest;
+        // Publish the finished array in one write so concurrent readers never see a partial sum
+        totals = fresh;
+        version++;
+    }
+}
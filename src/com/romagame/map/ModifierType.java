@@ -0,0 +1,86 @@
+package com.romagame.map;
+
+/**
+ * Country-level modifier ids. Laws, reforms, monuments and events all add
+ * their effects as sources of these types; Country keeps the summed totals
+ * in a double[] indexed by ordinal. The key is the snake_case name used in
+ * effect tables, the display name the label shown in the UI.
+ */
+public enum ModifierType {
+    // Economy
+    TAX_INCOME("tax_income", "Tax Income"),
+    AGRICULTURE_INCOME("agriculture_income", "Agriculture Income"),
+    PRODUCTION_EFFICIENCY("production_efficiency", "Production Efficiency"),
+    TRADE_EFFICIENCY("trade_efficiency", "Trade Efficiency"),
+    GOODS_PRODUCED("goods_produced", "Goods Produced"),
+    MERCHANT_SLOTS("merchant_slots", "Merchant Slots"),
+    ADMINISTRATIVE_EFFICIENCY("administrative_efficiency", "Administrative Efficiency"),
+    GOVERNING_CAPACITY("governing_capacity", "Governing Capacity"),
+    CORRUPTION("corruption", "Corruption"),
+    ADVISOR_COST("advisor_cost", "Advisor Cost"),
+    TECHNOLOGY_COST("technology_cost", "Technology Cost"),
+    INNOVATION("innovation", "Innovation"),
+    POPULATION_GROWTH("population_growth", "Population Growth"),
+    // Military
+    DISCIPLINE("discipline", "Discipline"),
+    ARMY_QUALITY("army_quality", "Army Quality"),
+    ARMY_TRADITION("army_tradition", "Army Tradition"),
+    MILITARY_POWER("military_power", "Military Power"),
+    MANPOWER("manpower", "Manpower"),
+    CAVALRY_COMBAT_ABILITY("cavalry_combat_ability", "Cavalry Combat Ability"),
+    SIEGE_ABILITY("siege_ability", "Siege Ability"),
+    FORT_LEVEL("fort_level", "Fort Level"),
+    DEFENSIVENESS("defensiveness", "Defensiveness"),
+    LEADER_POOL("leader_pool", "Leader Pool"),
+    MERCENARY_COST("mercenary_cost", "Mercenary Cost"),
+    MERCENARY_MAINTENANCE("mercenary_maintenance", "Mercenary Maintenance"),
+    NAVAL_FORCE_LIMIT("naval_force_limit", "Naval Force Limit"),
+    NAVAL_TRADITION("naval_tradition", "Naval Tradition"),
+    SHIP_COST("ship_cost", "Ship Cost"),
+    // Stability and politics
+    UNREST("unrest", "Unrest"),
+    NATIONAL_UNREST("national_unrest", "National Unrest"),
+    SEPARATISM("separatism", "Separatism"),
+    AUTONOMY("autonomy", "Autonomy"),
+    LEGITIMACY("legitimacy", "Legitimacy"),
+    PRESTIGE("prestige", "Prestige"),
+    ABSOLUTISM("absolutism", "Absolutism"),
+    REPUBLICAN_TRADITION("republican_tradition", "Republican Tradition"),
+    NOBILITY_INFLUENCE("nobility_influence", "Nobility Influence"),
+    CLERGY_INFLUENCE("clergy_influence", "Clergy Influence"),
+    BURGHERS_INFLUENCE("burghers_influence", "Burghers Influence"),
+    // Religion, culture and diplomacy
+    RELIGIOUS_UNITY("religious_unity", "Religious Unity"),
+    RELIGIOUS_TOLERANCE("religious_tolerance", "Religious Tolerance"),
+    MISSIONARY_STRENGTH("missionary_strength", "Missionary Strength"),
+    CULTURE_CONVERSION_COST("culture_conversion_cost", "Culture Conversion Cost"),
+    DIPLOMATIC_REPUTATION("diplomatic_reputation", "Diplomatic Reputation"),
+    DIPLOMATIC_RELATIONS("diplomatic_relations", "Diplomatic Relations"),
+    ESPIONAGE_EFFICIENCY("espionage_efficiency", "Espionage Efficiency");
+
+    private final String key;
+    private final String displayName;
+
+    ModifierType(String key, String displayName) {
+        this.key = key;
+        this.displayName = displayName;
+    }
+
+    public String getKey() { return key; }
+    public String getDisplayName() { return displayName; }
+
+    // Type for an effect key or display name, or null if it isn't a modifier
+    public static ModifierType fromName(String name) {
+        // Older effect tables use a few alternative keys
+        switch (name) {
+            case "army_discipline", "Army Discipline" -> { return DISCIPLINE; }
+            case "tolerance", "Tolerance" -> { return RELIGIOUS_TOLERANCE; }
+            case "navy_tradition", "Navy Tradition" -> { return NAVAL_TRADITION; }
+            default -> { }
+        }
+        for (ModifierType type : values()) {
+            if (type.key.equals(name) || type.displayName.equals(name)) return type;
+        }
+        return null;
+    }
+}
@@ -25,10 +25,15 @@ public class Province {
     private String religion;
     private List<String> tradeGoods;
     private List<Location> locations;
-    private Map<PopType, Integer> pops;
+    private static final PopType[] POP_TYPES = PopType.values();
+    private int[] pops; // indexed by PopType ordinal
     private int population; // Deprecated, use pops instead
     private List<BuildingSlot> buildingSlots;
     private Map<String, Integer> goods;
+    private Country ownerCountry; // kept in sync by Country.addProvince/removeProvince
+    private int regionId;
+    private static final String LOCAL_MODIFIERS = "local";
+    private ModifierStack modifierStack; // numeric modifiers, indexed by ProvinceModifier ordinal
     
     public Province(String id, String owner, double lat, double lon, String type) {
         this.id = id;
@@ -46,8 +51,9 @@ public class Province {
         this.religion = determineReligion(owner);
         this.tradeGoods = determineTradeGoods(lat, lon);
         this.locations = new ArrayList<>();
-        this.pops = new EnumMap<>(PopType.class);
+        this.pops = new int[POP_TYPES.length];
         this.goods = new HashMap<>();
+        this.modifierStack = new ModifierStack(ProvinceModifier.values().length);
         initializeLocations();
         initializePops();
         initializeBuildingSlots();
@@ -126,29 +132,59 @@ public class Province {
 
     private void initializePops() {
         // Example starting values, can be customized
-        pops.put(PopType.NOBLES, 100);
-        pops.put(PopType.CITY_FOLK, 2000);
-        pops.put(PopType.CRAFTSMEN, 800);
-        pops.put(PopType.PEASANTS, 5000);
-        pops.put(PopType.SLAVES, 1200);
-        pops.put(PopType.SERFS, 1500);
-        pops.put(PopType.SOLDIERS, 300);
+        pops[PopType.NOBLES.ordinal()] = 100;
+        pops[PopType.CITY_FOLK.ordinal()] = 2000;
+        pops[PopType.CRAFTSMEN.ordinal()] = 800;
+        pops[PopType.PEASANTS.ordinal()] = 5000;
+        pops[PopType.SLAVES.ordinal()] = 1200;
+        pops[PopType.SERFS.ordinal()] = 1500;
+        pops[PopType.SOLDIERS.ordinal()] = 300;
         updatePopulation();
     }
 
     public void updatePopulation() {
-        this.population = pops.values().stream().mapToInt(Integer::intValue).sum();
+        int total = 0;
+        for (int count : pops) {
+            total += count;
+        }
+        this.population = total;
     }
 
     public Map<PopType, Integer> getPops() {
-        return pops;
+        Map<PopType, Integer> result = new EnumMap<>(PopType.class);
+        for (PopType type : POP_TYPES) {
+            result.put(type, pops[type.ordinal()]);
+        }
+        return result;
     }
     public void setPop(PopType type, int value) {
-        pops.put(type, value);
-        updatePopulation();
+        int delta = value - pops[type.ordinal()];
+        pops[type.ordinal()] = value;
+        population += delta;
+        if (ownerCountry != null) {
+            ownerCountry.onPopChanged(type, delta);
+        }
     }
     public int getPop(PopType type) {
-        return pops.getOrDefault(type, 0);
+        return pops[type.ordinal()];
+    }
+    // Copies the pop counts, by ordinal, into a flat array starting at offset
+    public void copyPopsTo(int[] target, int offset) {
+        System.arraycopy(pops, 0, target, offset, pops.length);
+    }
+    // Adds a delta per pop type (by ordinal, from offset) in one step; counts never drop below zero
+    public void applyPopDeltas(int[] deltas, int offset) {
+        for (int i = 0; i < pops.length; i++) {
+            int delta = deltas[offset + i];
+            if (delta == 0) continue;
+            int value = Math.max(0, pops[i] + delta);
+            delta = value - pops[i];
+            pops[i] = value;
+            population += delta;
+            if (ownerCountry != null && delta != 0) {
+                ownerCountry.onPopChanged(POP_TYPES[i], delta);
+            }
+        }
     }
     public int getPopulation() {
         return population;
@@ -193,10 +229,19 @@ public class Province {
     public void setOwner(String owner) { this.owner = owner; }
     public double getLatitude() { return latitude; }
     public double getLongitude() { return longitude; }
+    public int getRegionId() { return regionId; }
+    public void setRegionId(int regionId) { this.regionId = regionId; }
     public String getTerrain() { return terrain; }
     public String getClimate() { return climate; }
     public double getDevelopment() { return development; }
-    public void setDevelopment(double development) { this.development = development; }
+    public void setDevelopment(double development) {
+        if (ownerCountry != null) {
+            ownerCountry.onDevelopmentChanged(development - this.development);
+        }
+        this.development = development;
+    }
+    public Country getOwnerCountry() { return ownerCountry; }
+    void setOwnerCountry(Country ownerCountry) { this.ownerCountry = ownerCountry; }
     public List<String> getBuildings() { return buildings; }
     public List<String> getModifiers() { return modifiers; }
     public boolean isCapital() { return isCapital; }
@@ -215,6 +260,17 @@ public class Province {
             modifiers.add(modifier);
         }
     }
+    
+    // Adds to the province's own permanent modifiers (the "local" source)
+    public void addModifier(ProvinceModifier modifier, double amount) {
+        modifierStack.addToSource(LOCAL_MODIFIERS, modifier, amount);
+    }
+    
+    public double getModifier(ProvinceModifier modifier) {
+        return modifierStack.get(modifier);
+    }
+    
+    public ModifierStack getModifierStack() { return modifierStack; }
 
     public static class BuildingSlot {
         private String type;
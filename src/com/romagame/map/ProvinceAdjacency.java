@@ -0,0 +1,131 @@
+package com.romagame.map;
+
+import java.awt.Point;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.HashMap;
+import java.util.Set;
+import java.util.HashSet;
+import java.util.function.Function;
+
+/**
+ * Province and country neighbourhoods derived from province centroids. Two
+ * provinces are adjacent when their centroids are within NEIGHBOR_RADIUS of
+ * each other. Province neighbours are built once through a SpatialGrid;
+ * per-country results (neighbour sets, centres) are cached and dropped
+ * whenever provinces change hands. The version counter changes on every
+ * invalidation so callers can tell whether something they derived is stale.
+ */
+public class ProvinceAdjacency implements ProvinceOwnershipListener {
+    public static final double NEIGHBOR_RADIUS = 80.0;
+
+    private WorldMap worldMap;
+    private Function<String, Point> provinceLocator;
+    private Map<String, List<Province>> neighbors;
+    private Map<String, Set<String>> countryNeighbors;
+    private Map<String, double[]> countryCenters;
+    private int builtProvinceCount;
+    private int version;
+
+    public ProvinceAdjacency(WorldMap worldMap) {
+        this.worldMap = worldMap;
+        this.neighbors = new HashMap<>();
+        this.countryNeighbors = new HashMap<>();
+        this.countryCenters = new HashMap<>();
+        this.builtProvinceCount = -1;
+        this.version = 0;
+    }
+
+    // Map position of a province; falls back to the province's own coordinates
+    public synchronized void setProvinceLocator(Function<String, Point> provinceLocator) {
+        this.provinceLocator = provinceLocator;
+        builtProvinceCount = -1;
+        version++;
+    }
+
+    public synchronized List<Province> getNeighbors(Province province) {
+        ensureBuilt();
+        return new ArrayList<>(neighbors.getOrDefault(province.getId(), List.of()));
+    }
+
+    // Names of countries owning a province adjacent to one of this country's provinces
+    public synchronized Set<String> getNeighborCountries(Country country) {
+        ensureBuilt();
+        Set<String> cached = countryNeighbors.get(country.getName());
+        if (cached != null) return cached;
+        Set<String> result = new HashSet<>();
+        for (Province province : country.getProvinces()) {
+            for (Province neighbor : neighbors.getOrDefault(province.getId(), List.of())) {
+                if (!neighbor.getOwner().equals(country.getName())) {
+                    result.add(neighbor.getOwner());
+                }
+            }
+        }
+        result = Set.copyOf(result);
+        countryNeighbors.put(country.getName(), result);
+        return result;
+    }
+
+    // Mean position of a country's provinces, or null if it has none
+    public synchronized double[] getCenter(Country country) {
+        ensureBuilt();
+        double[] cached = countryCenters.get(country.getName());
+        if (cached != null) return cached;
+        List<Province> owned = country.getProvinces();
+        if (owned.isEmpty()) return null;
+        double x = 0, y = 0;
+        for (Province province : owned) {
+            double[] position = positionOf(province);
+            x += position[0];
+            y += position[1];
+        }
+        double[] center = new double[]{x / owned.size(), y / owned.size()};
+        countryCenters.put(country.getName(), center);
+        return center;
+    }
+
+    // Map position of a single province, as used for adjacency
+    public synchronized double[] getPosition(Province province) {
+        return positionOf(province);
+    }
+
+    public synchronized int getVersion() {
+        ensureBuilt();
+        return version;
+    }
+
+    @Override
+    public synchronized void provincesTransferred(List<Province> provinces) {
+        countryNeighbors.clear();
+        countryCenters.clear();
+        version++;
+    }
+
+    private double[] positionOf(Province province) {
+        Point point = provinceLocator != null ? provinceLocator.apply(province.getId()) : null;
+        if (point != null) return new double[]{point.x, point.y};
+        return new double[]{province.getLatitude(), province.getLongitude()};
+    }
+
+    private void ensureBuilt() {
+        if (builtProvinceCount == worldMap.getProvinceCount()) return;
+        List<Province> all = worldMap.getAllProvinces();
+        SpatialGrid<Province> grid = new SpatialGrid<>(NEIGHBOR_RADIUS);
+        for (Province province : all) {
+            double[] position = positionOf(province);
+            grid.insert(province, position[0], position[1]);
+        }
+        neighbors.clear();
+        for (Province province : all) {
+            double[] position = positionOf(province);
+            List<Province> near = grid.query(position[0], position[1], NEIGHBOR_RADIUS);
+            near.remove(province);
+            neighbors.put(province.getId(), near);
+        }
+        countryNeighbors.clear();
+        countryCenters.clear();
+        builtProvinceCount = all.size();
+        version++;
+    }
+}
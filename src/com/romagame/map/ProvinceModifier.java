@@ -0,0 +1,30 @@
+package com.romagame.map;
+
+/**
+ * Numeric province modifiers. Each province keeps one double per modifier,
+ * indexed by ordinal, so applying or reading a modifier is an array access and
+ * totals feed straight into yields without parsing modifier text.
+ */
+public enum ProvinceModifier {
+    TRADE_POWER("Trade Power"),
+    NAVAL_CAPACITY("Naval Capacity"),
+    MILITARY_DEFENSE("Military Defense"),
+    TRADE_ROUTES("Trade Routes"),
+    PRODUCTION("Production"),
+    MORALE("Morale"),
+    COLONIZATION_EXPERIENCE("Colonization Experience"),
+    CULTURAL_EXCHANGE("Cultural Exchange");
+
+    private final String displayName;
+
+    ProvinceModifier(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() { return displayName; }
+
+    // e.g. "Trade Power +1"
+    public String format(double value) {
+        return String.format("%s %+.0f", displayName, value);
+    }
+}
@@ -0,0 +1,8 @@
+package com.romagame.map;
+
+import java.util.List;
+
+public interface ProvinceOwnershipListener {
+    // Called once per transfer batch, after the new owner is set
+    void provincesTransferred(List<Province> provinces);
+}
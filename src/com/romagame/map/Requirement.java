@@ -0,0 +1,74 @@
+package com.romagame.map;
+
+/**
+ * A law or reform requirement parsed from its string form ("year_1650",
+ * "stability_3", "treasury_100", "development_10") into a kind and a numeric
+ * threshold. Every kind is a "value >= threshold" test, which is what lets
+ * RequirementCache reduce a country to one threshold band per kind.
+ */
+public final class Requirement {
+    public enum Kind {
+        YEAR, STABILITY, TREASURY, DEVELOPMENT;
+
+        double read(Country country) {
+            return switch (this) {
+                case YEAR -> country.getGameYear();
+                case STABILITY -> country.getStability();
+                case TREASURY -> country.getTreasury();
+                case DEVELOPMENT -> country.getTotalDevelopment();
+            };
+        }
+    }
+
+    private final String text;
+    private final Kind kind;
+    private final double threshold;
+
+    private Requirement(String text, Kind kind, double threshold) {
+        this.text = text;
+        this.kind = kind;
+        this.threshold = threshold;
+    }
+
+    // Parsed requirement, or null for one this game doesn't know (unknown requirements never block)
+    public static Requirement parse(String text) {
+        int split = text.lastIndexOf('_');
+        if (split <= 0) return null;
+        Kind kind = switch (text.substring(0, split)) {
+            case "year" -> Kind.YEAR;
+            case "stability" -> Kind.STABILITY;
+            case "treasury" -> Kind.TREASURY;
+            case "development" -> Kind.DEVELOPMENT;
+            default -> null;
+        };
+        if (kind == null) return null;
+        try {
+            return new Requirement(text, kind, Double.parseDouble(text.substring(split + 1)));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public boolean isMet(Country country) {
+        return kind.read(country) >= threshold;
+    }
+
+    public String getText() { return text; }
+    public Kind getKind() { return kind; }
+    public double getThreshold() { return threshold; }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Requirement requirement && requirement.text.equals(text);
+    }
+
+    @Override
+    public int hashCode() {
+        return text.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
@@ -0,0 +1,155 @@
+package com.romagame.map;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.HashMap;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Which laws (or reforms) each country meets the requirements for. All
+ * requirements are "value >= threshold", so whether a country meets them
+ * depends only on where its year, stability, treasury and development fall
+ * among the registered thresholds. The cache stores each country's answer
+ * together with those band indices and recomputes it only when a band
+ * changes: a new year, a treasury band crossing, a stability change across a
+ * threshold. Safe to query from the AI think threads.
+ */
+public class RequirementCache {
+    private static final Requirement.Kind[] KINDS = Requirement.Kind.values();
+
+    private volatile Catalog catalog;
+    private Map<String, Availability> byCountry;
+
+    public RequirementCache() {
+        this.catalog = new Catalog(List.of(), List.of(), 0);
+        this.byCountry = new ConcurrentHashMap<>();
+    }
+
+    // Registers or updates an entry's requirements; re-registering the same list is a no-op
+    public synchronized void register(String name, List<Requirement> requirements) {
+        List<String> names = new ArrayList<>(catalog.names);
+        List<List<Requirement>> entries = new ArrayList<>(catalog.requirements);
+        int index = names.indexOf(name);
+        if (index >= 0) {
+            if (entries.get(index).equals(requirements)) return;
+            entries.set(index, List.copyOf(requirements));
+        } else {
+            names.add(name);
+            entries.add(List.copyOf(requirements));
+        }
+        catalog = new Catalog(names, entries, catalog.version + 1);
+    }
+
+    // Unregistered names have no requirements and are always available
+    public boolean isAvailable(Country country, String name) {
+        Catalog current = catalog;
+        Integer index = current.indexByName.get(name);
+        return index == null || getAvailable(country, current).get(index);
+    }
+
+    // Names of every registered entry whose requirements the country meets
+    public List<String> getAvailableNames(Country country) {
+        Catalog current = catalog;
+        BitSet available = getAvailable(country, current);
+        List<String> result = new ArrayList<>();
+        for (int i = available.nextSetBit(0); i >= 0; i = available.nextSetBit(i + 1)) {
+            result.add(current.names.get(i));
+        }
+        return result;
+    }
+
+    private BitSet getAvailable(Country country, Catalog current) {
+        int[] bands = current.bandsOf(country);
+        Availability cached = byCountry.get(country.getName());
+        if (cached != null && cached.version == current.version && Arrays.equals(cached.bands, bands)) {
+            return cached.available;
+        }
+        BitSet available = new BitSet(current.names.size());
+        for (int e = 0; e < current.names.size(); e++) {
+            int[] kinds = current.kindOf[e];
+            int[] levels = current.levelOf[e];
+            boolean met = true;
+            for (int r = 0; r < kinds.length && met; r++) {
+                // Met when the country has reached the requirement's threshold
+                met = bands[kinds[r]] > levels[r];
+            }
+            if (met) available.set(e);
+        }
+        byCountry.put(country.getName(), new Availability(current.version, bands, available));
+        return available;
+    }
+
+    // Immutable view of the registered requirements, replaced whenever one changes
+    private static class Catalog {
+        private final List<String> names;
+        private final List<List<Requirement>> requirements;
+        private final Map<String, Integer> indexByName;
+        private final double[][] thresholds; // distinct thresholds per kind, ascending
+        private final int[][] kindOf;        // per entry, per requirement: kind ordinal
+        private final int[][] levelOf;       // per entry, per requirement: index into thresholds of its kind
+        private final int version;
+
+        Catalog(List<String> names, List<List<Requirement>> requirements, int version) {
+            this.names = names;
+            this.requirements = requirements;
+            this.version = version;
+            this.indexByName = new HashMap<>();
+            for (int i = 0; i < names.size(); i++) {
+                indexByName.put(names.get(i), i);
+            }
+            List<TreeSet<Double>> levels = new ArrayList<>();
+            for (int k = 0; k < KINDS.length; k++) {
+                levels.add(new TreeSet<>());
+            }
+            for (List<Requirement> entry : requirements) {
+                for (Requirement requirement : entry) {
+                    levels.get(requirement.getKind().ordinal()).add(requirement.getThreshold());
+                }
+            }
+            this.thresholds = new double[KINDS.length][];
+            for (int k = 0; k < KINDS.length; k++) {
+                thresholds[k] = levels.get(k).stream().mapToDouble(Double::doubleValue).toArray();
+            }
+            this.kindOf = new int[requirements.size()][];
+            this.levelOf = new int[requirements.size()][];
+            for (int e = 0; e < requirements.size(); e++) {
+                List<Requirement> entry = requirements.get(e);
+                kindOf[e] = new int[entry.size()];
+                levelOf[e] = new int[entry.size()];
+                for (int r = 0; r < entry.size(); r++) {
+                    int kind = entry.get(r).getKind().ordinal();
+                    kindOf[e][r] = kind;
+                    levelOf[e][r] = Arrays.binarySearch(thresholds[kind], entry.get(r).getThreshold());
+                }
+            }
+        }
+
+        // Per kind, how many of the thresholds the country's value has reached
+        int[] bandsOf(Country country) {
+            int[] bands = new int[KINDS.length];
+            for (Requirement.Kind kind : KINDS) {
+                double[] levels = thresholds[kind.ordinal()];
+                if (levels.length == 0) continue;
+                int position = Arrays.binarySearch(levels, kind.read(country));
+                bands[kind.ordinal()] = position >= 0 ? position + 1 : -position - 1;
+            }
+            return bands;
+        }
+    }
+
+    private static class Availability {
+        private final int version;
+        private final int[] bands;
+        private final BitSet available;
+
+        Availability(int version, int[] bands, BitSet available) {
+            this.version = version;
+            this.bands = bands;
+            this.available = available;
+        }
+    }
+}
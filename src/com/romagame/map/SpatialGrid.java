@@ -0,0 +1,109 @@
+package com.romagame.map;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.HashMap;
+
+/**
+ * Uniform grid over map coordinates for fast "what is near this point" queries.
+ * Items are bucketed by cell; a query only looks at the cells it overlaps.
+ */
+public class SpatialGrid<T> {
+    private double cellSize;
+    private Map<Long, List<Entry<T>>> cells;
+    private int size;
+    
+    public SpatialGrid(double cellSize) {
+        this.cellSize = cellSize;
+        this.cells = new HashMap<>();
+        this.size = 0;
+    }
+    
+    public void insert(T item, double x, double y) {
+        cells.computeIfAbsent(cellKey(cellOf(x), cellOf(y)), k -> new ArrayList<>()).add(new Entry<>(item, x, y));
+        size++;
+    }
+    
+    public boolean remove(T item, double x, double y) {
+        long key = cellKey(cellOf(x), cellOf(y));
+        List<Entry<T>> cell = cells.get(key);
+        if (cell == null) return false;
+        for (int i = 0; i < cell.size(); i++) {
+            if (cell.get(i).item.equals(item)) {
+                cell.remove(i);
+                if (cell.isEmpty()) cells.remove(key);
+                size--;
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    // Items within the given distance of (x, y)
+    public List<T> query(double x, double y, double radius) {
+        List<T> result = new ArrayList<>();
+        double radiusSq = radius * radius;
+        for (Entry<T> entry : entriesIn(x - radius, y - radius, x + radius, y + radius)) {
+            double dx = entry.x - x;
+            double dy = entry.y - y;
+            if (dx * dx + dy * dy <= radiusSq) {
+                result.add(entry.item);
+            }
+        }
+        return result;
+    }
+    
+    // Items inside the given rectangle
+    public List<T> queryRect(double minX, double minY, double maxX, double maxY) {
+        List<T> result = new ArrayList<>();
+        for (Entry<T> entry : entriesIn(minX, minY, maxX, maxY)) {
+            if (entry.x >= minX && entry.x <= maxX && entry.y >= minY && entry.y <= maxY) {
+                result.add(entry.item);
+            }
+        }
+        return result;
+    }
+    
+    private List<Entry<T>> entriesIn(double minX, double minY, double maxX, double maxY) {
+        List<Entry<T>> result = new ArrayList<>();
+        int cx1 = cellOf(minX), cx2 = cellOf(maxX);
+        int cy1 = cellOf(minY), cy2 = cellOf(maxY);
+        for (int cx = cx1; cx <= cx2; cx++) {
+            for (int cy = cy1; cy <= cy2; cy++) {
+                List<Entry<T>> cell = cells.get(cellKey(cx, cy));
+                if (cell != null) result.addAll(cell);
+            }
+        }
+        return result;
+    }
+    
+    public void clear() {
+        cells.clear();
+        size = 0;
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    private int cellOf(double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+    
+    private static long cellKey(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xffffffffL);
+    }
+    
+    private static class Entry<T> {
+        private T item;
+        private double x;
+        private double y;
+        
+        Entry(T item, double x, double y) {
+            this.item = item;
+            this.x = x;
+            this.y = y;
+        }
+    }
+}
@@ -15,6 +15,8 @@ import java.nio.file.Paths;
 public class WorldMap {
     private Map<String, Province> provinces;
     private Map<String, Country> countries;
+    private List<ProvinceOwnershipListener> ownershipListeners;
+    private ProvinceAdjacency adjacency;
 
     private static class NationData {
         String name;
@@ -48,6 +50,9 @@ public class WorldMap {
     public WorldMap() {
         provinces = new HashMap<>();
         countries = new HashMap<>();
+        ownershipListeners = new ArrayList<>();
+        adjacency = new ProvinceAdjacency(this);
+        ownershipListeners.add(adjacency);
     }
 
     public void createProvince(String id, String owner, int r, int g, int b) {
@@ -90,6 +95,38 @@ public class WorldMap {
             countries.put(country.getName(), country);
         }
     }
+    
+    public int getProvinceCount() {
+        return provinces.size();
+    }
+    
+    // Ownership changes should go through here so both countries and listeners stay in sync
+    public void transferProvince(Province province, Country newOwner) {
+        transferProvinces(List.of(province), newOwner);
+    }
+    
+    public void transferProvinces(List<Province> transferred, Country newOwner) {
+        if (transferred.isEmpty()) return;
+        for (Province province : transferred) {
+            Country oldOwner = countries.get(province.getOwner());
+            if (oldOwner != null && oldOwner != newOwner) {
+                oldOwner.removeProvince(province);
+            }
+            province.setOwner(newOwner.getName());
+            newOwner.addProvince(province);
+        }
+        for (ProvinceOwnershipListener listener : ownershipListeners) {
+            listener.provincesTransferred(transferred);
+        }
+    }
+    
+    public void addOwnershipListener(ProvinceOwnershipListener listener) {
+        ownershipListeners.add(listener);
+    }
+    
+    public ProvinceAdjacency getAdjacency() {
+        return adjacency;
+    }
 
     private boolean loadProvincesFromJson() {
         String path = "src/resources/data/nations_and_provinces.json";
@@ -128,6 +165,7 @@ public class WorldMap {
                 ProvinceData pdata = new ProvinceData(provinceId, ownerColor, owner, pixelCount, centroidX, centroidY, regionId);
                 // Create Province and Country objects
                 Province prov = new Province(provinceId, owner, centroidX, centroidY, "Auto");
+                prov.setRegionId(regionId);
                 provinces.put(provinceId, prov);
                 if (!countries.containsKey(owner)) {
                     Country country = new Country(owner);
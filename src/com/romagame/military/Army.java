@@ -3,23 +3,30 @@ package com.romagame.military;
 import java.util.Map;
 import java.util.HashMap;
 
-public class Army {
+public class Army implements MilitaryUnit {
     private String country;
     private String name;
     private Map<String, Integer> units;
+    private int totalStrength; // cached sum of units
     private double morale;
     private double organization;
     private String location;
+    private String previousLocation;
     private boolean isEngaged;
+    private int id;
+    private UnitRegistry<?> registry;
     
     public Army(String country, String name) {
         this.country = country;
         this.name = name;
         this.units = new HashMap<>();
+        this.totalStrength = 0;
         this.morale = 1.0;
         this.organization = 1.0;
         this.location = "Unknown";
+        this.previousLocation = "Unknown";
         this.isEngaged = false;
+        this.id = -1;
         
         // Initialize with basic units
         units.put("Infantry", 0);
@@ -48,16 +55,25 @@ public class Army {
     }
     
     public void addUnit(String type, int amount) {
-        units.merge(type, amount, Integer::sum);
+        setUnitCount(type, getUnitCount(type) + amount);
     }
     
     public void removeUnit(String type, int amount) {
         if (units.containsKey(type)) {
-            int current = units.get(type);
-            units.put(type, Math.max(0, current - amount));
+            setUnitCount(type, getUnitCount(type) - amount);
         }
     }
     
+    public int getUnitCount(String type) {
+        return units.getOrDefault(type, 0);
+    }
+    
+    public void setUnitCount(String type, int count) {
+        int value = Math.max(0, count);
+        totalStrength += value - getUnitCount(type);
+        units.put(type, value);
+    }
+    
     public void engage() {
         isEngaged = true;
         morale -= 0.1;
@@ -68,8 +84,12 @@ public class Army {
         isEngaged = false;
     }
     
+    public void setEngaged(boolean engaged) {
+        isEngaged = engaged;
+    }
+    
     public int getTotalStrength() {
-        return units.values().stream().mapToInt(Integer::intValue).sum();
+        return totalStrength;
     }
     
     public double getCombatPower() {
@@ -79,12 +99,25 @@ public class Army {
     // Getters and setters
     public String getCountry() { return country; }
     public String getName() { return name; }
-    public Map<String, Integer> getUnits() { return units; }
+    public Map<String, Integer> getUnits() { return new HashMap<>(units); }
     public double getMorale() { return morale; }
     public void setMorale(double morale) { this.morale = Math.max(0.0, Math.min(1.0, morale)); }
     public double getOrganization() { return organization; }
     public void setOrganization(double organization) { this.organization = Math.max(0.0, Math.min(1.0, organization)); }
     public String getLocation() { return location; }
-    public void setLocation(String location) { this.location = location; }
+    public void setLocation(String location) {
+        this.previousLocation = this.location;
+        this.location = location;
+        if (registry != null) {
+            registry.relocate(id, previousLocation, location);
+        }
+    }
+    public String getPreviousLocation() { return previousLocation; }
     public boolean isEngaged() { return isEngaged; }
+    public int getId() { return id; }
+    
+    public void attach(UnitRegistry<?> registry, int id) {
+        this.registry = registry;
+        this.id = id;
+    }
 } 
\ No newline at end of file
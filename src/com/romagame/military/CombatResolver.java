@@ -0,0 +1,189 @@
+package com.romagame.military;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Resolves all battles of a tick in one batch. Engagements are collected
+ * during the tick, copied into flat arrays, resolved site by site (in
+ * parallel when there are many) and only then written back to the armies.
+ * Each site draws from its own generator seeded by (seed, tick, site), so
+ * results do not depend on thread scheduling.
+ */
+public class CombatResolver {
+    public static final String[] UNIT_TYPES = {"Infantry", "Cavalry", "Artillery"};
+    private static final double[] UNIT_POWER = {1.0, 1.5, 1.2};
+    private static final int PARALLEL_THRESHOLD = 64;
+    private static final double LOSER_CASUALTIES = 0.1;
+    private static final double WINNER_CASUALTIES = 0.05;
+    private static final double MORALE_LOSS = 0.1;
+    private static final double ORGANIZATION_LOSS = 0.2;
+    
+    private long seed;
+    private List<Engagement> pending;
+    private ToDoubleFunction<String> combatModifier; // power multiplier by owning country
+    
+    public CombatResolver(long seed) {
+        this.seed = seed;
+        this.pending = new ArrayList<>();
+        this.combatModifier = country -> 1.0;
+    }
+    
+    public void setCombatModifier(ToDoubleFunction<String> combatModifier) {
+        this.combatModifier = combatModifier;
+    }
+    
+    public void addEngagement(String provinceId, List<Army> sideA, List<Army> sideB) {
+        pending.add(new Engagement(provinceId, sideA, sideB));
+    }
+    
+    public List<BattleResult> resolve(long tick) {
+        int sites = pending.size();
+        List<BattleResult> results = new ArrayList<>(sites);
+        if (sites == 0) return results;
+        
+        // Flatten armies: site s owns armies [siteStart[s], siteStart[s + 1])
+        int[] siteStart = new int[sites + 1];
+        List<Army> armies = new ArrayList<>();
+        for (int s = 0; s < sites; s++) {
+            siteStart[s] = armies.size();
+            armies.addAll(pending.get(s).sideA);
+            armies.addAll(pending.get(s).sideB);
+        }
+        siteStart[sites] = armies.size();
+        
+        int n = armies.size();
+        int types = UNIT_TYPES.length;
+        int[] units = new int[n * types];
+        double[] morale = new double[n];
+        double[] organization = new double[n];
+        double[] quality = new double[n];
+        boolean[] sideB = new boolean[n];
+        for (int s = 0; s < sites; s++) {
+            int firstB = siteStart[s] + pending.get(s).sideA.size();
+            for (int i = siteStart[s]; i < siteStart[s + 1]; i++) {
+                Army army = armies.get(i);
+                for (int t = 0; t < types; t++) {
+                    units[i * types + t] = army.getUnitCount(UNIT_TYPES[t]);
+                }
+                morale[i] = army.getMorale();
+                organization[i] = army.getOrganization();
+                quality[i] = combatModifier.applyAsDouble(army.getCountry());
+                sideB[i] = i >= firstB;
+            }
+        }
+        
+        int[] siteHash = new int[sites];
+        for (int s = 0; s < sites; s++) {
+            siteHash[s] = pending.get(s).provinceId.hashCode();
+        }
+        boolean[] winnerB = new boolean[sites];
+        boolean[] drawn = new boolean[sites];
+        double[] margin = new double[sites];
+        
+        // Sites share no armies, so each one only writes its own slice of the arrays
+        IntStream range = IntStream.range(0, sites);
+        if (sites >= PARALLEL_THRESHOLD) {
+            range = range.parallel();
+        }
+        range.forEach(s -> {
+            SplittableRandom rng = new SplittableRandom(seed ^ (tick * 0x9E3779B97F4A7C15L) ^ ((long) siteHash[s] << 32 | s));
+            double powerA = 0;
+            double powerB = 0;
+            for (int i = siteStart[s]; i < siteStart[s + 1]; i++) {
+                double power = 0;
+                for (int t = 0; t < types; t++) {
+                    power += units[i * types + t] * UNIT_POWER[t];
+                }
+                power *= morale[i] * organization[i] * quality[i];
+                if (sideB[i]) powerB += power; else powerA += power;
+            }
+            powerA *= 0.8 + rng.nextDouble() * 0.4; // 80-120% effectiveness
+            powerB *= 0.8 + rng.nextDouble() * 0.4;
+            // Neither side can fight (no units or no morale left): a draw, nobody takes losses
+            if (powerA == 0 && powerB == 0) {
+                drawn[s] = true;
+                return;
+            }
+            
+            winnerB[s] = powerB > powerA;
+            margin[s] = Math.abs(powerA - powerB);
+            double ratio = Math.min(powerA, powerB) / Math.max(powerA, powerB);
+            for (int i = siteStart[s]; i < siteStart[s + 1]; i++) {
+                double casualties = sideB[i] == winnerB[s] ? WINNER_CASUALTIES * ratio : LOSER_CASUALTIES;
+                for (int t = 0; t < types; t++) {
+                    int count = units[i * types + t];
+                    units[i * types + t] = Math.max(0, count - (int) Math.ceil(count * casualties));
+                }
+                morale[i] = Math.max(0.0, morale[i] - MORALE_LOSS);
+                organization[i] = Math.max(0.0, organization[i] - ORGANIZATION_LOSS);
+            }
+        });
+        
+        // Write back on the calling thread
+        for (int s = 0; s < sites; s++) {
+            List<Army> winners = new ArrayList<>();
+            List<Army> losers = new ArrayList<>();
+            if (drawn[s]) {
+                // Both sides break off; disengaged armies can recover morale
+                for (int i = siteStart[s]; i < siteStart[s + 1]; i++) {
+                    armies.get(i).disengage();
+                    losers.add(armies.get(i));
+                }
+                results.add(new BattleResult(pending.get(s).provinceId, winners, losers, 0.0, true));
+                continue;
+            }
+            for (int i = siteStart[s]; i < siteStart[s + 1]; i++) {
+                Army army = armies.get(i);
+                for (int t = 0; t < types; t++) {
+                    army.setUnitCount(UNIT_TYPES[t], units[i * types + t]);
+                }
+                army.setMorale(morale[i]);
+                army.setOrganization(organization[i]);
+                army.setEngaged(true);
+                if (sideB[i] == winnerB[s]) winners.add(army); else losers.add(army);
+            }
+            results.add(new BattleResult(pending.get(s).provinceId, winners, losers, margin[s], false));
+        }
+        pending.clear();
+        return results;
+    }
+    
+    private static class Engagement {
+        private String provinceId;
+        private List<Army> sideA;
+        private List<Army> sideB;
+        
+        Engagement(String provinceId, List<Army> sideA, List<Army> sideB) {
+            this.provinceId = provinceId;
+            this.sideA = sideA;
+            this.sideB = sideB;
+        }
+    }
+    
+    public static class BattleResult {
+        private String provinceId;
+        private List<Army> winners;
+        private List<Army> losers;
+        private double margin;
+        private boolean draw; // no winners; every army present is listed as a loser
+        
+        public BattleResult(String provinceId, List<Army> winners, List<Army> losers, double margin, boolean draw) {
+            this.provinceId = provinceId;
+            this.winners = winners;
+            this.losers = losers;
+            this.margin = margin;
+            this.draw = draw;
+        }
+        
+        // Getters
+        public String getProvinceId() { return provinceId; }
+        public List<Army> getWinners() { return winners; }
+        public List<Army> getLosers() { return losers; }
+        public double getMargin() { return margin; }
+        public boolean isDraw() { return draw; }
+    }
+}
@@ -1,77 +1,134 @@
 package com.romagame.military;
 
+import com.romagame.diplomacy.DiplomacyManager;
+import com.romagame.map.WorldMap;
+import java.awt.Point;
 import java.util.List;
-import java.util.ArrayList;
 import java.util.Map;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.function.Function;
 
+// Army state is changed by the game thread and by player commands on the EDT, so every access
+// goes through this object's lock; WarEngine and WarForecaster take the same lock
 public class MilitaryManager {
-    private List<War> activeWars;
-    private Map<String, Army> armies;
-    private Map<String, Navy> navies;
+    private UnitRegistry<Army> armies;
+    private UnitRegistry<Navy> navies;
+    private WarEngine warEngine;
+    private WarForecaster warForecaster;
     
     public MilitaryManager() {
-        activeWars = new ArrayList<>();
-        armies = new HashMap<>();
-        navies = new HashMap<>();
+        armies = new UnitRegistry<>();
+        navies = new UnitRegistry<>();
+        warEngine = new WarEngine(this);
+        warForecaster = new WarForecaster(this);
+        armies.setMoveListener((from, to) -> warEngine.onArmyMoved(from, to));
     }
     
-    public void update() {
+    public void setDiplomacyManager(DiplomacyManager diplomacyManager) {
+        warEngine.setDiplomacyManager(diplomacyManager);
+        warForecaster.setDiplomacyManager(diplomacyManager);
+    }
+    
+    public void setWorldMap(WorldMap worldMap) {
+        warEngine.setWorldMap(worldMap);
+        warForecaster.setWorldMap(worldMap);
+    }
+    
+    public synchronized void update() {
         // Update all military systems
-        updateWars();
         updateArmies();
         updateNavies();
-    }
-    
-    private void updateWars() {
-        for (War war : activeWars) {
-            war.update();
-        }
-        // Remove ended wars
-        activeWars.removeIf(war -> !war.isActive());
+        warEngine.update();
     }
     
     private void updateArmies() {
-        for (Army army : armies.values()) {
+        for (Army army : armies.getAll()) {
             army.update();
         }
     }
     
     private void updateNavies() {
-        for (Navy navy : navies.values()) {
+        for (Navy navy : navies.getAll()) {
             navy.update();
         }
     }
     
-    public void addWar(War war) {
-        activeWars.add(war);
-    }
-    
-    public List<War> getActiveWars() {
-        return new ArrayList<>(activeWars);
-    }
-    
-    public Army createArmy(String country, String name) {
+    public synchronized Army createArmy(String country, String name) {
         Army army = new Army(country, name);
-        armies.put(name, army);
+        armies.register(army);
         return army;
     }
     
-    public Navy createNavy(String country, String name) {
+    public synchronized Navy createNavy(String country, String name) {
         Navy navy = new Navy(country, name);
-        navies.put(name, navy);
+        navies.register(navy);
         return navy;
     }
     
-    public Army getArmy(String name) {
+    public synchronized void moveArmy(Army army, String provinceId) {
+        if (army.getLocation().equals(provinceId)) return;
+        army.setLocation(provinceId);
+        army.disengage();
+    }
+    
+    public synchronized boolean disbandArmy(String name) {
+        Army army = armies.unregister(name);
+        if (army == null) return false;
+        warEngine.onArmyMoved(army.getLocation(), null);
+        return true;
+    }
+    
+    public synchronized boolean disbandNavy(String name) {
+        return navies.unregister(name) != null;
+    }
+    
+    // Map coordinates of provinces, used for the spatial index of unit icons
+    public synchronized void setProvinceLocator(Function<String, Point> provinceLocator) {
+        armies.setProvinceLocator(provinceLocator);
+        navies.setProvinceLocator(provinceLocator);
+    }
+    
+    public synchronized List<Army> getArmiesIn(String provinceId) {
+        return armies.getIn(provinceId);
+    }
+    
+    public synchronized List<Army> getArmiesOf(String country) {
+        return armies.getOf(country);
+    }
+    
+    public synchronized List<Army> getArmiesNear(double x, double y, double radius) {
+        return armies.getNear(x, y, radius);
+    }
+    
+    public synchronized List<Navy> getNaviesIn(String provinceId) {
+        return navies.getIn(provinceId);
+    }
+    
+    public synchronized List<Navy> getNaviesOf(String country) {
+        return navies.getOf(country);
+    }
+    
+    public synchronized Army getArmy(String name) {
         return armies.get(name);
     }
     
-    public Navy getNavy(String name) {
+    public synchronized Navy getNavy(String name) {
         return navies.get(name);
     }
     
-    public Map<String, Army> getArmies() {
-        return armies;
+    public synchronized Map<String, Army> getArmies() {
+        Map<String, Army> result = new LinkedHashMap<>();
+        for (Army army : armies.getAll()) {
+            result.put(army.getName(), army);
+        }
+        return result;
+    }
+    
+    public WarEngine getWarEngine() {
+        return warEngine;
+    }
+    
+    public WarForecaster getWarForecaster() {
+        return warForecaster;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,10 @@
+package com.romagame.military;
+
+// Common view of armies and navies used by UnitRegistry
+public interface MilitaryUnit {
+    String getName();
+    String getCountry();
+    String getLocation();
+    int getId();
+    void attach(UnitRegistry<?> registry, int id);
+}
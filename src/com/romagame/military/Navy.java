@@ -3,13 +3,15 @@ package com.romagame.military;
 import java.util.Map;
 import java.util.HashMap;
 
-public class Navy {
+public class Navy implements MilitaryUnit {
     private String country;
     private String name;
     private Map<String, Integer> ships;
     private double morale;
     private String location;
     private boolean isEngaged;
+    private int id;
+    private UnitRegistry<?> registry;
     
     public Navy(String country, String name) {
         this.country = country;
@@ -18,6 +20,7 @@ public class Navy {
         this.morale = 1.0;
         this.location = "Unknown";
         this.isEngaged = false;
+        this.id = -1;
         
         // Initialize with basic ships
         ships.put("Light Ships", 0);
@@ -74,6 +77,18 @@ public class Navy {
     public double getMorale() { return morale; }
     public void setMorale(double morale) { this.morale = Math.max(0.0, Math.min(1.0, morale)); }
     public String getLocation() { return location; }
-    public void setLocation(String location) { this.location = location; }
+    public void setLocation(String location) {
+        String from = this.location;
+        this.location = location;
+        if (registry != null) {
+            registry.relocate(id, from, location);
+        }
+    }
     public boolean isEngaged() { return isEngaged; }
+    public int getId() { return id; }
+    
+    public void attach(UnitRegistry<?> registry, int id) {
+        this.registry = registry;
+        this.id = id;
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,161 @@
+package com.romagame.military;
+
+import com.romagame.map.SpatialGrid;
+import java.awt.Point;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.HashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Indexed store of armies or navies. Units get a compact id on registration
+ * and are indexed by name, province, country and map position. Units report
+ * their own moves back here, so every index stays current.
+ */
+public class UnitRegistry<T extends MilitaryUnit> {
+    private static final double GRID_CELL_SIZE = 64.0;
+    
+    private List<T> units;
+    private Deque<Integer> freeIds;
+    private Map<String, Integer> idsByName;
+    private Map<String, List<T>> byProvince;
+    private Map<String, List<T>> byCountry;
+    private SpatialGrid<T> grid;
+    private Function<String, Point> provinceLocator;
+    private BiConsumer<String, String> moveListener;
+    
+    public UnitRegistry() {
+        units = new ArrayList<>();
+        freeIds = new ArrayDeque<>();
+        idsByName = new HashMap<>();
+        byProvince = new HashMap<>();
+        byCountry = new HashMap<>();
+        grid = new SpatialGrid<>(GRID_CELL_SIZE);
+    }
+    
+    public void register(T unit) {
+        unregister(unit.getName());
+        int id;
+        if (freeIds.isEmpty()) {
+            id = units.size();
+            units.add(unit);
+        } else {
+            id = freeIds.pop();
+            units.set(id, unit);
+        }
+        unit.attach(this, id);
+        idsByName.put(unit.getName(), id);
+        byCountry.computeIfAbsent(unit.getCountry(), k -> new ArrayList<>()).add(unit);
+        addToProvince(unit, unit.getLocation());
+    }
+    
+    public T unregister(String name) {
+        Integer id = idsByName.remove(name);
+        if (id == null) return null;
+        T unit = units.get(id);
+        units.set(id, null);
+        freeIds.push(id);
+        removeFrom(byCountry, unit.getCountry(), unit);
+        removeFromProvince(unit, unit.getLocation());
+        unit.attach(null, -1);
+        return unit;
+    }
+    
+    // Called by the unit itself from setLocation
+    public void relocate(int id, String from, String to) {
+        T unit = get(id);
+        if (unit == null) return;
+        removeFromProvince(unit, from);
+        addToProvince(unit, to);
+        if (moveListener != null) {
+            moveListener.accept(from, to);
+        }
+    }
+    
+    private void addToProvince(T unit, String provinceId) {
+        byProvince.computeIfAbsent(provinceId, k -> new ArrayList<>()).add(unit);
+        Point position = locate(provinceId);
+        if (position != null) {
+            grid.insert(unit, position.x, position.y);
+        }
+    }
+    
+    private void removeFromProvince(T unit, String provinceId) {
+        removeFrom(byProvince, provinceId, unit);
+        Point position = locate(provinceId);
+        if (position != null) {
+            grid.remove(unit, position.x, position.y);
+        }
+    }
+    
+    private void removeFrom(Map<String, List<T>> index, String key, T unit) {
+        List<T> list = index.get(key);
+        if (list != null) {
+            list.remove(unit);
+            if (list.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+    
+    private Point locate(String provinceId) {
+        return provinceLocator != null && provinceId != null ? provinceLocator.apply(provinceId) : null;
+    }
+    
+    // Sets how province ids map to map coordinates and rebuilds the spatial grid
+    public void setProvinceLocator(Function<String, Point> provinceLocator) {
+        this.provinceLocator = provinceLocator;
+        grid.clear();
+        for (T unit : units) {
+            if (unit == null) continue;
+            Point position = locate(unit.getLocation());
+            if (position != null) {
+                grid.insert(unit, position.x, position.y);
+            }
+        }
+    }
+    
+    public void setMoveListener(BiConsumer<String, String> moveListener) {
+        this.moveListener = moveListener;
+    }
+    
+    public T get(int id) {
+        return id >= 0 && id < units.size() ? units.get(id) : null;
+    }
+    
+    public T get(String name) {
+        Integer id = idsByName.get(name);
+        return id != null ? units.get(id) : null;
+    }
+    
+    public List<T> getIn(String provinceId) {
+        List<T> list = byProvince.get(provinceId);
+        return list != null ? new ArrayList<>(list) : new ArrayList<>();
+    }
+    
+    public List<T> getOf(String country) {
+        List<T> list = byCountry.get(country);
+        return list != null ? new ArrayList<>(list) : new ArrayList<>();
+    }
+    
+    // Units whose map position lies within radius of (x, y)
+    public List<T> getNear(double x, double y, double radius) {
+        return grid.query(x, y, radius);
+    }
+    
+    public List<T> getAll() {
+        List<T> result = new ArrayList<>(idsByName.size());
+        for (T unit : units) {
+            if (unit != null) result.add(unit);
+        }
+        return result;
+    }
+    
+    public int size() {
+        return idsByName.size();
+    }
+}
@@ -0,0 +1,272 @@
+package com.romagame.military;
+
+import com.romagame.diplomacy.DiplomacyManager;
+import com.romagame.diplomacy.War;
+import com.romagame.diplomacy.WarListener;
+import com.romagame.map.Country;
+import com.romagame.map.Province;
+import com.romagame.map.WorldMap;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Runs wars from actual army positions. Only provinces where hostile armies
+ * meet or where an army stands in enemy-controlled land (the active fronts)
+ * are looked at each day. Fronts, sieges and occupations are guarded by the
+ * MilitaryManager's lock, since player commands reach them from the EDT.
+ */
+public class WarEngine implements WarListener {
+    private static final int BASE_SIEGE_DAYS = 30;
+    private static final double ROUT_MORALE = 0.3;
+    private static final long COMBAT_SEED = 117L;
+    
+    private MilitaryManager militaryManager;
+    private DiplomacyManager diplomacyManager;
+    private WorldMap worldMap;
+    private Set<String> activeFronts;
+    private Map<String, Siege> sieges;
+    // province id -> occupying country, only for provinces not held by their owner
+    private Map<String, String> controllers;
+    private CombatResolver combatResolver;
+    private long tick;
+    
+    public WarEngine(MilitaryManager militaryManager) {
+        this.militaryManager = militaryManager;
+        activeFronts = new LinkedHashSet<>();
+        sieges = new HashMap<>();
+        controllers = new HashMap<>();
+        combatResolver = new CombatResolver(COMBAT_SEED);
+        tick = 0;
+    }
+    
+    public void setDiplomacyManager(DiplomacyManager diplomacyManager) {
+        this.diplomacyManager = diplomacyManager;
+        diplomacyManager.addWarListener(this);
+    }
+    
+    public void setWorldMap(WorldMap worldMap) {
+        this.worldMap = worldMap;
+        combatResolver.setCombatModifier(name -> {
+            Country country = worldMap.getCountry(name);
+            return country != null ? country.getCombatModifier() : 1.0;
+        });
+    }
+    
+    // Called whenever an army enters or leaves a province
+    public void onArmyMoved(String from, String to) {
+        synchronized (militaryManager) {
+            if (from != null) activeFronts.add(from);
+            if (to != null) activeFronts.add(to);
+        }
+    }
+    
+    public void update() {
+        synchronized (militaryManager) {
+            tick++;
+            if (diplomacyManager == null || activeFronts.isEmpty()) return;
+            
+            for (String provinceId : new ArrayList<>(activeFronts)) {
+                if (!updateFront(provinceId)) {
+                    activeFronts.remove(provinceId);
+                    sieges.remove(provinceId);
+                }
+            }
+            
+            // All battles of the day are fought together
+            for (CombatResolver.BattleResult result : combatResolver.resolve(tick)) {
+                applyBattleResult(result);
+            }
+        }
+    }
+    
+    // Returns false once the province is no longer contested
+    private boolean updateFront(String provinceId) {
+        List<Army> present = militaryManager.getArmiesIn(provinceId);
+        if (present.isEmpty()) return false;
+        
+        // Split the armies present into two hostile sides
+        String first = present.get(0).getCountry();
+        List<Army> sideA = new ArrayList<>();
+        List<Army> sideB = new ArrayList<>();
+        for (Army army : present) {
+            if (diplomacyManager.isAtWar(first, army.getCountry())) {
+                sideB.add(army);
+            } else {
+                sideA.add(army);
+            }
+        }
+        if (!sideB.isEmpty()) {
+            sideA.removeIf(a -> sideB.stream().noneMatch(b -> diplomacyManager.isAtWar(a.getCountry(), b.getCountry())));
+            sieges.remove(provinceId);
+            combatResolver.addEngagement(provinceId, sideA, sideB);
+            return true;
+        }
+        for (Army army : present) {
+            army.disengage();
+        }
+        return updateSiege(provinceId, present);
+    }
+    
+    private void applyBattleResult(CombatResolver.BattleResult result) {
+        if (result.isDraw()) {
+            // Nobody can fight on: the spent armies leave so the front can clear
+            for (Army army : result.getLosers()) {
+                if (army.getTotalStrength() == 0) {
+                    militaryManager.disbandArmy(army.getName());
+                } else {
+                    retreat(army);
+                }
+            }
+            return;
+        }
+        String winner = result.getWinners().get(0).getCountry();
+        String loser = result.getLosers().get(0).getCountry();
+        War war = diplomacyManager.getWarBetween(winner, loser);
+        if (war != null) {
+            war.recordBattle(winner, loser, result.getMargin());
+        }
+        
+        // Broken armies leave the field
+        for (Army army : result.getLosers()) {
+            if (army.getTotalStrength() == 0) {
+                System.out.println(army.getName() + " was destroyed at " + result.getProvinceId());
+                militaryManager.disbandArmy(army.getName());
+            } else if (army.getMorale() < ROUT_MORALE) {
+                retreat(army);
+            }
+        }
+    }
+    
+    // Routed armies fall back to a neighboring province their own country controls, or hold if there is none
+    private void retreat(Army army) {
+        Province here = worldMap != null ? worldMap.getProvince(army.getLocation()) : null;
+        if (here == null) return;
+        String country = army.getCountry();
+        String retreatTo = null;
+        for (Province neighbor : worldMap.getAdjacency().getNeighbors(here)) {
+            if (!country.equals(getController(neighbor.getId()))) continue;
+            retreatTo = neighbor.getId();
+            // Falling back the way it came is preferred
+            if (retreatTo.equals(army.getPreviousLocation())) break;
+        }
+        if (retreatTo != null) {
+            militaryManager.moveArmy(army, retreatTo);
+        }
+    }
+    
+    private boolean updateSiege(String provinceId, List<Army> present) {
+        Province province = worldMap != null ? worldMap.getProvince(provinceId) : null;
+        if (province == null) return false;
+        
+        String owner = province.getOwner();
+        String controller = getController(provinceId);
+        String besieger = null;
+        for (Army army : present) {
+            if (diplomacyManager.isAtWar(army.getCountry(), controller)) {
+                besieger = army.getCountry();
+                break;
+            }
+        }
+        if (besieger == null) return false;
+        
+        Siege siege = sieges.get(provinceId);
+        if (siege == null || !siege.getBesieger().equals(besieger)) {
+            siege = new Siege(besieger, BASE_SIEGE_DAYS + (int) (province.getDevelopment() * 2));
+            sieges.put(provinceId, siege);
+        }
+        if (!siege.advance()) return true;
+        
+        sieges.remove(provinceId);
+        War war = diplomacyManager.getWarBetween(besieger, controller);
+        if (owner.equals(besieger) || !diplomacyManager.isAtWar(besieger, owner)) {
+            // Retaken for its rightful owner
+            controllers.remove(provinceId);
+            if (war != null) war.recordLiberation(provinceId);
+            System.out.println(provinceId + " liberated by " + besieger);
+        } else {
+            controllers.put(provinceId, besieger);
+            if (war != null) war.recordOccupation(provinceId, besieger, 1.0 + province.getDevelopment());
+            System.out.println(provinceId + " occupied by " + besieger);
+        }
+        return false;
+    }
+    
+    public String getController(String provinceId) {
+        String controller;
+        synchronized (militaryManager) {
+            controller = controllers.get(provinceId);
+        }
+        if (controller != null) return controller;
+        Province province = worldMap != null ? worldMap.getProvince(provinceId) : null;
+        return province != null ? province.getOwner() : null;
+    }
+    
+    public boolean isOccupied(String provinceId) {
+        synchronized (militaryManager) {
+            return controllers.containsKey(provinceId);
+        }
+    }
+    
+    public Siege getSiege(String provinceId) {
+        synchronized (militaryManager) {
+            return sieges.get(provinceId);
+        }
+    }
+    
+    public List<String> getActiveFronts() {
+        synchronized (militaryManager) {
+            return new ArrayList<>(activeFronts);
+        }
+    }
+    
+    @Override
+    public void warDeclared(War war) {
+        synchronized (militaryManager) {
+            // Armies already standing next to the new enemy become fronts
+            for (String country : war.getParticipants()) {
+                for (Army army : militaryManager.getArmiesOf(country)) {
+                    activeFronts.add(army.getLocation());
+                }
+            }
+        }
+    }
+    
+    @Override
+    public void warEnded(War war) {
+        synchronized (militaryManager) {
+            // Occupations are handed back at peace
+            for (String provinceId : war.getOccupiedProvinces()) {
+                if (war.getOccupier(provinceId).equals(controllers.get(provinceId))) {
+                    controllers.remove(provinceId);
+                }
+            }
+        }
+    }
+    
+    public static class Siege {
+        private String besieger;
+        private int progress;
+        private int required;
+        
+        public Siege(String besieger, int required) {
+            this.besieger = besieger;
+            this.progress = 0;
+            this.required = required;
+        }
+        
+        // Returns true when the siege completes
+        public boolean advance() {
+            progress++;
+            return progress >= required;
+        }
+        
+        // Getters
+        public String getBesieger() { return besieger; }
+        public int getProgress() { return progress; }
+        public int getRequired() { return required; }
+    }
+}
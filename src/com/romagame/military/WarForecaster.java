@@ -0,0 +1,338 @@
+package com.romagame.military;
+
+import com.romagame.diplomacy.Coalition;
+import com.romagame.diplomacy.DiplomacyManager;
+import com.romagame.map.Country;
+import com.romagame.map.WorldMap;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Estimates how a war would go by playing it out many times in a simplified
+ * model. Each side is its field armies plus the country's standing forces,
+ * with allies from DiplomacyManager.getAllies joining their side, and a
+ * coalition against the attacker joining the defender's side; treasury
+ * decides how long a side can keep paying for the war before morale starts
+ * to slide. The state is copied into flat arrays once and each run works on
+ * its own copy, so the SIMULATIONS runs are spread over the common pool in
+ * batches. The run count is fixed and every run is seeded, so a forecast
+ * depends only on the game state, never on machine load. One forecast is cached per
+ * attacker/defender pair and reused while both coalitions keep the same
+ * members, nobody involved has gained or lost troops and treasuries stay in
+ * the same bucket; otherwise it is replaced. A forecast keeps only summary
+ * statistics, not the individual runs.
+ */
+public class WarForecaster {
+    public static final int SIMULATIONS = 2000;
+    // Treasuries are rounded down to this step, so daily income doesn't invalidate the cache
+    private static final double TREASURY_BUCKET = 100.0;
+    private static final int BATCH = 32;
+    private static final int MAX_ROUNDS = 60; // months
+    private static final int TYPES = CombatResolver.UNIT_TYPES.length;
+    private static final double[] UNIT_POWER = {1.0, 1.5, 1.2};
+    private static final double LOSER_CASUALTIES = 0.1;
+    private static final double WINNER_CASUALTIES = 0.05;
+    private static final double MORALE_LOSS = 0.05;
+    private static final double MORALE_RECOVERY = 0.03;
+    private static final double BANKRUPT_MORALE_LOSS = 0.05;
+    private static final double UPKEEP_PER_UNIT = 0.1;
+    private static final double MAX_BATTLE_SWING = 8.0;
+    private static final double OCCUPATION_PER_ROUND = 2.0;
+    private static final long SEED = 0x5EEDF0CA57L;
+
+    private MilitaryManager militaryManager;
+    private DiplomacyManager diplomacyManager;
+    private WorldMap worldMap;
+    private Map<String, WarForecast> cache;
+
+    public WarForecaster(MilitaryManager militaryManager) {
+        this.militaryManager = militaryManager;
+        this.cache = new ConcurrentHashMap<>();
+    }
+
+    public void setDiplomacyManager(DiplomacyManager diplomacyManager) {
+        this.diplomacyManager = diplomacyManager;
+    }
+
+    public void setWorldMap(WorldMap worldMap) {
+        this.worldMap = worldMap;
+    }
+
+    public WarForecast forecast(String attacker, String defender) {
+        List<String> attackers = coalitionOf(attacker, defender, false);
+        List<String> defenders = coalitionOf(defender, attacker, true);
+        // Countries allied to both sides are assumed to stay out
+        List<String> neutral = new ArrayList<>(attackers);
+        neutral.retainAll(defenders);
+        attackers.removeAll(neutral);
+        defenders.removeAll(neutral);
+
+        String key = attacker + ">" + defender;
+        long fingerprint;
+        Forces forces = new Forces();
+        // Armies are read under the military lock (the player asks from the EDT); the runs work on the copy
+        synchronized (militaryManager) {
+            fingerprint = fingerprint(attackers) * 31 + fingerprint(defenders);
+            WarForecast cached = cache.get(key);
+            if (cached != null && cached.fingerprint == fingerprint) {
+                return cached;
+            }
+            collectForces(attackers, forces, 0);
+            forces.split = forces.units.size();
+            collectForces(defenders, forces, 1);
+        }
+        WarForecast forecast = simulate(attackers, defenders, fingerprint, forces);
+        cache.put(key, forecast);
+        return forecast;
+    }
+
+    public void clearCache() {
+        cache.clear();
+    }
+
+    // The country itself first, then its allies in name order; a defender in a coalition against
+    // the attacker also brings the other coalition members
+    private List<String> coalitionOf(String country, String opponent, boolean defending) {
+        List<String> coalition = new ArrayList<>();
+        coalition.add(country);
+        if (diplomacyManager != null) {
+            Set<String> members = new TreeSet<>(diplomacyManager.getAllies(country));
+            Coalition against = defending ? diplomacyManager.getCoalitionManager().getCoalitionAgainst(opponent) : null;
+            if (against != null && against.hasMember(country)) {
+                for (String member : against.getMembers()) {
+                    if (!diplomacyManager.areAllied(member, opponent)) members.add(member);
+                }
+            }
+            for (String member : members) {
+                if (!member.equals(opponent) && !member.equals(country)) coalition.add(member);
+            }
+        }
+        return coalition;
+    }
+
+    // Changes whenever the members or a member's standing forces, field armies or treasury bucket change
+    private long fingerprint(List<String> coalition) {
+        long hash = 17;
+        for (String member : coalition) {
+            hash = hash * 31 + member.hashCode();
+            Country country = worldMap != null ? worldMap.getCountry(member) : null;
+            hash = hash * 31 + (country != null ? country.getStats().getMilitaryVersion() : 0);
+            hash = hash * 31 + (country != null ? (long) (country.getTreasury() / TREASURY_BUCKET) : 0);
+            hash = hash * 31 + (country != null ? country.getModifierStack().getVersion() : 0);
+            for (Army army : militaryManager.getArmiesOf(member)) {
+                hash = hash * 31 + army.getTotalStrength();
+                hash = hash * 31 + Double.hashCode(army.getMorale());
+            }
+        }
+        return hash;
+    }
+
+    private WarForecast simulate(List<String> attackers, List<String> defenders, long fingerprint, Forces forces) {
+        // Flatten both sides: forces [0, split) attack, [split, n) defend
+        int split = forces.split;
+        double[] treasury = forces.treasury;
+        int n = forces.units.size();
+        int[] baseUnits = new int[n * TYPES];
+        double[] baseMorale = new double[n];
+        double[] quality = new double[n]; // combat modifier of the owning country; never changes during a war
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(forces.units.get(i), 0, baseUnits, i * TYPES, TYPES);
+            baseMorale[i] = forces.morale.get(i);
+            quality[i] = forces.quality.get(i);
+        }
+
+        double[] outcomes = new double[SIMULATIONS];
+        int batches = (SIMULATIONS + BATCH - 1) / BATCH;
+        AtomicInteger nextBatch = new AtomicInteger();
+        int workers = Math.min(batches, ForkJoinPool.getCommonPoolParallelism());
+        // Workers pull batches until all are taken; each run's seed depends only on its index
+        IntStream.range(0, workers).parallel().forEach(w -> {
+            int[] units = new int[baseUnits.length];
+            double[] morale = new double[baseMorale.length];
+            int batch;
+            while ((batch = nextBatch.getAndIncrement()) < batches) {
+                int end = Math.min(SIMULATIONS, (batch + 1) * BATCH);
+                for (int run = batch * BATCH; run < end; run++) {
+                    System.arraycopy(baseUnits, 0, units, 0, units.length);
+                    System.arraycopy(baseMorale, 0, morale, 0, morale.length);
+                    SplittableRandom rng = new SplittableRandom(SEED ^ fingerprint ^ (run * 0x9E3779B97F4A7C15L));
+                    outcomes[run] = playOut(units, morale, quality, split, treasury, rng);
+                }
+            }
+        });
+
+        return new WarForecast(attackers, defenders, outcomes, fingerprint);
+    }
+
+    private void collectForces(List<String> coalition, Forces forces, int side) {
+        List<int[]> unitRows = forces.units;
+        List<Double> moraleRows = forces.morale;
+        List<Double> qualityRows = forces.quality;
+        double[] treasury = forces.treasury;
+        for (String member : coalition) {
+            Country country = worldMap != null ? worldMap.getCountry(member) : null;
+            double quality = country != null ? country.getCombatModifier() : 1.0;
+            if (country != null) {
+                Map<String, Integer> standing = country.getMilitary();
+                int[] row = new int[TYPES];
+                for (int t = 0; t < TYPES; t++) {
+                    row[t] = standing.getOrDefault(CombatResolver.UNIT_TYPES[t], 0);
+                }
+                unitRows.add(row);
+                moraleRows.add(1.0);
+                qualityRows.add(quality);
+                // Same bucketing as the cache key, so a cached forecast matches a fresh one
+                treasury[side] += Math.floor(country.getTreasury() / TREASURY_BUCKET) * TREASURY_BUCKET;
+            }
+            for (Army army : militaryManager.getArmiesOf(member)) {
+                int[] row = new int[TYPES];
+                for (int t = 0; t < TYPES; t++) {
+                    row[t] = army.getUnitCount(CombatResolver.UNIT_TYPES[t]);
+                }
+                unitRows.add(row);
+                moraleRows.add(army.getMorale() * army.getOrganization());
+                qualityRows.add(quality);
+            }
+        }
+    }
+
+    // One simulated war, month by month; returns the final war score from the attacker's view
+    private double playOut(int[] units, double[] morale, double[] quality, int split, double[] startTreasury,
+                           SplittableRandom rng) {
+        int n = morale.length;
+        double treasuryA = startTreasury[0];
+        double treasuryB = startTreasury[1];
+        double warScore = 0.0;
+        for (int round = 0; round < MAX_ROUNDS; round++) {
+            double powerA = 0, powerB = 0;
+            int countA = 0, countB = 0;
+            for (int i = 0; i < n; i++) {
+                int size = 0;
+                double power = 0;
+                for (int t = 0; t < TYPES; t++) {
+                    size += units[i * TYPES + t];
+                    power += units[i * TYPES + t] * UNIT_POWER[t];
+                }
+                power *= morale[i] * quality[i];
+                if (i < split) { powerA += power; countA += size; } else { powerB += power; countB += size; }
+            }
+            if (powerA <= 0 || powerB <= 0) {
+                return powerA > powerB ? 100.0 : powerB > powerA ? -100.0 : warScore;
+            }
+
+            // Upkeep; an empty treasury erodes morale
+            treasuryA -= countA * UPKEEP_PER_UNIT;
+            treasuryB -= countB * UPKEEP_PER_UNIT;
+            boolean brokeA = treasuryA < 0;
+            boolean brokeB = treasuryB < 0;
+
+            double rolledA = powerA * (0.6 + rng.nextDouble() * 0.8);
+            double rolledB = powerB * (0.6 + rng.nextDouble() * 0.8);
+            boolean attackerWins = rolledA >= rolledB;
+            double ratio = Math.min(rolledA, rolledB) / Math.max(rolledA, rolledB);
+            double swing = MAX_BATTLE_SWING * (1.0 - ratio) + OCCUPATION_PER_ROUND;
+            warScore += attackerWins ? swing : -swing;
+            if (Math.abs(warScore) >= 100.0) {
+                return Math.signum(warScore) * 100.0;
+            }
+
+            for (int i = 0; i < n; i++) {
+                boolean onAttackerSide = i < split;
+                boolean won = onAttackerSide == attackerWins;
+                double casualties = won ? WINNER_CASUALTIES * ratio : LOSER_CASUALTIES;
+                for (int t = 0; t < TYPES; t++) {
+                    int count = units[i * TYPES + t];
+                    units[i * TYPES + t] = Math.max(0, count - (int) Math.ceil(count * casualties));
+                }
+                double change = won ? MORALE_RECOVERY : -MORALE_LOSS;
+                if (onAttackerSide ? brokeA : brokeB) change -= BANKRUPT_MORALE_LOSS;
+                morale[i] = Math.max(0.05, Math.min(1.0, morale[i] + change));
+            }
+        }
+        return warScore;
+    }
+
+    // Both sides' forces copied out of the live game state, one row per standing force or army
+    private static class Forces {
+        private final List<int[]> units;
+        private final List<Double> morale;
+        private final List<Double> quality;
+        private final double[] treasury;
+        private int split;
+
+        Forces() {
+            this.units = new ArrayList<>();
+            this.morale = new ArrayList<>();
+            this.quality = new ArrayList<>();
+            this.treasury = new double[2];
+            this.split = 0;
+        }
+    }
+
+    /**
+     * Distribution of simulated war scores (attacker's view, -100..100),
+     * summarised as win odds, mean, percentiles and a histogram.
+     */
+    public static class WarForecast {
+        public static final int BUCKETS = 10;
+        private static final int PERCENTILES = 100;
+
+        private final List<String> attackers;
+        private final List<String> defenders;
+        private final int simulations;
+        // War score at each whole percentile, 0..100
+        private final double[] percentiles;
+        private final double winProbability;
+        private final double expectedWarScore;
+        private final int[] histogram;
+        private final long fingerprint;
+
+        WarForecast(List<String> attackers, List<String> defenders, double[] outcomes, long fingerprint) {
+            this.attackers = attackers;
+            this.defenders = defenders;
+            this.simulations = outcomes.length;
+            this.percentiles = new double[PERCENTILES + 1];
+            this.fingerprint = fingerprint;
+            this.histogram = new int[BUCKETS];
+            int wins = 0;
+            double sum = 0;
+            for (double outcome : outcomes) {
+                if (outcome > 0) wins++;
+                sum += outcome;
+                int bucket = (int) ((outcome + 100.0) / 200.0 * BUCKETS);
+                histogram[Math.max(0, Math.min(BUCKETS - 1, bucket))]++;
+            }
+            this.winProbability = outcomes.length > 0 ? (double) wins / outcomes.length : 0.0;
+            this.expectedWarScore = outcomes.length > 0 ? sum / outcomes.length : 0.0;
+            if (outcomes.length > 0) {
+                double[] sorted = outcomes.clone();
+                Arrays.sort(sorted);
+                for (int p = 0; p <= PERCENTILES; p++) {
+                    percentiles[p] = sorted[Math.min(sorted.length - 1, p * sorted.length / PERCENTILES)];
+                }
+            }
+        }
+
+        public List<String> getAttackers() { return new ArrayList<>(attackers); }
+        public List<String> getDefenders() { return new ArrayList<>(defenders); }
+        public int getSimulations() { return simulations; }
+        public double getWinProbability() { return winProbability; }
+        public double getExpectedWarScore() { return expectedWarScore; }
+        // Share of runs per war-score band, lowest band first
+        public int[] getHistogram() { return histogram.clone(); }
+
+        // War score at the given quantile (0..1), to the nearest whole percentile below it
+        public double getQuantile(double q) {
+            return percentiles[(int) Math.min(PERCENTILES, Math.max(0, q * PERCENTILES))];
+        }
+    }
+}
@@ -1,18 +1,48 @@
 package com.romagame.monuments;
 
+import com.romagame.core.ConstructionScheduler;
 import com.romagame.map.Country;
+import com.romagame.map.Province;
+import com.romagame.map.ProvinceOwnershipListener;
+import com.romagame.map.WorldMap;
 import java.util.*;
 
-public class MonumentManager {
+public class MonumentManager implements ProvinceOwnershipListener {
+    private static final int WORK_PER_DAY = 100;
+    
     private Map<String, WorldMonument> monuments;
     private Map<String, WorldMonument> availableMonuments;
+    private Map<String, Long> constructionIds; // monuments under construction -> scheduler project id
+    private Map<String, WorldMonument> monumentsBySite; // site province id -> monument built or being built there
+    private ConstructionScheduler constructionScheduler;
     
     public MonumentManager() {
         this.monuments = new HashMap<>();
         this.availableMonuments = new HashMap<>();
+        this.constructionIds = new HashMap<>();
+        this.monumentsBySite = new HashMap<>();
         initializeMonuments();
     }
     
+    public void setWorldMap(WorldMap worldMap) {
+        worldMap.addOwnershipListener(this);
+    }
+    
+    // Whoever takes a monument's province takes the monument and its modifiers
+    @Override
+    public synchronized void provincesTransferred(List<Province> provinces) {
+        for (Province province : provinces) {
+            WorldMonument monument = monumentsBySite.get(province.getId());
+            if (monument != null && monument.getOwnerCountry() != province.getOwnerCountry()) {
+                monument.transferTo(province.getOwnerCountry());
+            }
+        }
+    }
+    
+    public void setConstructionScheduler(ConstructionScheduler constructionScheduler) {
+        this.constructionScheduler = constructionScheduler;
+    }
+    
     private void initializeMonuments() {
         // Create famous world monuments
         WorldMonument colosseum = WorldMonument.createColosseum();
@@ -35,9 +65,9 @@ public class MonumentManager {
         availableMonuments.put("Theater of Dionysus", theaterOfDionysus);
     }
     
-    public boolean startMonumentConstruction(String monumentName, Country country) {
+    public synchronized boolean startMonumentConstruction(String monumentName, Country country) {
         WorldMonument monument = availableMonuments.get(monumentName);
-        if (monument == null || monument.isBuilt()) {
+        if (constructionScheduler == null || monument == null || monument.isBuilt()) {
             return false; // Monument not available or already built
         }
         
@@ -49,22 +79,48 @@ public class MonumentManager {
             return false; // Not enough funds
         }
         
-        // Start construction
-        monument.startConstruction(country.getName());
+        // Start construction in the capital, or any province if there is none
+        String site = country.getCapital();
+        if (site == null && !country.getProvinces().isEmpty()) {
+            site = country.getProvinces().get(0).getId();
+        }
+        monument.startConstruction(country, site);
+        if (site != null) {
+            monumentsBySite.put(site, monument);
+        }
         country.setTreasury(country.getTreasury() - monument.getConstructionCost());
         
         // Move from available to active monuments
         availableMonuments.remove(monumentName);
         monuments.put(monumentName, monument);
         
+        // Each monument is its own site, so it never holds up buildings in its province
+        long projectId = constructionScheduler.nextId();
+        constructionIds.put(monumentName, projectId);
+        int days = (monument.getTotalWork() + WORK_PER_DAY - 1) / WORK_PER_DAY;
+        constructionScheduler.schedule(projectId, "monument:" + monumentName, days, () -> completeConstruction(monumentName, monument));
+        
         return true;
     }
     
-    public void updateMonumentConstruction(String monumentName, int workDone) {
-        WorldMonument monument = monuments.get(monumentName);
-        if (monument != null && !monument.isBuilt()) {
-            monument.updateConstruction(workDone);
-        }
+    // Brings completion forward, e.g. when the owner pays to speed up the work
+    public synchronized boolean rushConstruction(String monumentName, int days) {
+        Long projectId = constructionIds.get(monumentName);
+        return projectId != null && constructionScheduler.rush(projectId, days);
+    }
+    
+    // Percent complete by date
+    public synchronized double getProgressPercentage(String monumentName) {
+        WorldMonument monument = getMonument(monumentName);
+        if (monument == null) return 0.0;
+        if (monument.isBuilt()) return 100.0;
+        Long projectId = constructionIds.get(monumentName);
+        return projectId != null ? constructionScheduler.getProgress(projectId) * 100.0 : 0.0;
+    }
+    
+    private synchronized void completeConstruction(String monumentName, WorldMonument monument) {
+        constructionIds.remove(monumentName);
+        monument.updateConstruction(monument.getTotalWork() - monument.getConstructionProgress());
     }
     
     public List<WorldMonument> getAvailableMonuments() {
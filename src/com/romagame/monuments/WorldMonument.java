@@ -2,6 +2,7 @@ package com.romagame.monuments;
 
 import com.romagame.map.Country;
 import com.romagame.map.Country.NationType;
+import com.romagame.map.ModifierSource;
 import java.util.*;
 
 public class WorldMonument {
@@ -10,6 +11,8 @@ public class WorldMonument {
     private MonumentType type;
     private String location;
     private String owner;
+    private Country ownerCountry;
+    private String siteProvinceId; // province it is built in, chosen when construction starts
     private boolean isBuilt;
     private int constructionProgress;
     private int totalWork;
@@ -78,6 +81,16 @@ public class WorldMonument {
         this.constructionProgress = 0;
     }
     
+    public void startConstruction(Country owner) {
+        startConstruction(owner.getName());
+        this.ownerCountry = owner;
+    }
+    
+    public void startConstruction(Country owner, String siteProvinceId) {
+        startConstruction(owner);
+        this.siteProvinceId = siteProvinceId;
+    }
+    
     public void updateConstruction(int workDone) {
         if (isBuilt) return;
         
@@ -94,10 +107,30 @@ public class WorldMonument {
     }
     
     private void applyEffectsToOwner() {
-        if (owner == null) return;
+        if (ownerCountry == null) return;
         
-        // Effects are applied through the country's modifier system
-        // This would be handled by the game engine
+        // Stability changes once; everything else is a lasting modifier for as long as the owner holds it
+        Double stability = effects.get("stability");
+        if (stability != null) {
+            ownerCountry.setStability(ownerCountry.getStability() + stability);
+        }
+        ownerCountry.addModifierSource(ModifierSource.fromEffects(getModifierSourceId(), effects, "stability"));
+    }
+    
+    // Moves the monument's modifiers to a new owner, e.g. when its province is conquered
+    public void transferTo(Country newOwner) {
+        if (ownerCountry != null) {
+            ownerCountry.removeModifierSource(getModifierSourceId());
+        }
+        ownerCountry = newOwner;
+        owner = newOwner != null ? newOwner.getName() : null;
+        if (isBuilt && newOwner != null) {
+            newOwner.addModifierSource(ModifierSource.fromEffects(getModifierSourceId(), effects, "stability"));
+        }
+    }
+    
+    private String getModifierSourceId() {
+        return "monument:" + name;
     }
     
     public boolean canBuild(Country country) {
@@ -114,6 +147,8 @@ public class WorldMonument {
     public String getDescription() { return description; }
     public MonumentType getType() { return type; }
     public String getLocation() { return location; }
+    public String getSiteProvinceId() { return siteProvinceId; }
+    public Country getOwnerCountry() { return ownerCountry; }
     public String getOwner() { return owner; }
     public boolean isBuilt() { return isBuilt; }
     public int getConstructionProgress() { return constructionProgress; }
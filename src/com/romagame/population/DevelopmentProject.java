@@ -4,22 +4,18 @@ import com.romagame.map.Province;
 import com.romagame.population.PopulationManager.DevelopmentType;
 
 public class DevelopmentProject {
-    private String id;
+    private long id;
     private Province province;
     private DevelopmentType type;
     private int workers;
-    private int progress;
     private int totalWork;
-    private boolean completed;
     
-    public DevelopmentProject(String id, Province province, DevelopmentType type, int workers) {
+    public DevelopmentProject(long id, Province province, DevelopmentType type, int workers) {
         this.id = id;
         this.province = province;
         this.type = type;
         this.workers = workers;
-        this.progress = 0;
         this.totalWork = calculateTotalWork();
-        this.completed = false;
     }
     
     private int calculateTotalWork() {
@@ -36,32 +32,17 @@ public class DevelopmentProject {
         return (int)(baseWork * developmentMultiplier);
     }
     
-    public void update() {
-        if (completed) return;
-        
-        // Calculate work done this tick
-        int workPerTick = workers * 10; // Each worker does 10 work per tick
-        progress += workPerTick;
-        
-        if (progress >= totalWork) {
-            completed = true;
-        }
-    }
-    
-    public boolean isCompleted() {
-        return completed;
-    }
-    
-    public double getProgressPercentage() {
-        return (double) progress / totalWork * 100.0;
+    // Days of work at the current workforce; the construction scheduler turns this into a completion date
+    public int getDurationDays() {
+        int workPerDay = Math.max(1, workers * 10); // Each worker does 10 work per day
+        return (totalWork + workPerDay - 1) / workPerDay;
     }
     
     // Getters
-    public String getId() { return id; }
+    public long getId() { return id; }
     public Province getProvince() { return province; }
     public DevelopmentType getType() { return type; }
     public int getWorkers() { return workers; }
-    public int getProgress() { return progress; }
     public int getTotalWork() { return totalWork; }
     
     public String getDescription() {
@@ -0,0 +1,219 @@
+package com.romagame.population;
+
+import com.romagame.colonization.ColonizationIndex;
+import com.romagame.map.Province;
+import com.romagame.map.Province.PopType;
+import com.romagame.map.ProvinceAdjacency;
+import com.romagame.map.WorldMap;
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * Monthly population dynamics: logistic growth scaled by climate and
+ * buildings, upward mobility between pop types, and migration toward more
+ * developed neighbors. Each run snapshots every province's pops into one flat
+ * int array, computes per-province deltas in a parallel pass, then commits the
+ * deltas on the calling thread. Migration is computed as a gather: a province
+ * works out both what leaves it and what arrives from each neighbor with the
+ * same flow function, so the parallel pass never writes outside its own cells
+ * and migrants are neither lost nor duplicated. Fractional amounts are
+ * rounded up or down by a hash of the run, province and pop type, so small
+ * pops still change over time and both ends of a flow round it the same way.
+ */
+public class PopulationDynamics {
+    private static final int TYPES = PopType.values().length;
+    private static final int NOBLES = PopType.NOBLES.ordinal();
+    private static final int CITY_FOLK = PopType.CITY_FOLK.ordinal();
+    private static final int CRAFTSMEN = PopType.CRAFTSMEN.ordinal();
+    private static final int PEASANTS = PopType.PEASANTS.ordinal();
+    private static final int SLAVES = PopType.SLAVES.ordinal();
+    private static final int SERFS = PopType.SERFS.ordinal();
+    private static final int[] MIGRANT_TYPES = { CITY_FOLK, CRAFTSMEN, PEASANTS };
+
+    // Monthly growth rates before the carrying-capacity term
+    private static final Map<String, Double> CLIMATE_GROWTH = Map.of(
+        "Temperate", 0.0002,
+        "Warm", 0.00018,
+        "Tropical", 0.00016,
+        "Cold", 0.0001
+    );
+    private static final double DEFAULT_GROWTH = 0.00015;
+    // Relative growth bonus per building, matching the building effects in PopulationManager
+    private static final Map<String, Double> BUILDING_GROWTH = Map.of(
+        "AQUEDUCT", 0.15,
+        "BATHHOUSE", 0.05,
+        "TEMPLE", 0.05
+    );
+    private static final double BASE_CAPACITY = 20000.0;
+    private static final double CAPACITY_PER_DEVELOPMENT = 1000.0;
+    // Monthly share of a pop moving up, scaled by development / (development + DEVELOPMENT_HALF)
+    private static final double PEASANTS_TO_CRAFTSMEN = 0.0005;
+    private static final double PEASANTS_TO_CITY_FOLK = 0.0003;
+    private static final double CITY_FOLK_TO_NOBLES = 0.00005;
+    private static final double SERFS_TO_PEASANTS = 0.0002;
+    private static final double SLAVES_TO_SERFS = 0.0001;
+    private static final double DEVELOPMENT_HALF = 20.0;
+    // Largest monthly share of a mobile pop that leaves, split among neighbors
+    private static final double MIGRATION_RATE = 0.002;
+
+    private WorldMap worldMap;
+    // Neighbor graph over province indices, rebuilt when the map or adjacency changes
+    private Province[] provinces;
+    private int[] neighborStart;
+    private int[] neighbors;
+    private int builtAdjacencyVersion;
+    private int builtProvinceCount;
+    private long lastMigrants;
+    private long run;
+
+    public PopulationDynamics(WorldMap worldMap) {
+        this.worldMap = worldMap;
+        this.provinces = new Province[0];
+        this.neighborStart = new int[] { 0 };
+        this.neighbors = new int[0];
+        this.builtAdjacencyVersion = -1;
+        this.builtProvinceCount = -1;
+    }
+
+    public void update() {
+        ensureGraph();
+        int n = provinces.length;
+        if (n == 0) return;
+
+        // Snapshot into primitive arrays so the parallel pass reads no shared objects
+        int[] pops = new int[n * TYPES];
+        double[] development = new double[n];
+        double[] growth = new double[n];
+        boolean[] settled = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            Province province = provinces[i];
+            province.copyPopsTo(pops, i * TYPES);
+            development[i] = province.getDevelopment();
+            settled[i] = !ColonizationIndex.isColonizable(province);
+            growth[i] = growthRateOf(province);
+        }
+
+        run++;
+        int[] deltas = new int[n * TYPES];
+        long migrants = IntStream.range(0, n).parallel()
+            .mapToLong(i -> computeDeltas(i, pops, development, growth, settled, deltas))
+            .sum();
+
+        // Commit: deltas rather than absolute values, so changes made since the snapshot survive
+        for (int i = 0; i < n; i++) {
+            provinces[i].applyPopDeltas(deltas, i * TYPES);
+        }
+        lastMigrants = migrants;
+    }
+
+    // Writes province i's deltas; returns how many people left it
+    private long computeDeltas(int i, int[] pops, double[] development, double[] growth,
+                               boolean[] settled, int[] deltas) {
+        if (!settled[i]) return 0;
+        int base = i * TYPES;
+        long total = 0;
+        for (int t = 0; t < TYPES; t++) {
+            total += pops[base + t];
+        }
+        if (total <= 0) return 0;
+
+        // Logistic growth, split across pop types in proportion to their size
+        double capacity = BASE_CAPACITY + CAPACITY_PER_DEVELOPMENT * development[i];
+        double rate = growth[i] * (1.0 - total / capacity);
+        for (int t = 0; t < TYPES; t++) {
+            deltas[base + t] += round(pops[base + t] * rate, base + t, 0);
+        }
+
+        // Mobility
+        double upward = development[i] / (development[i] + DEVELOPMENT_HALF);
+        move(deltas, base, pops, PEASANTS, CRAFTSMEN, PEASANTS_TO_CRAFTSMEN * upward);
+        move(deltas, base, pops, PEASANTS, CITY_FOLK, PEASANTS_TO_CITY_FOLK * upward);
+        move(deltas, base, pops, CITY_FOLK, NOBLES, CITY_FOLK_TO_NOBLES * upward);
+        move(deltas, base, pops, SERFS, PEASANTS, SERFS_TO_PEASANTS);
+        move(deltas, base, pops, SLAVES, SERFS, SLAVES_TO_SERFS);
+
+        // Migration: what leaves toward better-developed neighbors, and what arrives from worse-developed ones
+        long left = 0;
+        for (int e = neighborStart[i]; e < neighborStart[i + 1]; e++) {
+            int j = neighbors[e];
+            if (!settled[j]) continue;
+            for (int t : MIGRANT_TYPES) {
+                int out = flow(i, j, t, pops, development);
+                int in = flow(j, i, t, pops, development);
+                deltas[base + t] += in - out;
+                left += out;
+            }
+        }
+        return left;
+    }
+
+    private void move(int[] deltas, int base, int[] pops, int from, int to, double share) {
+        int amount = round(pops[base + from] * share, base + from, 1 + to);
+        deltas[base + from] -= amount;
+        deltas[base + to] += amount;
+    }
+
+    // People of one type moving from one province to another this month
+    private int flow(int from, int to, int type, int[] pops, double[] development) {
+        double gap = development[to] - development[from];
+        if (gap <= 0) return 0;
+        double pull = gap / (development[to] + development[from]);
+        int degree = neighborStart[from + 1] - neighborStart[from];
+        return round(pops[from * TYPES + type] * MIGRATION_RATE * pull / degree, (long) from * TYPES + type, 1 + TYPES + to);
+    }
+
+    // Rounds down or up with probability equal to the fraction, using a hash instead of shared random state
+    private int round(double amount, long cell, long salt) {
+        double floor = Math.floor(amount);
+        long h = mix(run * 0x9E3779B97F4A7C15L + cell * 0xC2B2AE3D27D4EB4FL + salt);
+        double u = (h >>> 11) * 0x1.0p-53;
+        return (int) floor + (u < amount - floor ? 1 : 0);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private double growthRateOf(Province province) {
+        double rate = CLIMATE_GROWTH.getOrDefault(province.getClimate(), DEFAULT_GROWTH);
+        double bonus = 1.0;
+        for (String building : province.getBuildings()) {
+            bonus += BUILDING_GROWTH.getOrDefault(building, 0.0);
+        }
+        return rate * bonus;
+    }
+
+    private void ensureGraph() {
+        ProvinceAdjacency adjacency = worldMap.getAdjacency();
+        int version = adjacency.getVersion();
+        int count = worldMap.getProvinceCount();
+        if (version == builtAdjacencyVersion && count == builtProvinceCount) return;
+
+        List<Province> all = worldMap.getAllProvinces();
+        provinces = all.toArray(new Province[0]);
+        Map<Province, Integer> index = new IdentityHashMap<>();
+        for (int i = 0; i < provinces.length; i++) {
+            index.put(provinces[i], i);
+        }
+        neighborStart = new int[provinces.length + 1];
+        List<Integer> edges = new ArrayList<>();
+        for (int i = 0; i < provinces.length; i++) {
+            neighborStart[i] = edges.size();
+            for (Province neighbor : adjacency.getNeighbors(provinces[i])) {
+                Integer j = index.get(neighbor);
+                if (j != null) edges.add(j);
+            }
+        }
+        neighborStart[provinces.length] = edges.size();
+        neighbors = edges.stream().mapToInt(Integer::intValue).toArray();
+        builtAdjacencyVersion = version;
+        builtProvinceCount = count;
+    }
+
+    // People who moved between provinces in the last run
+    public long getLastMigrants() {
+        return lastMigrants;
+    }
+}
@@ -1,47 +1,51 @@
 package com.romagame.population;
 
+import com.romagame.core.ConstructionScheduler;
 import com.romagame.map.Province;
 import com.romagame.map.Province.PopType;
+import com.romagame.map.WorldMap;
 import java.util.*;
 public class PopulationManager {
-    private Map<String, DevelopmentProject> activeProjects;
-    private Map<String, BuildingProject> buildingProjects;
+    private Map<Long, DevelopmentProject> activeProjects;
+    private Map<Long, BuildingProject> buildingProjects;
+    private PopulationDynamics dynamics;
+    private ConstructionScheduler constructionScheduler;
     
     public PopulationManager() {
-        this.activeProjects = new HashMap<>();
-        this.buildingProjects = new HashMap<>();
+        this.activeProjects = new LinkedHashMap<>();
+        this.buildingProjects = new LinkedHashMap<>();
     }
     
-    public void update() {
-        // Update all active development projects
-        for (DevelopmentProject project : activeProjects.values()) {
-            project.update();
-            if (project.isCompleted()) {
-                completeDevelopmentProject(project);
-            }
-        }
-        
-        // Update building projects
-        for (BuildingProject project : buildingProjects.values()) {
-            project.update();
-            if (project.isCompleted()) {
-                completeBuildingProject(project);
-            }
+    // Projects join their province's build queue and complete on the scheduler's date
+    public void setConstructionScheduler(ConstructionScheduler constructionScheduler) {
+        this.constructionScheduler = constructionScheduler;
+    }
+    
+    public void setWorldMap(WorldMap worldMap) {
+        this.dynamics = new PopulationDynamics(worldMap);
+    }
+    
+    // Called monthly: growth, mobility and migration for every province
+    public void updateMonthly() {
+        if (dynamics != null) {
+            dynamics.update();
         }
-        
-        // Clean up completed projects
-        activeProjects.entrySet().removeIf(entry -> entry.getValue().isCompleted());
-        buildingProjects.entrySet().removeIf(entry -> entry.getValue().isCompleted());
     }
     
-    public boolean startDevelopmentProject(Province province, DevelopmentType type, int workers) {
-        if (province.getPopulation() < workers) {
+    public PopulationDynamics getDynamics() {
+        return dynamics;
+    }
+    
+    public synchronized boolean startDevelopmentProject(Province province, DevelopmentType type, int workers) {
+        if (constructionScheduler == null || province.getPopulation() < workers) {
             return false; // Not enough population
         }
         
-        String projectId = province.getId() + "_" + type.name() + "_" + System.currentTimeMillis();
+        long projectId = constructionScheduler.nextId();
         DevelopmentProject project = new DevelopmentProject(projectId, province, type, workers);
         activeProjects.put(projectId, project);
+        constructionScheduler.schedule(projectId, province.getId(), project.getDurationDays(),
+            () -> completeDevelopmentProject(project));
         
         // Deduct workers from population
         province.setPop(PopType.PEASANTS, province.getPop(PopType.PEASANTS) - workers);
@@ -49,14 +53,16 @@ public class PopulationManager {
         return true;
     }
     
-    public boolean startBuildingProject(Province province, BuildingType type, int workers) {
-        if (province.getPopulation() < workers) {
+    public synchronized boolean startBuildingProject(Province province, BuildingType type, int workers) {
+        if (constructionScheduler == null || province.getPopulation() < workers) {
             return false; // Not enough population
         }
         
-        String projectId = province.getId() + "_" + type.name() + "_" + System.currentTimeMillis();
+        long projectId = constructionScheduler.nextId();
         BuildingProject project = new BuildingProject(projectId, province, type, workers);
         buildingProjects.put(projectId, project);
+        constructionScheduler.schedule(projectId, province.getId(), project.getDurationDays(),
+            () -> completeBuildingProject(project));
         
         // Deduct workers from population
         province.setPop(PopType.CRAFTSMEN, province.getPop(PopType.CRAFTSMEN) - workers);
@@ -64,7 +70,8 @@ public class PopulationManager {
         return true;
     }
     
-    private void completeDevelopmentProject(DevelopmentProject project) {
+    private synchronized void completeDevelopmentProject(DevelopmentProject project) {
+        activeProjects.remove(project.getId());
         Province province = project.getProvince();
         DevelopmentType type = project.getType();
         
@@ -91,7 +98,8 @@ public class PopulationManager {
         province.setPop(PopType.PEASANTS, province.getPop(PopType.PEASANTS) + project.getWorkers());
     }
     
-    private void completeBuildingProject(BuildingProject project) {
+    private synchronized void completeBuildingProject(BuildingProject project) {
+        buildingProjects.remove(project.getId());
         Province province = project.getProvince();
         BuildingType type = project.getType();
         
@@ -130,14 +138,19 @@ public class PopulationManager {
         province.setPop(PopType.CRAFTSMEN, province.getPop(PopType.CRAFTSMEN) + project.getWorkers());
     }
     
-    public List<DevelopmentProject> getActiveDevelopmentProjects() {
+    public synchronized List<DevelopmentProject> getActiveDevelopmentProjects() {
         return new ArrayList<>(activeProjects.values());
     }
     
-    public List<BuildingProject> getActiveBuildingProjects() {
+    public synchronized List<BuildingProject> getActiveBuildingProjects() {
         return new ArrayList<>(buildingProjects.values());
     }
     
+    // Percent complete by date; 0 while the project waits behind others in its province
+    public double getProgressPercentage(long projectId) {
+        return constructionScheduler != null ? constructionScheduler.getProgress(projectId) * 100.0 : 0.0;
+    }
+    
     public enum DevelopmentType {
         INFRASTRUCTURE, AGRICULTURE, TRADE, MILITARY
     }
@@ -0,0 +1,174 @@
+package com.romagame.technology;
+
+import com.romagame.colonization.ColonizationIndex;
+import com.romagame.diplomacy.Alliance;
+import com.romagame.diplomacy.DiplomacyManager;
+import com.romagame.diplomacy.TradeAgreement;
+import com.romagame.map.Country;
+import com.romagame.map.WorldMap;
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.HashMap;
+import java.util.BitSet;
+import java.util.function.Function;
+
+/**
+ * Technology spillover between linked countries. Borders, trade agreements
+ * and alliances form a weighted country graph, stored as compressed sparse
+ * rows with each row normalized to sum to 1. A country's spillover for a tech
+ * is the weighted share of its partners that already know it, i.e. one
+ * sparse matrix-vector product per tech over the "knows" matrix. The graph and
+ * shares are rebuilt monthly; a completed tech between rebuilds only touches
+ * the rows of the completing country's partners.
+ */
+public class TechDiffusion {
+    private static final float NEIGHBOR_WEIGHT = 1.0f;
+    private static final float TRADE_WEIGHT = 0.5f;
+    private static final float ALLIANCE_WEIGHT = 0.5f;
+
+    private WorldMap worldMap;
+    private DiplomacyManager diplomacyManager;
+    private int techCount;
+    private Map<String, Integer> countryIndex;
+    private int[] rowStart;
+    private int[] columns;
+    private float[] inWeights;  // weight of the column country in this row's total
+    private float[] outWeights; // weight of this row's country in the column country's total
+    private float[] shares;     // country index * techCount + tech id
+
+    public TechDiffusion(int techCount) {
+        this.techCount = techCount;
+        this.countryIndex = new HashMap<>();
+        this.rowStart = new int[] { 0 };
+        this.columns = new int[0];
+        this.inWeights = new float[0];
+        this.outWeights = new float[0];
+        this.shares = new float[0];
+    }
+
+    public void setWorldMap(WorldMap worldMap) {
+        this.worldMap = worldMap;
+    }
+
+    public void setDiplomacyManager(DiplomacyManager diplomacyManager) {
+        this.diplomacyManager = diplomacyManager;
+    }
+
+    // Rebuilds the link graph and recomputes every share from each country's researched set
+    public void rebuild(List<Country> countries, Function<String, BitSet> researched) {
+        Map<String, Integer> index = new HashMap<>();
+        List<String> names = new ArrayList<>();
+        for (Country country : countries) {
+            if (ColonizationIndex.COLONIZABLE_OWNERS.contains(country.getName())) continue;
+            index.put(country.getName(), names.size());
+            names.add(country.getName());
+        }
+        int n = names.size();
+
+        // Read the researched sets first: for a new country the callback seeds its starting techs,
+        // which reports them through techResearched against the arrays still in use
+        BitSet[] known = new BitSet[n];
+        for (int j = 0; j < n; j++) {
+            known[j] = researched.apply(names.get(j));
+        }
+
+        List<Map<Integer, Float>> links = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            links.add(new HashMap<>());
+        }
+        if (worldMap != null) {
+            for (Country country : countries) {
+                Integer i = index.get(country.getName());
+                if (i == null) continue;
+                for (String neighbor : worldMap.getAdjacency().getNeighborCountries(country)) {
+                    Integer j = index.get(neighbor);
+                    if (j != null) links.get(i).put(j, NEIGHBOR_WEIGHT);
+                }
+            }
+        }
+        if (diplomacyManager != null) {
+            for (TradeAgreement agreement : diplomacyManager.getTradeAgreements()) {
+                if (agreement.isActive()) link(links, index, agreement.getCountry1(), agreement.getCountry2(), TRADE_WEIGHT);
+            }
+            for (Alliance alliance : diplomacyManager.getAlliances()) {
+                link(links, index, alliance.getCountry1(), alliance.getCountry2(), ALLIANCE_WEIGHT);
+            }
+        }
+
+        float[] rowTotals = new float[n];
+        int edgeCount = 0;
+        for (int i = 0; i < n; i++) {
+            for (float weight : links.get(i).values()) {
+                rowTotals[i] += weight;
+            }
+            edgeCount += links.get(i).size();
+        }
+        int[] newRowStart = new int[n + 1];
+        int[] newColumns = new int[edgeCount];
+        float[] newInWeights = new float[edgeCount];
+        float[] newOutWeights = new float[edgeCount];
+        int edge = 0;
+        for (int i = 0; i < n; i++) {
+            newRowStart[i] = edge;
+            for (Map.Entry<Integer, Float> link : links.get(i).entrySet()) {
+                int j = link.getKey();
+                newColumns[edge] = j;
+                newInWeights[edge] = link.getValue() / rowTotals[i];
+                // Links are symmetric, so the reverse edge has the same raw weight
+                newOutWeights[edge] = link.getValue() / rowTotals[j];
+                edge++;
+            }
+        }
+        newRowStart[n] = edge;
+
+        float[] newShares = new float[n * techCount];
+        for (int i = 0; i < n; i++) {
+            int base = i * techCount;
+            for (int e = newRowStart[i]; e < newRowStart[i + 1]; e++) {
+                BitSet partner = known[newColumns[e]];
+                float weight = newInWeights[e];
+                for (int tech = partner.nextSetBit(0); tech >= 0; tech = partner.nextSetBit(tech + 1)) {
+                    newShares[base + tech] = Math.min(1f, newShares[base + tech] + weight);
+                }
+            }
+        }
+
+        // Publish only once everything is built
+        countryIndex = index;
+        rowStart = newRowStart;
+        columns = newColumns;
+        inWeights = newInWeights;
+        outWeights = newOutWeights;
+        shares = newShares;
+    }
+
+    // A country finished a tech: raise that tech's share for each of its partners
+    public void techResearched(String countryName, int tech) {
+        Integer j = countryIndex.get(countryName);
+        if (j == null) return;
+        for (int e = rowStart[j]; e < rowStart[j + 1]; e++) {
+            int index = columns[e] * techCount + tech;
+            shares[index] = Math.min(1f, shares[index] + outWeights[e]);
+        }
+    }
+
+    // Weighted share (0..1) of the country's partners that know the tech
+    public float getShare(String countryName, int tech) {
+        Integer i = countryIndex.get(countryName);
+        return i != null ? shares[i * techCount + tech] : 0f;
+    }
+
+    public int getPartnerCount(String countryName) {
+        Integer i = countryIndex.get(countryName);
+        return i != null ? rowStart[i + 1] - rowStart[i] : 0;
+    }
+
+    private void link(List<Map<Integer, Float>> links, Map<String, Integer> index, String country1, String country2, float weight) {
+        Integer i = index.get(country1);
+        Integer j = index.get(country2);
+        if (i == null || j == null || i.equals(j)) return;
+        links.get(i).merge(j, weight, Float::sum);
+        links.get(j).merge(i, weight, Float::sum);
+    }
+}
@@ -4,18 +4,48 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.function.Function;
+import com.romagame.core.GameScheduler;
+import com.romagame.map.Country;
+
+/**
+ * Technologies form a dependency DAG with dense ids. Each country keeps its
+ * researched, researching and available techs as bitsets plus a flat array of
+ * research progress by tech id. The available set (every prerequisite
+ * researched, the tech itself not yet) is kept current as research completes,
+ * using a per-tech count of missing prerequisites, so availability queries
+ * are bit lookups instead of scans over requirement lists.
+ */
 public class TechnologyManager {
-    private Map<String, Technology> technologies;
-    private Map<String, Map<String, TechnologyProgress>> countryResearchProgress;
-    private Map<String, List<String>> countryTechnologies;
-    
+    // Research time saved when every partner already knows the tech
+    private static final float MAX_DIFFUSION_DISCOUNT = 0.5f;
+
+    private List<Technology> technologies; // indexed by tech id
+    private Map<String, Integer> idByName;
+    private BitSet[] prerequisites;
+    private int[][] dependents;
+    private Map<String, CountryResearch> countryResearch;
+    private List<List<CountryResearch>> researchByBucket;
+    private Function<String, Country> countryLookup;
+    private TechDiffusion diffusion;
+
     public TechnologyManager() {
-        technologies = new HashMap<>();
-        countryResearchProgress = new HashMap<>();
-        countryTechnologies = new HashMap<>();
+        technologies = new ArrayList<>();
+        idByName = new HashMap<>();
+        countryResearch = new HashMap<>();
+        researchByBucket = new ArrayList<>();
+        for (int i = 0; i < GameScheduler.BUCKETS; i++) {
+            researchByBucket.add(new ArrayList<>());
+        }
         initializeTechnologies();
+        buildGraph();
+        diffusion = new TechDiffusion(technologies.size());
     }
-    
+
     private void initializeTechnologies() {
         // Initialize all available technologies with requirements
         addTechnology("Military Tech", "Military", 1, 100, 30);
@@ -24,7 +54,7 @@ public class TechnologyManager {
         addTechnology("Trade Tech", "Trade", 1, 70, 20);
         addTechnology("Naval Tech", "Military", 1, 85, 30);
         addTechnology("Infrastructure Tech", "Administrative", 1, 75, 25);
-        
+
         // Higher tier technologies
         addTechnology("Advanced Military", "Military", 2, 150, 45);
         addTechnology("Advanced Diplomacy", "Diplomatic", 2, 120, 40);
@@ -32,7 +62,7 @@ public class TechnologyManager {
         addTechnology("Advanced Trade", "Trade", 2, 110, 35);
         addTechnology("Advanced Naval", "Military", 2, 130, 40);
         addTechnology("Advanced Infrastructure", "Administrative", 2, 125, 45);
-        
+
         // Modern technologies
         addTechnology("Modern Military", "Military", 3, 200, 60);
         addTechnology("Modern Diplomacy", "Diplomatic", 3, 180, 55);
@@ -41,141 +71,329 @@ public class TechnologyManager {
         addTechnology("Modern Naval", "Military", 3, 175, 55);
         addTechnology("Modern Infrastructure", "Administrative", 3, 170, 60);
     }
-    
+
     private void addTechnology(String name, String category, int level, int researchCost, int researchTime) {
         Technology tech = new Technology(name, category, level, researchCost, researchTime);
-        technologies.put(name, tech);
-    }
-    
-    public void update() {
-        // Update technology research progress for all countries
-        for (Map<String, TechnologyProgress> countryProgress : countryResearchProgress.values()) {
-            for (TechnologyProgress progress : countryProgress.values()) {
-                progress.update();
-                if (progress.isCompleted()) {
-                    // handle completed research
+        idByName.put(name, technologies.size());
+        technologies.add(tech);
+    }
+
+    // Resolves requirement strings to tech ids and builds the prerequisite and dependent edges
+    private void buildGraph() {
+        int count = technologies.size();
+        prerequisites = new BitSet[count];
+        List<List<Integer>> dependentLists = new ArrayList<>();
+        for (int id = 0; id < count; id++) {
+            prerequisites[id] = new BitSet(count);
+            dependentLists.add(new ArrayList<>());
+        }
+        for (int id = 0; id < count; id++) {
+            for (String requirement : technologies.get(id).getRequirements()) {
+                BitSet resolved = resolveRequirement(requirement);
+                if (resolved.isEmpty()) {
+                    System.err.println("Unknown requirement '" + requirement + "' for " + technologies.get(id).getName());
                 }
+                prerequisites[id].or(resolved);
+            }
+            prerequisites[id].clear(id);
+            for (int pre = prerequisites[id].nextSetBit(0); pre >= 0; pre = prerequisites[id].nextSetBit(pre + 1)) {
+                dependentLists.get(pre).add(id);
             }
         }
+        dependents = new int[count][];
+        for (int id = 0; id < count; id++) {
+            dependents[id] = dependentLists.get(id).stream().mapToInt(Integer::intValue).toArray();
+        }
+        checkAcyclic();
     }
-    
-    public void startResearch(String countryName, String techName) {
-        Technology tech = technologies.get(techName);
-        if (tech != null && !hasTechnology(countryName, techName)) {
-            // Initialize country progress if needed
-            countryResearchProgress.computeIfAbsent(countryName, k -> new HashMap<>());
-            
-            // Check if already researching
-            if (!countryResearchProgress.get(countryName).containsKey(techName)) {
-                TechnologyProgress progress = new TechnologyProgress(tech, countryName);
-                countryResearchProgress.get(countryName).put(techName, progress);
+
+    // A requirement is a tech name, or "Category_level" meaning every tech of that category and level
+    private BitSet resolveRequirement(String requirement) {
+        BitSet resolved = new BitSet(technologies.size());
+        Integer direct = idByName.get(requirement);
+        if (direct != null) {
+            resolved.set(direct);
+            return resolved;
+        }
+        int split = requirement.lastIndexOf('_');
+        if (split <= 0) return resolved;
+        String category = requirement.substring(0, split);
+        int level;
+        try {
+            level = Integer.parseInt(requirement.substring(split + 1));
+        } catch (NumberFormatException e) {
+            return resolved;
+        }
+        for (int id = 0; id < technologies.size(); id++) {
+            Technology tech = technologies.get(id);
+            if (tech.getCategory().equals(category) && tech.getLevel() == level) {
+                resolved.set(id);
             }
         }
+        return resolved;
     }
-    
-    public void stopResearch(String countryName, String techName) {
-        Map<String, TechnologyProgress> countryProgress = countryResearchProgress.get(countryName);
-        if (countryProgress != null) {
-            countryProgress.remove(techName);
+
+    private void checkAcyclic() {
+        // Kahn's algorithm; anything left unvisited sits on a cycle and could never be researched
+        int count = technologies.size();
+        int[] missing = new int[count];
+        Deque<Integer> ready = new ArrayDeque<>();
+        for (int id = 0; id < count; id++) {
+            missing[id] = prerequisites[id].cardinality();
+            if (missing[id] == 0) ready.add(id);
+        }
+        int visited = 0;
+        while (!ready.isEmpty()) {
+            int id = ready.poll();
+            visited++;
+            for (int dependent : dependents[id]) {
+                if (--missing[dependent] == 0) ready.add(dependent);
+            }
+        }
+        if (visited < count) {
+            System.err.println("Technology requirements contain a cycle; " + (count - visited) + " techs are unreachable");
         }
     }
-    
-    public boolean isResearching(String countryName, String techName) {
-        Map<String, TechnologyProgress> countryProgress = countryResearchProgress.get(countryName);
-        return countryProgress != null && countryProgress.containsKey(techName);
+
+    // Used to seed each country's starting techs and to report completed research back to it
+    public void setCountryLookup(Function<String, Country> countryLookup) {
+        this.countryLookup = countryLookup;
+    }
+
+    // Called monthly; rebuilds the spillover links and shares from scratch
+    public synchronized void updateDiffusion(List<Country> countries) {
+        diffusion.rebuild(countries, name -> researchOf(name).researched);
+    }
+
+    public TechDiffusion getDiffusion() {
+        return diffusion;
     }
-    
-    public double getResearchProgress(String countryName, String techName) {
-        Map<String, TechnologyProgress> countryProgress = countryResearchProgress.get(countryName);
-        if (countryProgress != null && countryProgress.containsKey(techName)) {
-            return countryProgress.get(techName).getProgressPercent();
+
+    // Fraction of the research time saved because partners already know the tech
+    public synchronized double getDiffusionDiscount(String countryName, String techName) {
+        Integer id = idByName.get(techName);
+        return id != null ? MAX_DIFFUSION_DISCOUNT * diffusion.getShare(countryName, id) : 0.0;
+    }
+
+    // Called daily by the scheduler; each country's research advances once per bucket cycle
+    public synchronized void updateBucket(int bucket) {
+        for (CountryResearch research : researchByBucket.get(bucket)) {
+            if (research.researching.isEmpty()) continue;
+            BitSet researching = research.researching;
+            for (int id = researching.nextSetBit(0); id >= 0; id = researching.nextSetBit(id + 1)) {
+                research.progress[id] += GameScheduler.BUCKETS; // One point per day
+                if (research.progress[id] >= researchTimeOf(research.countryName, id)) {
+                    complete(research, id);
+                }
+            }
+            startQueued(research);
         }
-        return 0.0;
     }
-    
-    public boolean canResearch(String countryName, String techName) {
-        Technology tech = technologies.get(techName);
-        if (tech == null || hasTechnology(countryName, techName)) {
-            return false;
+
+    // Starts a tech whose prerequisites are all researched; returns false for anything off the frontier
+    public synchronized boolean startResearch(String countryName, String techName) {
+        Integer id = idByName.get(techName);
+        if (id == null) return false;
+        CountryResearch research = researchOf(countryName);
+        if (!research.available.get(id)) return false;
+        research.researching.set(id);
+        return true;
+    }
+
+    // Adds a tech to the country's queue; queued techs start as soon as nothing else is being researched
+    public synchronized void queueResearch(String countryName, String techName) {
+        Integer id = idByName.get(techName);
+        if (id == null) return;
+        CountryResearch research = researchOf(countryName);
+        if (research.researched.get(id) || research.researching.get(id) || research.queue.contains(id)) return;
+        research.queue.add(id);
+        startQueued(research);
+    }
+
+    public synchronized void stopResearch(String countryName, String techName) {
+        Integer id = idByName.get(techName);
+        CountryResearch research = countryResearch.get(countryName);
+        if (id != null && research != null) {
+            research.researching.clear(id);
+            research.queue.remove(id);
+            research.progress[id] = 0f;
         }
-        
-        // Check requirements
-        return tech.canResearch(getCountryTechnologies(countryName));
     }
-    
-    public void researchTechnology(String country, String techName) {
-        Technology tech = technologies.get(techName);
-        if (tech != null && !hasTechnology(country, techName)) {
-            countryTechnologies.computeIfAbsent(country, k -> new ArrayList<>());
-            countryTechnologies.get(country).add(techName);
+
+    public synchronized boolean isResearching(String countryName, String techName) {
+        Integer id = idByName.get(techName);
+        CountryResearch research = countryResearch.get(countryName);
+        return id != null && research != null && research.researching.get(id);
+    }
+
+    public synchronized boolean hasActiveResearch(String countryName) {
+        CountryResearch research = countryResearch.get(countryName);
+        return research != null && !research.researching.isEmpty();
+    }
+
+    public synchronized double getResearchProgress(String countryName, String techName) {
+        Integer id = idByName.get(techName);
+        CountryResearch research = countryResearch.get(countryName);
+        if (id != null && research != null && research.researching.get(id)) {
+            return Math.min(1.0, research.progress[id] / researchTimeOf(countryName, id));
+        }
+        return 0.0;
+    }
+
+    public synchronized boolean canResearch(String countryName, String techName) {
+        Integer id = idByName.get(techName);
+        return id != null && researchOf(countryName).available.get(id);
+    }
+
+    public synchronized void researchTechnology(String country, String techName) {
+        Integer id = idByName.get(techName);
+        if (id == null) return;
+        CountryResearch research = researchOf(country);
+        if (!research.researched.get(id)) {
+            complete(research, id);
         }
     }
-    
-    public boolean hasTechnology(String country, String techName) {
-        List<String> countryTechs = countryTechnologies.get(country);
-        return countryTechs != null && countryTechs.contains(techName);
+
+    public synchronized boolean hasTechnology(String country, String techName) {
+        Integer id = idByName.get(techName);
+        return id != null && researchOf(country).researched.get(id);
+    }
+
+    public synchronized List<String> getCountryTechnologies(String country) {
+        return namesOf(researchOf(country).researched);
     }
-    
-    public List<String> getCountryTechnologies(String country) {
-        return countryTechnologies.getOrDefault(country, new ArrayList<>());
+
+    public synchronized List<String> getResearchingTechnologies(String country) {
+        CountryResearch research = countryResearch.get(country);
+        return research != null ? namesOf(research.researching) : new ArrayList<>();
     }
-    
-    public List<String> getResearchingTechnologies(String country) {
-        Map<String, TechnologyProgress> countryProgress = countryResearchProgress.get(country);
-        if (countryProgress != null) {
-            return new ArrayList<>(countryProgress.keySet());
+
+    public synchronized List<String> getResearchQueue(String country) {
+        List<String> names = new ArrayList<>();
+        CountryResearch research = countryResearch.get(country);
+        if (research != null) {
+            for (int id : research.queue) {
+                names.add(technologies.get(id).getName());
+            }
         }
-        return new ArrayList<>();
+        return names;
     }
-    
+
     public Technology getTechnology(String name) {
-        return technologies.get(name);
+        Integer id = idByName.get(name);
+        return id != null ? technologies.get(id) : null;
     }
-    
+
     public List<Technology> getAllTechnologies() {
-        return new ArrayList<>(technologies.values());
+        return new ArrayList<>(technologies);
     }
-    
-    public List<Technology> getAvailableTechnologies(String country) {
-        List<Technology> available = new ArrayList<>();
-        for (Technology tech : technologies.values()) {
-            if (!hasTechnology(country, tech.getName()) && tech.canResearch(getCountryTechnologies(country))) {
-                available.add(tech);
+
+    // Techs that must be researched first, resolved from the tech's requirement strings
+    public List<Technology> getPrerequisites(String techName) {
+        List<Technology> result = new ArrayList<>();
+        Integer id = idByName.get(techName);
+        if (id != null) {
+            for (int pre = prerequisites[id].nextSetBit(0); pre >= 0; pre = prerequisites[id].nextSetBit(pre + 1)) {
+                result.add(technologies.get(pre));
             }
         }
+        return result;
+    }
+
+    public synchronized List<Technology> getAvailableTechnologies(String country) {
+        List<Technology> available = new ArrayList<>();
+        BitSet bits = researchOf(country).available;
+        for (int id = bits.nextSetBit(0); id >= 0; id = bits.nextSetBit(id + 1)) {
+            available.add(technologies.get(id));
+        }
         return available;
     }
-    
-    // Inner class to track research progress
-    private static class TechnologyProgress {
-        private Technology technology;
-        private double progress;
-        private boolean completed;
-        
-        public TechnologyProgress(Technology tech, String country) {
-            this.technology = tech;
-            this.progress = 0.0;
-            this.completed = false;
-        }
-        
-        public void update() {
-            if (!completed && progress < technology.getResearchTime()) {
-                progress += 1.0; // Daily progress
-                
-                if (progress >= technology.getResearchTime()) {
-                    completed = true;
-                    // Auto-complete research
-                    // This would typically be handled by the main game loop
+
+    private float researchTimeOf(String countryName, int id) {
+        float discount = MAX_DIFFUSION_DISCOUNT * diffusion.getShare(countryName, id);
+        return technologies.get(id).getResearchTime() * (1f - discount);
+    }
+
+    private void complete(CountryResearch research, int id) {
+        research.researching.clear(id);
+        research.progress[id] = 0f;
+        research.researched.set(id);
+        research.available.clear(id);
+        for (int dependent : dependents[id]) {
+            if (--research.missing[dependent] == 0 && !research.researched.get(dependent)) {
+                research.available.set(dependent);
+            }
+        }
+        diffusion.techResearched(research.countryName, id);
+        Country country = countryLookup != null ? countryLookup.apply(research.countryName) : null;
+        if (country != null) {
+            country.completeTechnologyResearch(technologies.get(id).getName());
+        }
+    }
+
+    private void startQueued(CountryResearch research) {
+        if (!research.researching.isEmpty()) return;
+        Iterator<Integer> it = research.queue.iterator();
+        while (it.hasNext()) {
+            int id = it.next();
+            if (research.researched.get(id)) {
+                it.remove();
+            } else if (research.available.get(id)) {
+                it.remove();
+                research.researching.set(id);
+                return;
+            }
+        }
+    }
+
+    private CountryResearch researchOf(String countryName) {
+        CountryResearch research = countryResearch.get(countryName);
+        if (research == null) {
+            research = new CountryResearch(countryName, technologies.size());
+            for (int id = 0; id < technologies.size(); id++) {
+                research.missing[id] = prerequisites[id].cardinality();
+                if (research.missing[id] == 0) research.available.set(id);
+            }
+            countryResearch.put(countryName, research);
+            researchByBucket.get(GameScheduler.bucketOf(countryName)).add(research);
+            // Starting techs are set on the country itself
+            Country country = countryLookup != null ? countryLookup.apply(countryName) : null;
+            if (country != null) {
+                for (String techName : country.getResearchedTechnologies()) {
+                    Integer id = idByName.get(techName);
+                    if (id != null && !research.researched.get(id)) complete(research, id);
                 }
             }
         }
-        
-        public double getProgressPercent() {
-            return Math.min(1.0, progress / technology.getResearchTime());
+        return research;
+    }
+
+    private List<String> namesOf(BitSet bits) {
+        List<String> names = new ArrayList<>();
+        for (int id = bits.nextSetBit(0); id >= 0; id = bits.nextSetBit(id + 1)) {
+            names.add(technologies.get(id).getName());
         }
-        
-        public boolean isCompleted() {
-            return completed;
+        return names;
+    }
+
+    // Research state of one country, indexed by tech id
+    private static class CountryResearch {
+        private final String countryName;
+        private final BitSet researched;
+        private final BitSet researching;
+        private final BitSet available;
+        private final int[] missing; // prerequisites not yet researched
+        private final float[] progress; // days of research done
+        private final Deque<Integer> queue;
+
+        CountryResearch(String countryName, int techCount) {
+            this.countryName = countryName;
+            this.researched = new BitSet(techCount);
+            this.researching = new BitSet(techCount);
+            this.available = new BitSet(techCount);
+            this.missing = new int[techCount];
+            this.progress = new float[techCount];
+            this.queue = new ArrayDeque<>();
         }
     }
-} 
\ No newline at end of file
+}
@@ -224,11 +224,15 @@ public class ControlPanel extends JPanel {
     }
     
     private void showColonizationDialog() {
-        // Get colonizable provinces
-        List<String> colonizableProvinces = engine.getColonizationManager().getColonizableProvinces();
+        Country playerCountry = engine.getCountryManager().getPlayerCountry();
+        if (playerCountry == null) return;
+        
+        // Get colonizable provinces within reach of the player, nearest first
+        String playerName = playerCountry.getName();
+        List<String> colonizableProvinces = engine.getColonizationManager().getColonizableProvinces(playerName);
         
         if (colonizableProvinces.isEmpty()) {
-            JOptionPane.showMessageDialog(this, "No uncolonized provinces available!", "Colonization", JOptionPane.INFORMATION_MESSAGE);
+            JOptionPane.showMessageDialog(this, "No uncolonized provinces within reach!", "Colonization", JOptionPane.INFORMATION_MESSAGE);
             return;
         }
         
@@ -255,7 +259,6 @@ public class ControlPanel extends JPanel {
                 }
                 
                 // Check if player has enough treasury
-                Country playerCountry = engine.getCountryManager().getPlayerCountry();
                 double cost = colonists * 0.1; // Cost per colonist
                 
                 if (playerCountry.getTreasury() < cost) {
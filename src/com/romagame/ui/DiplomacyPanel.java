@@ -6,6 +6,7 @@ import com.romagame.diplomacy.DiplomaticRelation;
 import com.romagame.diplomacy.TradeAgreement;
 import com.romagame.diplomacy.War;
 import com.romagame.map.Country;
+import com.romagame.military.WarForecaster;
 import javax.swing.*;
 import java.awt.*;
 import java.util.List;
@@ -224,9 +225,11 @@ public class DiplomacyPanel extends JPanel {
         );
         
         if (target != null) {
+            WarForecaster.WarForecast odds = engine.getMilitaryManager().getWarForecaster()
+                .forecast(playerCountry.getName(), target);
             int confirm = JOptionPane.showConfirmDialog(
                 this,
-                "Declare war on " + target + "?\nThis will significantly worsen relations.",
+                "Declare war on " + target + "?\nThis will significantly worsen relations.\n\n" + formatOdds(odds),
                 "Confirm War Declaration",
                 JOptionPane.YES_NO_OPTION
             );
@@ -242,6 +245,17 @@ public class DiplomacyPanel extends JPanel {
         }
     }
     
+    private String formatOdds(WarForecaster.WarForecast odds) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Estimated odds: %.0f%% victory (%d simulated wars)%n",
+            odds.getWinProbability() * 100, odds.getSimulations()));
+        sb.append(String.format("Expected war score: %+.0f (likely range %+.0f to %+.0f)%n",
+            odds.getExpectedWarScore(), odds.getQuantile(0.1), odds.getQuantile(0.9)));
+        sb.append("Your side: ").append(String.join(", ", odds.getAttackers())).append("\n");
+        sb.append("Their side: ").append(String.join(", ", odds.getDefenders()));
+        return sb.toString();
+    }
+    
     private void showMakePeaceDialog() {
         Country playerCountry = engine.getCountryManager().getPlayerCountry();
         if (playerCountry == null) return;
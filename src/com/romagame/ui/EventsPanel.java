@@ -4,9 +4,12 @@ import com.romagame.core.GameEngine;
 import com.romagame.events.EventManager;
 import com.romagame.events.EventManager.GameEvent;
 import com.romagame.events.EventManager.EventOption;
+import com.romagame.events.EventChoice;
+import com.romagame.events.FlavorEvent;
 import com.romagame.map.Country;
 import javax.swing.*;
 import java.awt.*;
+import java.util.ArrayList;
 import java.util.List;
 
 public class EventsPanel extends JPanel {
@@ -20,10 +23,15 @@ public class EventsPanel extends JPanel {
     private JButton declineButton;
     private JButton compromiseButton;
     private GameEvent currentEvent;
+    private FlavorEvent currentFlavorEvent;
+    private List<GameEvent> shownEvents;
+    private List<FlavorEvent> shownFlavorEvents; // listed after the scheduled events
     
     public EventsPanel(GameEngine engine) {
         this.engine = engine;
-        this.eventManager = new EventManager();
+        this.eventManager = engine.getEventManager();
+        this.shownEvents = new ArrayList<>();
+        this.shownFlavorEvents = new ArrayList<>();
         setupPanel();
         createComponents();
         layoutComponents();
@@ -158,7 +166,20 @@ public class EventsPanel extends JPanel {
     }
     
     private void handleEventChoice(int choiceIndex) {
-        if (currentEvent != null) {
+        if (currentFlavorEvent != null) {
+            Country playerCountry = engine.getCountryManager().getPlayerCountry();
+            if (playerCountry != null && choiceIndex < currentFlavorEvent.getChoices().size()) {
+                eventManager.applyFlavorEventChoice(playerCountry, currentFlavorEvent, choiceIndex);
+                
+                EventChoice chosen = currentFlavorEvent.getChoices().get(choiceIndex);
+                JOptionPane.showMessageDialog(this, 
+                    "Decision: " + chosen.getText() + "\n\n" + chosen.getDescription(),
+                    "Event Resolved",
+                    JOptionPane.INFORMATION_MESSAGE);
+                
+                updatePanel();
+            }
+        } else if (currentEvent != null) {
             Country playerCountry = engine.getCountryManager().getPlayerCountry();
             if (playerCountry != null) {
                 eventManager.applyEventChoice(playerCountry, currentEvent, choiceIndex);
@@ -177,17 +198,13 @@ public class EventsPanel extends JPanel {
     
     private void updateEventDetails() {
         int selectedIndex = eventList.getSelectedIndex();
-        if (selectedIndex >= 0) {
-            String selectedEvent = eventList.getSelectedValue();
-            
-            // Find the event
-            List<GameEvent> activeEvents = eventManager.getActiveEvents();
-            for (GameEvent event : activeEvents) {
-                if (event.getName().equals(selectedEvent)) {
-                    currentEvent = event;
-                    break;
-                }
-            }
+        if (selectedIndex >= shownEvents.size() && selectedIndex < shownEvents.size() + shownFlavorEvents.size()) {
+            currentEvent = null;
+            currentFlavorEvent = shownFlavorEvents.get(selectedIndex - shownEvents.size());
+            updateFlavorEventDetails();
+        } else if (selectedIndex >= 0 && selectedIndex < shownEvents.size()) {
+            currentFlavorEvent = null;
+            currentEvent = shownEvents.get(selectedIndex);
             
             if (currentEvent != null) {
                 StringBuilder details = new StringBuilder();
@@ -212,12 +229,37 @@ public class EventsPanel extends JPanel {
         }
     }
     
+    private void updateFlavorEventDetails() {
+        StringBuilder details = new StringBuilder();
+        details.append("Event: ").append(currentFlavorEvent.getTitle()).append("\n\n");
+        details.append("Description:\n");
+        details.append(currentFlavorEvent.getDescription()).append("\n\n");
+        details.append("Available Choices:\n");
+        
+        List<EventChoice> choices = currentFlavorEvent.getChoices();
+        for (int i = 0; i < choices.size(); i++) {
+            EventChoice choice = choices.get(i);
+            details.append(i + 1).append(". ").append(choice.getText()).append("\n");
+            details.append("   ").append(choice.getDescription()).append("\n\n");
+        }
+        eventDetails.setText(details.toString());
+        
+        JButton[] buttons = { acceptButton, declineButton, compromiseButton };
+        for (int i = 0; i < buttons.length; i++) {
+            buttons[i].setText(i < choices.size() ? choices.get(i).getText() : "-");
+            buttons[i].setEnabled(i < choices.size());
+        }
+    }
+    
     private void updateChoiceButtons() {
         if (currentEvent != null && currentEvent.getOptions().size() >= 3) {
             EventOption option1 = currentEvent.getOptions().get(0);
             EventOption option2 = currentEvent.getOptions().get(1);
             EventOption option3 = currentEvent.getOptions().get(2);
             
+            acceptButton.setEnabled(true);
+            declineButton.setEnabled(true);
+            compromiseButton.setEnabled(true);
             acceptButton.setText(option1.getName());
             declineButton.setText(option2.getName());
             compromiseButton.setText(option3.getName());
@@ -229,30 +271,39 @@ public class EventsPanel extends JPanel {
         }
     }
     
+    // Rebuilds the list from the player's active and flavor events, keeping the current selection
     public void updatePanel() {
+        int selectedIndex = Math.max(0, eventList.getSelectedIndex());
+        shownEvents.clear();
+        shownFlavorEvents.clear();
         eventListModel.clear();
         
-        List<GameEvent> activeEvents = eventManager.getActiveEvents();
-        for (GameEvent event : activeEvents) {
+        Country playerCountry = engine.getCountryManager().getPlayerCountry();
+        if (playerCountry != null) {
+            shownEvents.addAll(eventManager.getActiveEvents(playerCountry.getName()));
+            shownFlavorEvents.addAll(eventManager.getPendingFlavorEvents(playerCountry.getName()));
+        }
+        for (GameEvent event : shownEvents) {
             eventListModel.addElement(event.getName());
         }
+        for (FlavorEvent event : shownFlavorEvents) {
+            eventListModel.addElement(event.getTitle());
+        }
         
         if (eventListModel.size() > 0) {
-            eventList.setSelectedIndex(0);
+            eventList.setSelectedIndex(Math.min(selectedIndex, eventListModel.size() - 1));
             updateEventDetails();
         } else {
             eventDetails.setText("No active events at this time.\n\n" +
                 "Events will appear randomly during gameplay.\n" +
                 "They may affect your stability, prestige, treasury, and other aspects of your empire.");
             currentEvent = null;
+            currentFlavorEvent = null;
         }
     }
     
+    // Events are fired by the engine's event scheduler; this just refreshes the list
     public void processEvents() {
-        Country playerCountry = engine.getCountryManager().getPlayerCountry();
-        if (playerCountry != null) {
-            eventManager.processRandomEvents(playerCountry);
-            updatePanel();
-        }
+        updatePanel();
     }
 } 
\ No newline at end of file
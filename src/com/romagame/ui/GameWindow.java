@@ -24,6 +24,8 @@ public class GameWindow extends JFrame {
     private FocusTreePanel focusTreePanel;
     private AIStatusPanel aiStatusPanel;
     private DiplomacyPanel diplomacyPanel;
+    private RulersPanel rulersPanel;
+    private EventsPanel eventsPanel;
     private JButton speedButton;
     
     public GameWindow(GameEngine engine) {
@@ -69,6 +71,8 @@ public class GameWindow extends JFrame {
         focusTreePanel = new FocusTreePanel(engine);
         aiStatusPanel = new AIStatusPanel(engine);
         diplomacyPanel = new DiplomacyPanel(engine);
+        rulersPanel = new RulersPanel(engine);
+        eventsPanel = new EventsPanel(engine);
         
         mainTabbedPane = new JTabbedPane();
         mainTabbedPane.setFont(new Font("Times New Roman", Font.BOLD, 14));
@@ -98,6 +102,8 @@ public class GameWindow extends JFrame {
         mainTabbedPane.addTab("🎯 Focus", new ImageIcon(), focusTreePanel, "Focus tree");
         mainTabbedPane.addTab("🤖 AI Status", new ImageIcon(), aiStatusPanel, "AI nations status");
         mainTabbedPane.addTab("🤝 Diplomacy", new ImageIcon(), diplomacyPanel, "Diplomacy and war");
+        mainTabbedPane.addTab("👑 Court", new ImageIcon(), rulersPanel, "Ruler, heir and advisors");
+        mainTabbedPane.addTab("⚡ Events", new ImageIcon(), eventsPanel, "Events awaiting a decision");
         mainTabbedPane.addTab("⏩ Speed", new ImageIcon(), new JPanel(), "Game speed");
         int speedTabIndex = mainTabbedPane.getTabCount() - 1;
         mainTabbedPane.setTabComponentAt(speedTabIndex, speedButton);
@@ -146,6 +152,8 @@ public class GameWindow extends JFrame {
         focusTreePanel.updatePanel();
         aiStatusPanel.updatePanel();
         diplomacyPanel.updateDiplomacy();
+        rulersPanel.updatePanel();
+        eventsPanel.updatePanel();
         updateSpeedLabel();
     }
     
@@ -102,16 +102,14 @@ public class InfoPanel extends JPanel {
         sb.append("   Income: ").append(String.format("%.1f", country.getIncome())).append(" gold/month\n");
         sb.append("   Expenses: ").append(String.format("%.1f", country.getExpenses())).append(" gold/month\n");
         sb.append("   Net Income: ").append(String.format("%.1f", country.getIncome() - country.getExpenses())).append(" gold/month\n");
-        sb.append("   Provinces: ").append(country.getProvinces().size()).append("\n\n");
+        sb.append("   Provinces: ").append(country.getStats().getProvinceCount()).append("\n\n");
         
         // Military Information
         sb.append("⚔️  MILITARY FORCES:\n");
-        int totalTroops = 0;
         for (var entry : country.getMilitary().entrySet()) {
             sb.append("   ").append(entry.getKey()).append(": ").append(entry.getValue()).append("\n");
-            totalTroops += entry.getValue();
         }
-        sb.append("   Total Forces: ").append(totalTroops).append(" men\n\n");
+        sb.append("   Total Forces: ").append(country.getStats().getTotalUnits()).append(" men\n\n");
         
         // Resources
         sb.append("📦 RESOURCES:\n");
@@ -226,13 +224,9 @@ public class InfoPanel extends JPanel {
         
         // Population and Development
         sb.append("👥 POPULATION & DEVELOPMENT:\n");
-        int totalPopulation = 0;
-        for (var province : country.getProvinces()) {
-            totalPopulation += province.getPopulation();
-        }
-        sb.append("   Total Population: ").append(String.format("%,d", totalPopulation)).append("\n");
+        sb.append("   Total Population: ").append(String.format("%,d", country.getStats().getTotalPopulation())).append("\n");
         sb.append("   Average Development: ").append(String.format("%.1f", 
-            country.getProvinces().stream().mapToDouble(p -> p.getDevelopment()).average().orElse(0.0))).append("\n\n");
+            country.getStats().getAverageDevelopment())).append("\n\n");
         
         // Buildings
         sb.append("🏗️  BUILDINGS:\n");
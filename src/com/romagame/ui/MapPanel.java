@@ -91,6 +91,8 @@ public class MapPanel extends JPanel {
         loadMapBackground();
         loadProvinceMask();
         loadNationsAndProvinces();
+        engine.getMilitaryManager().setProvinceLocator(provinceIdToCentroid::get);
+        engine.getWorldMap().getAdjacency().setProvinceLocator(provinceIdToCentroid::get);
         System.out.println("[DEBUG] Loaded " + colorToProvinceId.size() + " province mappings, " + nationList.size() + " nations");
         setupMouseListeners();
         startEdgeScrollTimer();
@@ -405,16 +407,16 @@ public class MapPanel extends JPanel {
             MilitaryManager mm = engine.getMilitaryManager();
             Point clickPoint = e.getPoint();
             boolean armyClicked = false;
-            for (Army army : mm.getArmies().values()) {
-                String loc = army.getLocation();
-                if (loc == null || loc.equals("Unknown")) continue;
-                Province province = engine.getWorldMap().getProvince(loc);
-                if (province == null) continue;
+            int iconSize = 20;
+            // Only armies whose province centroid lies under the click are candidates
+            Point clickMapPoint = camera.screenToMap(clickPoint.x, clickPoint.y);
+            double hitRadius = iconSize / camera.getZoom();
+            for (Army army : mm.getArmiesNear(clickMapPoint.x, clickMapPoint.y, hitRadius)) {
+                Point centroid = provinceIdToCentroid.get(army.getLocation());
+                if (centroid == null) continue;
                 // Convert province coordinates to screen coordinates using camera
-                Point mapPoint = camera.screenToMap(clickPoint.x, clickPoint.y);
-                Point screenCoords = camera.mapToScreen(mapPoint.x, mapPoint.y);
+                Point screenCoords = camera.mapToScreen(centroid.x, centroid.y);
                 // Check if click is within army icon bounds
-                int iconSize = 20;
                 int x = screenCoords.x - iconSize / 2;
                 int y = screenCoords.y - iconSize / 2;
                 if (clickPoint.x >= x && clickPoint.x <= x + iconSize && 
@@ -476,7 +478,7 @@ public class MapPanel extends JPanel {
                 if (clickedProvince != null) {
                     if (selectedArmy != null) {
                         // Move selected army to province
-                        selectedArmy.setLocation(provinceId);
+                        engine.getMilitaryManager().moveArmy(selectedArmy, provinceId);
                         repaint();
                     } else {
                         showProvinceContextMenu(clickedProvince, e.getPoint());
@@ -808,7 +810,7 @@ public class MapPanel extends JPanel {
         );
         
         if (selectedProvince != null && !selectedProvince.equals(army.getLocation())) {
-            army.setLocation(selectedProvince);
+            engine.getMilitaryManager().moveArmy(army, selectedProvince);
             repaint();
             JOptionPane.showMessageDialog(this, 
                 army.getName() + " moved to " + selectedProvince + "!",
@@ -845,7 +847,7 @@ public class MapPanel extends JPanel {
             
         if (result == JOptionPane.YES_OPTION) {
             // Remove army from military manager
-            engine.getMilitaryManager().getArmies().remove(army.getName());
+            engine.getMilitaryManager().disbandArmy(army.getName());
             selectedArmy = null;
             repaint();
             JOptionPane.showMessageDialog(this,
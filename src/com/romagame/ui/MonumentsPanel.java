@@ -1,6 +1,7 @@
 package com.romagame.ui;
 
 import com.romagame.core.GameEngine;
+import com.romagame.monuments.MonumentManager;
 import com.romagame.monuments.WorldMonument;
 import com.romagame.map.Country;
 import javax.swing.*;
@@ -8,6 +9,7 @@ import java.awt.*;
 import java.util.*;
 
 public class MonumentsPanel extends JPanel {
+    private static final int RUSH_DAYS = 30; // construction days bought by each advance
     private GameEngine engine;
     private JList<String> monumentList;
     private DefaultListModel<String> monumentListModel;
@@ -16,16 +18,15 @@ public class MonumentsPanel extends JPanel {
     private JButton startConstructionButton;
     private JButton advanceConstructionButton;
     private WorldMonument currentMonument;
-    private Map<String, WorldMonument> monuments;
+    private MonumentManager monumentManager;
     
     public MonumentsPanel(GameEngine engine) {
         this.engine = engine;
-        this.monuments = new HashMap<>();
+        this.monumentManager = engine.getMonumentManager();
         setupPanel();
         createComponents();
         layoutComponents();
         setupEventHandlers();
-        initializeMonuments();
         updatePanel();
     }
     
@@ -156,26 +157,17 @@ public class MonumentsPanel extends JPanel {
         advanceConstructionButton.addActionListener(e -> advanceConstruction());
     }
     
-    private void initializeMonuments() {
-        // Create historical world monuments using factory methods
-        monuments.put("Colosseum", WorldMonument.createColosseum());
-        monuments.put("Parthenon", WorldMonument.createParthenon());
-        monuments.put("Great Wall", WorldMonument.createGreatWall());
-        monuments.put("Hanging Gardens", WorldMonument.createHangingGardens());
-        monuments.put("Pyramids", WorldMonument.createPyramids());
-        monuments.put("Stonehenge", WorldMonument.createStonehenge());
-        monuments.put("Persepolis", WorldMonument.createPersepolis());
-        monuments.put("Theater of Dionysus", WorldMonument.createTheaterOfDionysus());
-    }
-    
     private void startConstruction() {
         if (currentMonument != null) {
             Country playerCountry = engine.getCountryManager().getPlayerCountry();
             if (playerCountry != null) {
-                double cost = currentMonument.getConstructionCost() * 0.1; // 10% initial cost
-                if (playerCountry.getTreasury() >= cost) {
-                    playerCountry.setTreasury(playerCountry.getTreasury() - cost);
-                    currentMonument.startConstruction(playerCountry.getName());
+                double cost = currentMonument.getConstructionCost();
+                if (!currentMonument.canBuild(playerCountry)) {
+                    JOptionPane.showMessageDialog(this,
+                        playerCountry.getName() + " cannot build " + currentMonument.getName() + ".",
+                        "Cannot Build",
+                        JOptionPane.ERROR_MESSAGE);
+                } else if (monumentManager.startMonumentConstruction(currentMonument.getName(), playerCountry)) {
                     updateMonumentDetails();
                     JOptionPane.showMessageDialog(this, 
                         "Started construction of " + currentMonument.getName() + " for " + String.format("%.1f", cost) + " gold!",
@@ -198,7 +190,7 @@ public class MonumentsPanel extends JPanel {
                 double cost = currentMonument.getConstructionCost() * 0.05; // 5% progress cost
                 if (playerCountry.getTreasury() >= cost) {
                     playerCountry.setTreasury(playerCountry.getTreasury() - cost);
-                    currentMonument.updateConstruction(50); // Advance by 50 points
+                    monumentManager.rushConstruction(currentMonument.getName(), RUSH_DAYS);
                     updateMonumentDetails();
                     
                     if (currentMonument.isBuilt()) {
@@ -226,7 +218,7 @@ public class MonumentsPanel extends JPanel {
         int selectedIndex = monumentList.getSelectedIndex();
         if (selectedIndex >= 0) {
             String selectedMonument = monumentList.getSelectedValue();
-            currentMonument = monuments.get(selectedMonument);
+            currentMonument = monumentManager.getMonument(selectedMonument);
             
             if (currentMonument != null) {
                 StringBuilder details = new StringBuilder();
@@ -254,8 +246,9 @@ public class MonumentsPanel extends JPanel {
                 monumentDetails.setText(details.toString());
                 
                 // Update progress bar
-                constructionProgress.setValue((int) currentMonument.getProgressPercentage());
-                constructionProgress.setString(String.format("%.1f%%", currentMonument.getProgressPercentage()));
+                double progress = monumentManager.getProgressPercentage(currentMonument.getName());
+                constructionProgress.setValue((int) progress);
+                constructionProgress.setString(String.format("%.1f%%", progress));
                 
                 // Update button states
                 startConstructionButton.setEnabled(currentMonument.getOwner() == null);
@@ -267,7 +260,10 @@ public class MonumentsPanel extends JPanel {
     public void updatePanel() {
         monumentListModel.clear();
         
-        for (WorldMonument monument : monuments.values()) {
+        for (WorldMonument monument : monumentManager.getAvailableMonuments()) {
+            monumentListModel.addElement(monument.getName());
+        }
+        for (WorldMonument monument : monumentManager.getActiveMonuments()) {
             monumentListModel.addElement(monument.getName());
         }
         
@@ -1,22 +1,31 @@
 package com.romagame.ui;
 
+import com.romagame.core.GameDate;
 import com.romagame.core.GameEngine;
-import com.romagame.events.EventManager;
-import com.romagame.events.EventManager.Ruler;
-import com.romagame.events.EventManager.Advisor;
+import com.romagame.government.Advisor;
+import com.romagame.government.DynastyManager;
+import com.romagame.government.Ruler;
+import com.romagame.map.Country;
 import javax.swing.*;
 import java.awt.*;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 public class RulersPanel extends JPanel {
     public GameEngine engine;
-    private EventManager eventManager;
+    private DynastyManager dynastyManager;
     private JList<String> rulerList;
     private DefaultListModel<String> rulerListModel;
     private JTextArea rulerDetails;
     private JList<String> advisorList;
     private DefaultListModel<String> advisorListModel;
     private JTextArea advisorDetails;
+    private JButton hireButton;
+    private JButton fireButton;
+    private List<Ruler> shownRulers;
+    private List<Advisor> shownAdvisors; // hired advisors first, then candidates
+    private int hiredCount;
     private JPanel monarchPointsPanel;
     private JLabel adminPointsLabel;
     private JLabel diploPointsLabel;
@@ -26,7 +35,9 @@ public class RulersPanel extends JPanel {
     
     public RulersPanel(GameEngine engine) {
         this.engine = engine;
-        this.eventManager = new EventManager();
+        this.dynastyManager = engine.getDynastyManager();
+        this.shownRulers = new ArrayList<>();
+        this.shownAdvisors = new ArrayList<>();
         setupPanel();
         createComponents();
         layoutComponents();
@@ -84,6 +95,9 @@ public class RulersPanel extends JPanel {
         advisorDetails.setLineWrap(true);
         advisorDetails.setWrapStyleWord(true);
         
+        hireButton = createStyledButton("Hire Advisor", new Color(100, 200, 100));
+        fireButton = createStyledButton("Dismiss Advisor", new Color(200, 100, 100));
+        
         // Monarch points panel
         monarchPointsPanel = new JPanel(new GridLayout(3, 2, 5, 5));
         monarchPointsPanel.setBackground(new Color(139, 69, 19));
@@ -116,6 +130,16 @@ public class RulersPanel extends JPanel {
         monarchPointsPanel.add(militaryPointsLabel);
     }
     
+    private JButton createStyledButton(String text, Color bgColor) {
+        JButton button = new JButton(text);
+        button.setFont(new Font("Times New Roman", Font.BOLD, 12));
+        button.setBackground(bgColor);
+        button.setForeground(new Color(25, 25, 112));
+        button.setFocusPainted(false);
+        button.setBorder(BorderFactory.createRaisedBevelBorder());
+        return button;
+    }
+    
     private void layoutComponents() {
         // Top panel for rulers
         JPanel topPanel = new JPanel(new BorderLayout());
@@ -126,7 +150,7 @@ public class RulersPanel extends JPanel {
         rulerListPanel.setBackground(new Color(139, 69, 19));
         rulerListPanel.setBorder(BorderFactory.createTitledBorder(
             BorderFactory.createLineBorder(new Color(255, 215, 0)),
-            "Rulers",
+            "Ruler & Heir",
             javax.swing.border.TitledBorder.CENTER,
             javax.swing.border.TitledBorder.TOP,
             new Font("Times New Roman", Font.BOLD, 14),
@@ -192,6 +216,12 @@ public class RulersPanel extends JPanel {
         advisorDetailsScrollPane.getViewport().setBackground(new Color(245, 222, 179));
         advisorDetailsPanel.add(advisorDetailsScrollPane, BorderLayout.CENTER);
         
+        JPanel advisorButtonPanel = new JPanel(new FlowLayout());
+        advisorButtonPanel.setBackground(new Color(139, 69, 19));
+        advisorButtonPanel.add(hireButton);
+        advisorButtonPanel.add(fireButton);
+        advisorDetailsPanel.add(advisorButtonPanel, BorderLayout.SOUTH);
+        
         bottomPanel.add(advisorListPanel, BorderLayout.WEST);
         bottomPanel.add(advisorDetailsPanel, BorderLayout.CENTER);
         
@@ -213,77 +243,100 @@ public class RulersPanel extends JPanel {
                 updateAdvisorDetails();
             }
         });
+        
+        hireButton.addActionListener(e -> hireAdvisor());
+        fireButton.addActionListener(e -> fireAdvisor());
+    }
+    
+    private void hireAdvisor() {
+        int selectedIndex = advisorList.getSelectedIndex();
+        Country playerCountry = engine.getCountryManager().getPlayerCountry();
+        if (playerCountry == null || selectedIndex < hiredCount || selectedIndex >= shownAdvisors.size()) {
+            return;
+        }
+        Advisor advisor = shownAdvisors.get(selectedIndex);
+        if (playerCountry.getTreasury() < advisor.getSalary()) {
+            JOptionPane.showMessageDialog(this,
+                "Insufficient funds! Salary: " + String.format("%.1f", advisor.getSalary()) + " gold per month",
+                "Insufficient Funds",
+                JOptionPane.ERROR_MESSAGE);
+        } else if (dynastyManager.hireAdvisor(playerCountry.getName(), advisor, engine.getCurrentDate())) {
+            updatePanel();
+        } else {
+            JOptionPane.showMessageDialog(this,
+                "Your court already has " + DynastyManager.MAX_ADVISORS + " advisors.",
+                "Cannot Hire",
+                JOptionPane.ERROR_MESSAGE);
+        }
+    }
+    
+    private void fireAdvisor() {
+        int selectedIndex = advisorList.getSelectedIndex();
+        Country playerCountry = engine.getCountryManager().getPlayerCountry();
+        if (playerCountry == null || selectedIndex < 0 || selectedIndex >= hiredCount) {
+            return;
+        }
+        if (dynastyManager.fireAdvisor(playerCountry.getName(), shownAdvisors.get(selectedIndex))) {
+            updatePanel();
+        }
     }
     
     private void updateRulerDetails() {
         int selectedIndex = rulerList.getSelectedIndex();
-        if (selectedIndex >= 0) {
-            String selectedRuler = rulerList.getSelectedValue();
-            
-            // Find the ruler
-            List<Ruler> rulers = eventManager.getAvailableRulers();
-            for (Ruler ruler : rulers) {
-                if (ruler.getName().equals(selectedRuler)) {
-                    currentRuler = ruler;
-                    break;
-                }
-            }
-            
-            if (currentRuler != null) {
-                StringBuilder details = new StringBuilder();
-                details.append("Name: ").append(currentRuler.getName()).append("\n");
-                details.append("Title: ").append(currentRuler.getTitle()).append("\n");
-                details.append("Personality: ").append(currentRuler.getPersonality()).append("\n");
-                details.append("Focus: ").append(currentRuler.getFocus()).append("\n\n");
-                details.append("Monarch Points:\n");
-                details.append("- Administrative: ").append(currentRuler.getAdministrativePoints()).append("\n");
-                details.append("- Diplomatic: ").append(currentRuler.getDiplomaticPoints()).append("\n");
-                details.append("- Military: ").append(currentRuler.getMilitaryPoints()).append("\n\n");
-                details.append("Effects:\n");
-                details.append("- ").append(currentRuler.getFocus()).append(" actions cost 1 less point\n");
-                details.append("- ").append(currentRuler.getPersonality()).append(" provides unique bonuses\n");
-                
-                rulerDetails.setText(details.toString());
-                updateMonarchPoints();
-            }
+        if (selectedIndex < 0 || selectedIndex >= shownRulers.size()) {
+            rulerDetails.setText("");
+            return;
         }
+        Ruler ruler = shownRulers.get(selectedIndex);
+        GameDate today = engine.getCurrentDate();
+        StringBuilder details = new StringBuilder();
+        details.append("Name: ").append(ruler.getName()).append("\n");
+        details.append("Age: ").append(ruler.getAge(today)).append("\n");
+        details.append("Personality: ").append(ruler.getPersonality()).append("\n");
+        details.append("Traits: ").append(ruler.getTraits()).append("\n");
+        if (selectedIndex == 0) {
+            details.append("Years Reigned: ").append(ruler.getYearsReigned(today)).append("\n");
+        }
+        details.append("\nMonthly Points:\n");
+        details.append("- Administrative: ").append(ruler.getAdminRate()).append("\n");
+        details.append("- Diplomatic: ").append(ruler.getDiplomaticRate()).append("\n");
+        details.append("- Military: ").append(ruler.getMilitaryRate()).append("\n");
+        rulerDetails.setText(details.toString());
     }
     
     private void updateAdvisorDetails() {
         int selectedIndex = advisorList.getSelectedIndex();
-        if (selectedIndex >= 0) {
-            String selectedAdvisor = advisorList.getSelectedValue();
-            
-            // Find the advisor
-            List<Advisor> advisors = eventManager.getAvailableAdvisors();
-            for (Advisor advisor : advisors) {
-                if (advisor.getName().equals(selectedAdvisor)) {
-                    currentAdvisor = advisor;
-                    break;
-                }
-            }
-            
-            if (currentAdvisor != null) {
-                StringBuilder details = new StringBuilder();
-                details.append("Name: ").append(currentAdvisor.getName()).append("\n");
-                details.append("Type: ").append(currentAdvisor.getType()).append("\n");
-                details.append("Level: ").append(currentAdvisor.getLevel()).append("\n");
-                details.append("Specialty: ").append(currentAdvisor.getSpecialty()).append("\n\n");
-                details.append("Effect:\n");
-                details.append(currentAdvisor.getEffect()).append("\n\n");
-                details.append("Cost: ").append(currentAdvisor.getLevel() * 2).append(" gold per month\n");
-                details.append("Provides monarch point generation bonus\n");
-                
-                advisorDetails.setText(details.toString());
-            }
+        boolean hired = selectedIndex >= 0 && selectedIndex < hiredCount;
+        hireButton.setEnabled(selectedIndex >= hiredCount && selectedIndex < shownAdvisors.size());
+        fireButton.setEnabled(hired);
+        if (selectedIndex < 0 || selectedIndex >= shownAdvisors.size()) {
+            advisorDetails.setText("");
+            return;
         }
+        Advisor advisor = shownAdvisors.get(selectedIndex);
+        StringBuilder details = new StringBuilder();
+        details.append("Name: ").append(advisor.getName()).append("\n");
+        details.append("Type: ").append(advisor.getType()).append("\n");
+        details.append("Level: ").append(advisor.getLevel()).append("\n");
+        details.append("Age: ").append(advisor.getBirthDate() != null
+            ? engine.getCurrentDate().getYearsSince(advisor.getBirthDate()) : 0).append("\n");
+        details.append("Traits: ").append(advisor.getTraits()).append("\n");
+        if (hired) {
+            details.append("Years Employed: ").append(advisor.getYearsEmployed(engine.getCurrentDate())).append("\n");
+        }
+        details.append("\nBonuses:\n");
+        for (Map.Entry<String, Double> bonus : advisor.getBonuses().entrySet()) {
+            details.append("- ").append(bonus.getKey()).append(": ").append(String.format("%.2f", bonus.getValue())).append("\n");
+        }
+        details.append("\nCost: ").append(String.format("%.1f", advisor.getSalary())).append(" gold per month\n");
+        advisorDetails.setText(details.toString());
     }
     
-    private void updateMonarchPoints() {
-        if (currentRuler != null) {
-            adminPointsLabel.setText(String.valueOf(currentRuler.getAdministrativePoints()));
-            diploPointsLabel.setText(String.valueOf(currentRuler.getDiplomaticPoints()));
-            militaryPointsLabel.setText(String.valueOf(currentRuler.getMilitaryPoints()));
+    private void updateMonarchPoints(Ruler ruler) {
+        if (ruler != null) {
+            adminPointsLabel.setText(String.valueOf(ruler.getAdminPoints()));
+            diploPointsLabel.setText(String.valueOf(ruler.getDiplomaticPoints()));
+            militaryPointsLabel.setText(String.valueOf(ruler.getMilitaryPoints()));
         } else {
             adminPointsLabel.setText("0");
             diploPointsLabel.setText("0");
@@ -291,29 +344,48 @@ public class RulersPanel extends JPanel {
         }
     }
     
+    // Rebuilds the lists from the player's court, keeping the current selections
     public void updatePanel() {
+        Country playerCountry = engine.getCountryManager().getPlayerCountry();
+        String countryName = playerCountry != null ? playerCountry.getName() : "";
+        int selectedRuler = Math.max(0, rulerList.getSelectedIndex());
+        int selectedAdvisor = Math.max(0, advisorList.getSelectedIndex());
+        
         // Update ruler list
+        shownRulers.clear();
         rulerListModel.clear();
-        List<Ruler> rulers = eventManager.getAvailableRulers();
-        for (Ruler ruler : rulers) {
-            rulerListModel.addElement(ruler.getName());
+        Ruler ruler = dynastyManager.getRuler(countryName);
+        Ruler heir = dynastyManager.getHeir(countryName);
+        if (ruler != null) {
+            shownRulers.add(ruler);
+            rulerListModel.addElement("Ruler: " + ruler.getName());
         }
-        
-        if (rulerListModel.size() > 0) {
-            rulerList.setSelectedIndex(0);
-            updateRulerDetails();
+        if (heir != null) {
+            shownRulers.add(heir);
+            rulerListModel.addElement("Heir: " + heir.getName());
         }
+        if (!shownRulers.isEmpty()) {
+            rulerList.setSelectedIndex(Math.min(selectedRuler, shownRulers.size() - 1));
+        }
+        updateRulerDetails();
+        updateMonarchPoints(ruler);
         
         // Update advisor list
+        shownAdvisors.clear();
         advisorListModel.clear();
-        List<Advisor> advisors = eventManager.getAvailableAdvisors();
-        for (Advisor advisor : advisors) {
-            advisorListModel.addElement(advisor.getName());
+        List<Advisor> hired = dynastyManager.getAdvisors(countryName);
+        hiredCount = hired.size();
+        for (Advisor advisor : hired) {
+            shownAdvisors.add(advisor);
+            advisorListModel.addElement("Hired: " + advisor.getName() + " (level " + advisor.getLevel() + ")");
         }
-        
-        if (advisorListModel.size() > 0) {
-            advisorList.setSelectedIndex(0);
-            updateAdvisorDetails();
+        for (Advisor advisor : dynastyManager.getCandidates(countryName)) {
+            shownAdvisors.add(advisor);
+            advisorListModel.addElement("Candidate: " + advisor.getName() + " (level " + advisor.getLevel() + ")");
+        }
+        if (!shownAdvisors.isEmpty()) {
+            advisorList.setSelectedIndex(Math.min(selectedAdvisor, shownAdvisors.size() - 1));
         }
+        updateAdvisorDetails();
     }
-} 
\ No newline at end of file
+}
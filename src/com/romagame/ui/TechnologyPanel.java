@@ -127,25 +127,31 @@ public class TechnologyPanel extends JPanel {
         details.append("Description: ").append(selectedTech.getDescription()).append("\n\n");
         
         details.append("Requirements:\n");
-        List<String> requirements = selectedTech.getRequirements();
+        List<Technology> requirements = techManager.getPrerequisites(selectedTech.getName());
         if (requirements.isEmpty()) {
             details.append("- None\n");
         } else {
-            for (String requirement : requirements) {
-                boolean hasRequirement = playerCountry.hasTechnology(requirement);
-                details.append("- ").append(requirement)
+            for (Technology requirement : requirements) {
+                boolean hasRequirement = techManager.hasTechnology(playerCountry.getName(), requirement.getName());
+                details.append("- ").append(requirement.getName())
                       .append(hasRequirement ? " ✓" : " ✗").append("\n");
             }
         }
         
         boolean canResearch = techManager.canResearch(playerCountry.getName(), selectedTech.getName());
         boolean isResearching = techManager.isResearching(playerCountry.getName(), selectedTech.getName());
-        boolean hasResearched = playerCountry.hasTechnology(selectedTech.getName());
+        boolean hasResearched = techManager.hasTechnology(playerCountry.getName(), selectedTech.getName());
         
         details.append("\nCan Research: ").append(canResearch ? "Yes" : "No");
         details.append("\nIs Researching: ").append(isResearching ? "Yes" : "No");
         details.append("\nHas Researched: ").append(hasResearched ? "Yes" : "No");
         
+        double discount = techManager.getDiffusionDiscount(playerCountry.getName(), selectedTech.getName());
+        if (discount > 0) {
+            details.append("\nKnown by Neighbors and Partners: ")
+                  .append(String.format("-%.0f%% research time", discount * 100));
+        }
+        
         if (isResearching) {
             double progress = techManager.getResearchProgress(playerCountry.getName(), selectedTech.getName());
             details.append("\nResearch Progress: ").append(String.format("%.1f%%", progress * 100));
@@ -168,7 +174,7 @@ public class TechnologyPanel extends JPanel {
             return;
         }
         
-        if (playerCountry.hasTechnology(selectedTech.getName())) {
+        if (techManager.hasTechnology(playerCountry.getName(), selectedTech.getName())) {
             JOptionPane.showMessageDialog(this, "This technology is already researched.");
             return;
         }
@@ -184,7 +190,10 @@ public class TechnologyPanel extends JPanel {
         }
         
         // Start technology research
-        techManager.startResearch(playerCountry.getName(), selectedTech.getName());
+        if (!techManager.startResearch(playerCountry.getName(), selectedTech.getName())) {
+            JOptionPane.showMessageDialog(this, "Requirements not met for this technology.");
+            return;
+        }
         playerCountry.startTechnologyResearch(selectedTech.getName());
         JOptionPane.showMessageDialog(this, "Technology '" + selectedTech.getName() + "' research started!");
         
@@ -1,6 +1,10 @@
 package com.romagame.ui;
 
 import com.romagame.core.GameEngine;
+import com.romagame.economy.EconomyManager;
+import com.romagame.economy.Good;
+import com.romagame.economy.PriceEngine;
+import com.romagame.map.Country;
 import javax.swing.*;
 import java.awt.*;
 
@@ -11,6 +15,7 @@ public class TradePanel extends JPanel {
     private DefaultListModel<String> tradeGoodsModel;
     private JButton tradeButton;
     private JButton embargoButton;
+    private PriceChart priceChart;
     
     public TradePanel(GameEngine engine) {
         this.engine = engine;
@@ -49,6 +54,10 @@ public class TradePanel extends JPanel {
         tradeDetails.setForeground(new Color(25, 25, 112));
         tradeDetails.setEditable(false);
         
+        // Price history chart for the selected good
+        priceChart = new PriceChart();
+        priceChart.setPreferredSize(new Dimension(300, 140));
+        
         // Buttons
         tradeButton = createStyledButton("Establish Trade Route", new Color(100, 200, 100));
         embargoButton = createStyledButton("Embargo Nation", new Color(200, 100, 100));
@@ -84,6 +93,7 @@ public class TradePanel extends JPanel {
         
         JScrollPane detailsScrollPane = new JScrollPane(tradeDetails);
         rightPanel.add(detailsScrollPane, BorderLayout.CENTER);
+        rightPanel.add(priceChart, BorderLayout.NORTH);
         
         JPanel buttonPanel = new JPanel(new FlowLayout());
         buttonPanel.setBackground(new Color(139, 69, 19));
@@ -98,6 +108,9 @@ public class TradePanel extends JPanel {
     private void setupEventHandlers() {
         tradeButton.addActionListener(e -> establishTrade());
         embargoButton.addActionListener(e -> embargoNation());
+        tradeGoodsList.addListSelectionListener(e -> {
+            if (!e.getValueIsAdjusting()) updateDetails();
+        });
     }
     
     private void establishTrade() {
@@ -109,25 +122,94 @@ public class TradePanel extends JPanel {
     }
     
     public void updatePanel() {
+        EconomyManager economy = engine.getEconomyManager();
+        PriceEngine prices = economy.getPriceEngine();
+        int selected = tradeGoodsList.getSelectedIndex();
         tradeGoodsModel.clear();
-        tradeGoodsModel.addElement("Grain - 1000 units");
-        tradeGoodsModel.addElement("Wine - 500 units");
-        tradeGoodsModel.addElement("Olive Oil - 300 units");
-        tradeGoodsModel.addElement("Iron - 200 units");
-        tradeGoodsModel.addElement("Marble - 100 units");
+        for (Good good : economy.getGoodsCatalog().getAllGoods()) {
+            double[] history = prices.getPriceHistory(good.getId());
+            double price = prices.getPrice(good.getId());
+            String trend = "";
+            if (history.length >= 2) {
+                double previous = history[history.length - 2];
+                trend = price > previous ? " ▲" : price < previous ? " ▼" : "";
+            }
+            tradeGoodsModel.addElement(String.format("%s - %.2f gold%s", good.getName(), price, trend));
+        }
+        if (selected >= 0 && selected < tradeGoodsModel.size()) {
+            tradeGoodsList.setSelectedIndex(selected);
+        }
+        updateDetails();
+    }
+    
+    private void updateDetails() {
+        EconomyManager economy = engine.getEconomyManager();
+        PriceEngine prices = economy.getPriceEngine();
+        StringBuilder sb = new StringBuilder("Trade Overview:\n\n");
+        Country player = engine.getCountryManager().getPlayerCountry();
+        if (player != null) {
+            sb.append(String.format("Monthly Trade Income: %.1f gold%n", economy.getTradeNetwork().getTradeIncome(player.getName())));
+        }
+        sb.append("Trade Routes: ").append(economy.getTradeRoutes().size()).append(" active\n");
+        
+        int id = tradeGoodsList.getSelectedIndex();
+        if (id >= 0) {
+            Good good = economy.getGoodsCatalog().getGood(id);
+            sb.append("\n").append(good.getName()).append(" (").append(good.getCategory()).append(")\n");
+            sb.append(String.format("Price: %.2f (base %.2f)%n", prices.getPrice(id), good.getBasePrice()));
+            sb.append(String.format("Supply: %.1f%n", prices.getSupply(id)));
+            sb.append(String.format("Demand: %.1f%n", prices.getDemand(id)));
+            priceChart.setHistory(good.getName(), prices.getPriceHistory(id));
+        } else {
+            priceChart.setHistory(null, new double[0]);
+        }
+        tradeDetails.setText(sb.toString());
+    }
+    
+    private static class PriceChart extends JPanel {
+        private static final long serialVersionUID = 1L;
+        private String title;
+        private double[] history = new double[0];
+        
+        PriceChart() {
+            setBackground(new Color(245, 222, 179));
+        }
+        
+        void setHistory(String title, double[] history) {
+            this.title = title;
+            this.history = history;
+            repaint();
+        }
         
-        tradeDetails.setText("Trade Overview:\n\n" +
-            "Total Trade Value: 15,000 gold\n" +
-            "Trade Routes: 8 active\n" +
-            "Trade Partners: 12 nations\n" +
-            "Trade Surplus: +2,500 gold/year\n\n" +
-            "Major Exports:\n" +
-            "- Wine: 5,000 gold\n" +
-            "- Marble: 3,000 gold\n" +
-            "- Olive Oil: 2,500 gold\n\n" +
-            "Major Imports:\n" +
-            "- Silk: 2,000 gold\n" +
-            "- Spices: 1,500 gold\n" +
-            "- Precious Metals: 1,000 gold");
+        @Override
+        protected void paintComponent(Graphics g) {
+            super.paintComponent(g);
+            Graphics2D g2d = (Graphics2D) g;
+            g2d.setColor(new Color(25, 25, 112));
+            g2d.setFont(new Font("Times New Roman", Font.BOLD, 12));
+            if (title == null || history.length < 2) {
+                g2d.drawString("Select a good to see its price history", 10, 20);
+                return;
+            }
+            g2d.drawString(title + " - last " + history.length + " months", 10, 15);
+            
+            double min = Double.MAX_VALUE;
+            double max = -Double.MAX_VALUE;
+            for (double price : history) {
+                min = Math.min(min, price);
+                max = Math.max(max, price);
+            }
+            double range = Math.max(max - min, 0.01);
+            int left = 10, top = 22;
+            int width = getWidth() - 20, height = getHeight() - top - 10;
+            g2d.setColor(new Color(139, 69, 19));
+            for (int i = 1; i < history.length; i++) {
+                int x1 = left + (i - 1) * width / (history.length - 1);
+                int x2 = left + i * width / (history.length - 1);
+                int y1 = top + (int) ((max - history[i - 1]) / range * height);
+                int y2 = top + (int) ((max - history[i]) / range * height);
+                g2d.drawLine(x1, y1, x2, y2);
+            }
+        }
     }
-} 
\ No newline at end of file
+}